@@ -0,0 +1,138 @@
+package com.vbforge.concierge.analytics;
+
+import com.vbforge.concierge.event.ShiftChangedEvent;
+import com.vbforge.concierge.generator.HolidayCalendar;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the ShiftColumns used by the fairness analytics
+ *
+ * All active shifts are loaded with one scalar query on first use. After that every committed
+ * ShiftChangedEvent re-reads only the days it touched and swaps in new columns, so reports never
+ * go back to the database. Loads and updates are serialized; readers just take the current reference.
+ */
+@Slf4j
+@Component
+public class ShiftColumnStore {
+
+    private final ShiftAssignmentRepository shiftRepository;
+    private final HolidayCalendar holidayCalendar;
+
+    private final Object lock = new Object();
+
+    /**
+     * Current columns, null until first use
+     */
+    private volatile ShiftColumns columns;
+
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+
+    public ShiftColumnStore(ShiftAssignmentRepository shiftRepository, HolidayCalendar holidayCalendar) {
+        this.shiftRepository = shiftRepository;
+        this.holidayCalendar = holidayCalendar;
+    }
+
+    /**
+     * Get current columns, loading them on first use
+     */
+    public ShiftColumns getColumns() {
+        ShiftColumns current = columns;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            if (columns == null) {
+                columns = apply(ShiftColumns.EMPTY, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                        shiftRepository.findAllShiftColumns());
+                loads.incrementAndGet();
+                log.info("Shift columns loaded: {} shifts, {} concierges", columns.size(),
+                        columns.getConciergeCount());
+            }
+            return columns;
+        }
+    }
+
+    /**
+     * Re-read the days touched by a committed change, one range per touched month
+     * Nothing to do before the first load: it will read the committed rows
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShiftChanged(ShiftChangedEvent event) {
+        synchronized (lock) {
+            if (columns == null) {
+                return;
+            }
+
+            ShiftColumns updated = columns;
+            for (YearMonth month : event.getMonths()) {
+                // Changed days of the month, or the whole month when it was replaced
+                int[] days = event.daysOf(month);
+                LocalDate startDate = days.length > 0 ? month.atDay(days[0]) : month.atDay(1);
+                LocalDate endDate = days.length > 0 ? month.atDay(days[days.length - 1]) : month.atEndOfMonth();
+
+                updated = apply(updated, (int) startDate.toEpochDay(), (int) endDate.toEpochDay(),
+                        shiftRepository.findShiftColumnsBetween(startDate, endDate));
+            }
+            columns = updated;
+            updates.incrementAndGet();
+        }
+        log.debug("Shift columns updated for {}", event.getMonths());
+    }
+
+    /**
+     * Number of full loads since startup
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    /**
+     * Number of incremental updates since startup
+     */
+    public long getUpdateCount() {
+        return updates.get();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to convert (shift date, concierge ID) rows and splice them into the columns
+    private ShiftColumns apply(ShiftColumns target, int fromDay, int toDay, List<Object[]> rows) {
+        int[] days = new int[rows.size()];
+        long[] ids = new long[rows.size()];
+        byte[] flags = new byte[rows.size()];
+
+        for (int i = 0; i < rows.size(); i++) {
+            LocalDate date = (LocalDate) rows.get(i)[0];
+            days[i] = (int) date.toEpochDay();
+            ids[i] = (Long) rows.get(i)[1];
+            flags[i] = flags(date);
+        }
+        return target.replaceRange(fromDay, toDay, days, ids, flags);
+    }
+
+    private byte flags(LocalDate date) {
+        byte flags = 0;
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            flags |= ShiftColumns.WEEKEND;
+        }
+        if (holidayCalendar.isHoliday(date)) {
+            flags |= ShiftColumns.HOLIDAY;
+        }
+        return flags;
+    }
+
+}
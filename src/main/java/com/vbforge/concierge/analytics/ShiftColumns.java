@@ -0,0 +1,227 @@
+package com.vbforge.concierge.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar copy of the active shifts, one index per shift, ordered by date
+ *
+ * epochDays holds LocalDate.toEpochDay(), concierges an index into conciergeIds (IDs are
+ * dictionary-encoded so they fit a short) and flags the WEEKEND/HOLIDAY bits of the shift day.
+ * Arrays are never modified after construction: replaceRange returns a new instance, so readers
+ * can aggregate over a reference without locking.
+ */
+public final class ShiftColumns {
+
+    public static final byte WEEKEND = 1;
+    public static final byte HOLIDAY = 2;
+
+    static final ShiftColumns EMPTY = new ShiftColumns(new int[0], new short[0], new byte[0], new long[0]);
+
+    private final int[] epochDays;
+    private final short[] concierges;
+    private final byte[] flags;
+    private final long[] conciergeIds;
+
+    private ShiftColumns(int[] epochDays, short[] concierges, byte[] flags, long[] conciergeIds) {
+        this.epochDays = epochDays;
+        this.concierges = concierges;
+        this.flags = flags;
+        this.conciergeIds = conciergeIds;
+    }
+
+    /**
+     * Per-concierge figures of an inclusive day range (days are epoch days)
+     * Concierges without shifts in the range have a zero shift count and a gap covering the whole range
+     */
+    public record ConciergeFigures(long conciergeId,
+                                   int shiftCount,
+                                   int weekendShiftCount,
+                                   int holidayShiftCount,
+                                   int longestStreak,
+                                   int longestStreakStart,
+                                   int longestGap,
+                                   int longestGapStart) {
+    }
+
+    /**
+     * Number of shifts
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Number of distinct concierges ever loaded
+     */
+    public int getConciergeCount() {
+        return conciergeIds.length;
+    }
+
+    /**
+     * Aggregate an inclusive epoch-day range
+     * Counts are collected in one parallel pass over the range; streaks and gaps are scanned per
+     * concierge, concierges in parallel
+     * @return One entry per known concierge
+     */
+    public ConciergeFigures[] aggregate(int fromDay, int toDay) {
+        int from = lowerBound(fromDay);
+        int to = upperBound(toDay);
+        int conciergeCount = conciergeIds.length;
+
+        // Three counters per concierge: shifts, weekend shifts, holiday shifts
+        int[] counts = IntStream.range(from, to).parallel()
+                .collect(() -> new int[conciergeCount * 3],
+                        (acc, i) -> {
+                            int slot = concierges[i] * 3;
+                            acc[slot]++;
+                            if ((flags[i] & WEEKEND) != 0) {
+                                acc[slot + 1]++;
+                            }
+                            if ((flags[i] & HOLIDAY) != 0) {
+                                acc[slot + 2]++;
+                            }
+                        },
+                        (left, right) -> Arrays.setAll(left, i -> left[i] + right[i]));
+
+        return IntStream.range(0, conciergeCount).parallel()
+                .mapToObj(concierge -> figures(concierge, counts, from, to, fromDay, toDay))
+                .toArray(ConciergeFigures[]::new);
+    }
+
+    /**
+     * Replace every shift of an inclusive epoch-day range with the given rows
+     * @param fromDay First replaced day
+     * @param toDay Last replaced day
+     * @param days Epoch days of the new rows, ascending and inside the range
+     * @param ids Concierge IDs of the new rows
+     * @param dayFlags Flags of the new rows
+     * @return New columns, this instance is left unchanged
+     */
+    ShiftColumns replaceRange(int fromDay, int toDay, int[] days, long[] ids, byte[] dayFlags) {
+        int from = lowerBound(fromDay);
+        int to = upperBound(toDay);
+        int size = epochDays.length - (to - from) + days.length;
+
+        int[] newDays = new int[size];
+        short[] newConcierges = new short[size];
+        byte[] newFlags = new byte[size];
+        copy(this, 0, newDays, newConcierges, newFlags, 0, from);
+        copy(this, to, newDays, newConcierges, newFlags, from + days.length, epochDays.length - to);
+
+        long[] dictionary = encode(ids, newConcierges, from);
+        System.arraycopy(days, 0, newDays, from, days.length);
+        System.arraycopy(dayFlags, 0, newFlags, from, dayFlags.length);
+
+        return new ShiftColumns(newDays, newConcierges, newFlags, dictionary);
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to compute counts, longest streak and longest gap of one concierge
+    private ConciergeFigures figures(int concierge, int[] counts, int from, int to, int fromDay, int toDay) {
+        int shiftCount = counts[concierge * 3];
+        if (shiftCount == 0) {
+            return new ConciergeFigures(conciergeIds[concierge], 0, 0, 0, 0, fromDay, toDay - fromDay + 1, fromDay);
+        }
+
+        // The day before the range acts as a worked day so a leading gap is measured too
+        int previousDay = fromDay - 1;
+        int streak = 0;
+        int streakStart = fromDay;
+        int longestStreak = 0;
+        int longestStreakStart = fromDay;
+        int longestGap = 0;
+        int longestGapStart = fromDay;
+
+        for (int i = from; i < to; i++) {
+            int day = epochDays[i];
+            // Several slots of one day count once
+            if (concierges[i] != concierge || (streak > 0 && day == previousDay)) {
+                continue;
+            }
+
+            int gap = day - previousDay - 1;
+            if (gap > longestGap) {
+                longestGap = gap;
+                longestGapStart = previousDay + 1;
+            }
+
+            if (streak > 0 && day == previousDay + 1) {
+                streak++;
+            } else {
+                streak = 1;
+                streakStart = day;
+            }
+            if (streak > longestStreak) {
+                longestStreak = streak;
+                longestStreakStart = streakStart;
+            }
+            previousDay = day;
+        }
+
+        if (toDay - previousDay > longestGap) {
+            longestGap = toDay - previousDay;
+            longestGapStart = previousDay + 1;
+        }
+
+        return new ConciergeFigures(conciergeIds[concierge], shiftCount, counts[concierge * 3 + 1],
+                counts[concierge * 3 + 2], longestStreak, longestStreakStart, longestGap, longestGapStart);
+    }
+
+    //helper method to dictionary-encode concierge IDs into target from offset, extending the dictionary
+    private long[] encode(long[] ids, short[] target, int offset) {
+        Map<Long, Short> index = new HashMap<>();
+        for (short i = 0; i < conciergeIds.length; i++) {
+            index.put(conciergeIds[i], i);
+        }
+
+        long[] dictionary = conciergeIds;
+        for (int i = 0; i < ids.length; i++) {
+            Short code = index.get(ids[i]);
+            if (code == null) {
+                if (dictionary.length > Short.MAX_VALUE) {
+                    throw new IllegalStateException("Too many concierges for the analytics columns");
+                }
+                code = (short) dictionary.length;
+                dictionary = Arrays.copyOf(dictionary, dictionary.length + 1);
+                dictionary[code] = ids[i];
+                index.put(ids[i], code);
+            }
+            target[offset + i] = code;
+        }
+        return dictionary;
+    }
+
+    private static void copy(ShiftColumns source, int sourceFrom, int[] days, short[] concierges, byte[] flags,
+                             int targetFrom, int length) {
+        System.arraycopy(source.epochDays, sourceFrom, days, targetFrom, length);
+        System.arraycopy(source.concierges, sourceFrom, concierges, targetFrom, length);
+        System.arraycopy(source.flags, sourceFrom, flags, targetFrom, length);
+    }
+
+    //helper method to find the first index whose day is on or after the given day
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    //helper method to find the first index whose day is after the given day
+    private int upperBound(int day) {
+        return day == Integer.MAX_VALUE ? epochDays.length : lowerBound(day + 1);
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.vbforge.concierge.cache;
+
+import com.vbforge.concierge.repository.TimeOffRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of concierge time off: per year, one bitset of unavailable days per concierge
+ * (bit = day of year - 1)
+ *
+ * A year is loaded with a single query the first time it is asked for, after that an availability
+ * check is a map lookup and a bit test. Like MonthScheduleCache every year carries a version bumped
+ * on each invalidation, and a load is only kept if the version did not change while it ran.
+ *
+ * Loaded bitsets are shared between threads and never modified.
+ */
+@Slf4j
+@Component
+public class AvailabilityIndex {
+
+    private final TimeOffRepository timeOffRepository;
+
+    private final Map<Integer, Map<Long, BitSet>> years = new ConcurrentHashMap<>();
+
+    /**
+     * Year versions survive eviction so a load racing an invalidation can be detected
+     */
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final AtomicLong loads = new AtomicLong();
+
+    public AvailabilityIndex(TimeOffRepository timeOffRepository) {
+        this.timeOffRepository = timeOffRepository;
+    }
+
+    /**
+     * Check if a concierge can work on a date (no time off covers it)
+     * @param conciergeId Concierge ID
+     * @param date Date
+     * @return true if available
+     */
+    public boolean isAvailable(Long conciergeId, LocalDate date) {
+        BitSet days = getYear(date.getYear()).get(conciergeId);
+        return days == null || !days.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Get unavailable days of a concierge in a year (bit = day of year - 1)
+     * @return Copy of the bitset, empty if the concierge has no time off that year
+     */
+    public BitSet getUnavailableDays(Long conciergeId, int year) {
+        BitSet days = getYear(year).get(conciergeId);
+        return days != null ? (BitSet) days.clone() : new BitSet();
+    }
+
+    /**
+     * Invalidate every year touched by a date range (inclusive)
+     * Invalidates again when the surrounding transaction completes (commit or rollback)
+     */
+    public void invalidate(LocalDate startDate, LocalDate endDate) {
+        int firstYear = startDate.getYear();
+        int lastYear = endDate.getYear();
+        evict(firstYear, lastYear);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(firstYear, lastYear);
+                }
+            });
+        }
+    }
+
+    /**
+     * Number of year loads since startup
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to get a loaded year, loading it on first use
+    private Map<Long, BitSet> getYear(int year) {
+        Map<Long, BitSet> cached = years.get(year);
+        if (cached != null) {
+            return cached;
+        }
+
+        long versionBeforeLoad = versions.getOrDefault(year, 0L);
+        Map<Long, BitSet> loaded = load(year);
+
+        synchronized (years) {
+            // Only keep the result if no time-off write touched the year while it was loading
+            if (versions.getOrDefault(year, 0L) == versionBeforeLoad) {
+                years.put(year, loaded);
+            } else {
+                log.debug("Availability of {} changed during load, result not cached", year);
+            }
+        }
+        return loaded;
+    }
+
+    //helper method to build the bitsets of one year from its time-off periods
+    private Map<Long, BitSet> load(int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        LocalDate lastDay = LocalDate.of(year, 12, 31);
+        List<Object[]> periods = timeOffRepository.findPeriodsOverlapping(firstDay, lastDay);
+
+        Map<Long, BitSet> byConcierge = new HashMap<>();
+        for (Object[] period : periods) {
+            LocalDate start = (LocalDate) period[1];
+            LocalDate end = (LocalDate) period[2];
+            int from = start.isBefore(firstDay) ? 0 : start.getDayOfYear() - 1;
+            int to = end.isAfter(lastDay) ? lastDay.getDayOfYear() : end.getDayOfYear();
+            byConcierge.computeIfAbsent((Long) period[0], id -> new BitSet(lastDay.getDayOfYear()))
+                    .set(from, to);
+        }
+
+        loads.incrementAndGet();
+        log.debug("Availability index loaded for {}: {} periods, {} concierges", year, periods.size(),
+                byConcierge.size());
+        return Collections.unmodifiableMap(byConcierge);
+    }
+
+    private void evict(int firstYear, int lastYear) {
+        synchronized (years) {
+            for (int year = firstYear; year <= lastYear; year++) {
+                versions.put(year, versionSequence.incrementAndGet());
+                years.remove(year);
+            }
+        }
+        log.debug("Availability index invalidated for {}-{}", firstYear, lastYear);
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.vbforge.concierge.cache;
+
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of built MonthScheduleDto objects keyed by (year, month)
+ *
+ * Every month carries a version that is bumped on each invalidation. A loaded schedule is only
+ * stored if the month version did not change while it was being built, so a write that commits
+ * during a load can never leave a stale entry behind.
+ *
+ * Cached DTOs are shared between requests and must be treated as read-only.
+ */
+@Slf4j
+@Component
+public class MonthScheduleCache {
+
+    private final int maxSize;
+
+    /**
+     * Access-ordered map: iteration order is least recently used first
+     */
+    private final LinkedHashMap<YearMonth, MonthScheduleDto> entries;
+
+    /**
+     * Month versions survive eviction so they can be used as change markers (one small entry per touched month)
+     */
+    private final Map<YearMonth, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * Version assigned by the last full invalidation, applies to every month
+     */
+    private volatile long globalVersion = 0L;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MonthScheduleCache(@Value("${schedule.cache.max-months:36}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, MonthScheduleDto> eldest) {
+                if (size() > MonthScheduleCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get cached schedule for month or build it with the loader
+     * @param year Year
+     * @param monthValue Month (1-12)
+     * @param loader Builds the schedule on a cache miss
+     * @return Month schedule DTO
+     */
+    public MonthScheduleDto get(int year, int monthValue, Supplier<MonthScheduleDto> loader) {
+        YearMonth key = YearMonth.of(year, monthValue);
+
+        synchronized (entries) {
+            MonthScheduleDto cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        long versionBeforeLoad = getVersion(key);
+        MonthScheduleDto loaded = loader.get();
+
+        synchronized (entries) {
+            // Only keep the result if no write touched the month while it was loading
+            if (getVersion(key) == versionBeforeLoad) {
+                entries.put(key, loaded);
+            } else {
+                log.debug("Month {} changed during load, result not cached", key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Get current version of a month (0 if never changed since startup)
+     */
+    public long getVersion(int year, int monthValue) {
+        return getVersion(YearMonth.of(year, monthValue));
+    }
+
+    public long getVersion(YearMonth month) {
+        return Math.max(versions.getOrDefault(month, 0L), globalVersion);
+    }
+
+    /**
+     * Invalidate the month containing the given date
+     * Invalidates again after commit when called inside a transaction
+     */
+    public void invalidate(LocalDate date) {
+        invalidateMonths(List.of(YearMonth.from(date)));
+    }
+
+    /**
+     * Invalidate every month between two dates (inclusive)
+     */
+    public void invalidateRange(LocalDate startDate, LocalDate endDate) {
+        YearMonth last = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(last); month = month.plusMonths(1)) {
+            invalidateMonths(List.of(month));
+        }
+    }
+
+    /**
+     * Invalidate the given months
+     * Invalidates again after commit when called inside a transaction
+     */
+    public void invalidateMonths(Collection<YearMonth> months) {
+        evict(months);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<YearMonth> affected = List.copyOf(months);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(affected);
+                }
+            });
+        }
+    }
+
+    /**
+     * Invalidate all months (e.g. when concierge data shown in every month changes)
+     */
+    public void invalidateAll() {
+        evictAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    /**
+     * Get hit/miss/eviction counters
+     */
+    public Stats getStats() {
+        synchronized (entries) {
+            return new Stats(hits.get(), misses.get(), evictions.get(), invalidations.get(),
+                    entries.size(), maxSize);
+        }
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void evict(Collection<YearMonth> months) {
+        synchronized (entries) {
+            for (YearMonth month : months) {
+                versions.put(month, versionSequence.incrementAndGet());
+                entries.remove(month);
+                invalidations.incrementAndGet();
+            }
+        }
+        log.debug("Month schedule cache invalidated for {}", months);
+    }
+
+    private void evictAll() {
+        synchronized (entries) {
+            globalVersion = versionSequence.incrementAndGet();
+            entries.clear();
+            invalidations.incrementAndGet();
+        }
+        log.debug("Month schedule cache cleared");
+    }
+
+    /**
+     * Cache counters snapshot
+     */
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            long invalidations,
+            int size,
+            int maxSize
+    ) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.vbforge.concierge.cache;
+
+import com.vbforge.concierge.event.ShiftChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of per-month shift counts of closed years, keyed by year
+ *
+ * Only counts are kept (by concierge ID), names are resolved on every read so renames show up
+ * immediately. Like AvailabilityIndex every year carries a version bumped on each invalidation,
+ * and a load is only kept if the version did not change while it ran.
+ */
+@Slf4j
+@Component
+public class YearStatisticsCache {
+
+    /**
+     * Counts of one year, arrays indexed by month - 1
+     * @param byConcierge Shifts per concierge ID and month
+     * @param shifts Shifts per month
+     * @param assignedDays Days with at least one shift per month
+     */
+    public record YearCounts(Map<Long, int[]> byConcierge, int[] shifts, int[] assignedDays) {
+    }
+
+    private final Map<Integer, YearCounts> years = new ConcurrentHashMap<>();
+
+    /**
+     * Year versions survive eviction so a load racing an invalidation can be detected
+     */
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final AtomicLong loads = new AtomicLong();
+
+    /**
+     * Get cached counts of a year or build them with the loader
+     * @param year Year
+     * @param loader Builds the counts on a cache miss
+     * @return Year counts, shared and read-only
+     */
+    public YearCounts get(int year, Supplier<YearCounts> loader) {
+        YearCounts cached = years.get(year);
+        if (cached != null) {
+            return cached;
+        }
+
+        long versionBeforeLoad = getVersion(year);
+        YearCounts loaded = loader.get();
+        loads.incrementAndGet();
+
+        synchronized (years) {
+            // Only keep the result if no shift write touched the year while it was loading
+            if (getVersion(year) == versionBeforeLoad) {
+                years.put(year, loaded);
+            } else {
+                log.debug("Year {} changed during load, result not cached", year);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Evict the years touched by a committed change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShiftChanged(ShiftChangedEvent event) {
+        synchronized (years) {
+            for (YearMonth month : event.getMonths()) {
+                versions.put(month.getYear(), versionSequence.incrementAndGet());
+                years.remove(month.getYear());
+            }
+        }
+    }
+
+    /**
+     * Number of year loads since startup
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private long getVersion(int year) {
+        return versions.getOrDefault(year, 0L);
+    }
+
+}
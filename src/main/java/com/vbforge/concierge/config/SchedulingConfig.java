@@ -0,0 +1,16 @@
+package com.vbforge.concierge.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration to enable scheduled background jobs
+ * (e.g. snapshot delta chain compaction, concierge month counter rebuild)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // No additional configuration needed
+
+}
@@ -51,7 +51,10 @@ public class SecurityConfig {
                                 "/schedule/assign",
                                 "/schedule/remove/*",
                                 "/history/create",
-                                "/history/*/restore"
+                                "/history/*/restore",
+                                "/history/year/*/restore",
+                                "/history/checkpoint",
+                                "/history/*/restore-at"
                         ).hasRole("ADMIN")
 
                         // Endpoints accessible by both ADMIN and CONCIERGE
@@ -62,7 +65,8 @@ public class SecurityConfig {
                                 "/concierges/list",
                                 "/history",
                                 "/statistics",
-                                "/statistics/**"
+                                "/statistics/**",
+                                "/export/**"
                         ).hasAnyRole("ADMIN", "CONCIERGE")
 
                         // All other requests require authentication
@@ -0,0 +1,86 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.dto.ConciergeDto;
+import com.vbforge.concierge.dto.CursorPageDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.service.ConciergeService;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.ETagUtils;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * JSON API for concierges
+ * Responses carry the row version plus the shift counts as ETag; updates require If-Match
+ * (412 when the row changed meanwhile)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/concierges")
+@RequiredArgsConstructor
+public class ConciergeApiController {
+
+    private final ConciergeService conciergeService;
+    private final ShiftSchedulingService shiftSchedulingService;
+
+    /**
+     * Get concierge by id (304 when If-None-Match matches the current version and shift counts)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ConciergeDto> getConcierge(@PathVariable Long id, WebRequest request) {
+        ConciergeDto concierge = conciergeService.getConciergeById(id);
+        String eTag = eTagOf(concierge);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(concierge);
+    }
+
+    /**
+     * Shifts of a concierge, most recent first, by keyset pagination
+     * Pass nextCursor of a page as cursor to get the following one
+     */
+    @GetMapping("/{id}/shifts")
+    public CursorPageDto<ShiftAssignmentDto> getShifts(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return shiftSchedulingService.getShiftsByConcierge(id, cursor, size);
+    }
+
+    /**
+     * Update concierge if it still has the version given in If-Match
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ConciergeDto> updateConcierge(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ConciergeDto conciergeDto) {
+
+        if (ifMatch == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        conciergeDto.setVersion(ETagUtils.parseIfMatch(ifMatch));
+
+        log.info("API update of concierge ID: {} at version {}", id, ifMatch);
+        ConciergeDto updated = conciergeService.updateConcierge(id, conciergeDto);
+
+        return ResponseEntity.ok().eTag(eTagOf(updated)).body(updated);
+    }
+
+    //helper method to tag a concierge body; the shift counts change without a version bump
+    private String eTagOf(ConciergeDto concierge) {
+        return ETagUtils.fromVersion(concierge.getVersion(),
+                concierge.getCurrentMonthShiftCount(), concierge.getTotalShiftCount());
+    }
+
+}
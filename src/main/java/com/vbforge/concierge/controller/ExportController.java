@@ -0,0 +1,134 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.service.ExportService;
+import com.vbforge.concierge.service.ValidationService;
+import com.vbforge.concierge.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controller for schedule exports
+ * CSV is streamed to the client while rows are read from the database; PDF rosters have one page per month
+ */
+@Slf4j
+@Controller
+@RequestMapping("/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private final ExportService exportService;
+    private final ValidationService validationService;
+
+    /**
+     * Export one month as CSV
+     */
+    @GetMapping("/csv/{year}/{month}")
+    public ResponseEntity<StreamingResponseBody> exportMonthCsv(
+            @PathVariable int year,
+            @PathVariable int month) {
+
+        validationService.validateYearMonth(year, month);
+
+        return csvResponse(DateUtils.getFirstDayOfMonth(year, month),
+                DateUtils.getLastDayOfMonth(year, month),
+                String.format("schedule-%d-%02d.csv", year, month));
+    }
+
+    /**
+     * Export one year as CSV
+     */
+    @GetMapping("/csv/{year}")
+    public ResponseEntity<StreamingResponseBody> exportYearCsv(@PathVariable int year) {
+
+        validationService.validateYearMonth(year, 1);
+
+        return csvResponse(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31),
+                String.format("schedule-%d.csv", year));
+    }
+
+    /**
+     * Export an arbitrary date range as CSV (e.g. multi-year audits)
+     */
+    @GetMapping("/csv")
+    public ResponseEntity<StreamingResponseBody> exportRangeCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        validationService.validateDate(startDate);
+        validationService.validateDate(endDate);
+        // Checked before streaming starts: once the body runs, the 200 and headers are already sent
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidInputException("Export range is invalid: " + startDate + " - " + endDate);
+        }
+
+        return csvResponse(startDate, endDate,
+                String.format("schedule-%s-to-%s.csv", startDate, endDate));
+    }
+
+    /**
+     * Export the roster of one month as PDF
+     */
+    @GetMapping("/pdf/{year}/{month}")
+    public ResponseEntity<StreamingResponseBody> exportMonthPdf(
+            @PathVariable int year,
+            @PathVariable int month) {
+
+        validationService.validateYearMonth(year, month);
+        log.info("PDF export requested: {}-{}", year, month);
+
+        return pdfResponse(outputStream -> exportService.exportMonthPdf(year, month, outputStream),
+                String.format("roster-%d-%02d.pdf", year, month));
+    }
+
+    /**
+     * Export the rosters of one year as PDF (one page per month)
+     */
+    @GetMapping("/pdf/{year}")
+    public ResponseEntity<StreamingResponseBody> exportYearPdf(@PathVariable int year) {
+
+        validationService.validateYearMonth(year, 1);
+        log.info("PDF export requested: {}", year);
+
+        return pdfResponse(outputStream -> exportService.exportYearPdf(year, outputStream),
+                String.format("roster-%d.pdf", year));
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private ResponseEntity<StreamingResponseBody> csvResponse(LocalDate startDate, LocalDate endDate,
+                                                              String filename) {
+        log.info("CSV export requested: {} - {}", startDate, endDate);
+
+        StreamingResponseBody body = outputStream -> exportService.exportCsv(startDate, endDate, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(TEXT_CSV)
+                .body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> pdfResponse(StreamingResponseBody body, String filename) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(body);
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.dto.ExportJobDto;
+import com.vbforge.concierge.enums.ExportFormat;
+import com.vbforge.concierge.exception.ExportException;
+import com.vbforge.concierge.exception.GlobalExceptionHandler.ErrorResponse;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.exception.ResourceNotFoundException;
+import com.vbforge.concierge.service.ExportJobService;
+import com.vbforge.concierge.service.ValidationService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controller for asynchronous export jobs (JSON)
+ * Submit returns 202 with a job id; clients poll the job and download the file once completed
+ */
+@Slf4j
+@Controller
+@RequestMapping("/export/jobs")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+    private final ValidationService validationService;
+
+    /**
+     * Submit an export job
+     */
+    @PostMapping
+    @ResponseBody
+    public ResponseEntity<ExportJobDto> submit(
+            @RequestParam ExportFormat format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        validationService.validateDate(startDate);
+        validationService.validateDate(endDate);
+
+        ExportJobDto job = exportJobService.submit(format, startDate, endDate);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * List export jobs of the current user
+     */
+    @GetMapping
+    @ResponseBody
+    public List<ExportJobDto> listJobs() {
+        return exportJobService.getJobsForCurrentUser();
+    }
+
+    /**
+     * Get export job status
+     */
+    @GetMapping("/{id}")
+    @ResponseBody
+    public ExportJobDto getJob(@PathVariable String id) {
+        return exportJobService.getJob(id);
+    }
+
+    /**
+     * Download the result of a completed export job
+     */
+    @GetMapping("/{id}/download")
+    @ResponseBody
+    public ResponseEntity<FileSystemResource> download(@PathVariable String id) {
+        ExportJobDto job = exportJobService.getJob(id);
+        Path file = exportJobService.getResultFile(id);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.getFileName() + "\"")
+                .contentType(MediaType.parseMediaType(job.getFormat().getContentType()))
+                .body(new FileSystemResource(file));
+    }
+
+    // ============================================================
+    // EXCEPTION HANDLERS (JSON instead of the global redirects)
+    // ============================================================
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex, HttpServletRequest request) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
+        return error(HttpStatus.FORBIDDEN, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ExportException.class)
+    public ResponseEntity<ErrorResponse> handleExportException(ExportException ex, HttpServletRequest request) {
+        return error(HttpStatus.CONFLICT, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(InvalidInputException ex, HttpServletRequest request) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String message, HttpServletRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+}
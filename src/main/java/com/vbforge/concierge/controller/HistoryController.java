@@ -1,19 +1,19 @@
 package com.vbforge.concierge.controller;
 
+import com.vbforge.concierge.dto.CursorPageDto;
 import com.vbforge.concierge.dto.MonthHistoryDto;
 import com.vbforge.concierge.service.HistoryService;
 import com.vbforge.concierge.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,23 +29,22 @@ public class HistoryController {
     private final HistoryService historyService;
 
     /**
-     * List all history snapshots with pagination
+     * List history snapshots, most recent first, by keyset pagination
      */
     @GetMapping
     public String listHistory(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "12") int size,
             Model model) {
 
-        log.debug("Listing history snapshots - page: {}, size: {}", page, size);
+        log.debug("Listing history snapshots - cursor: {}, size: {}", cursor, size);
 
         try {
-            // Get paginated history
-            PageRequest pageRequest = PageRequest.of(page, size, 
-                Sort.by(Sort.Direction.DESC, "year", "month"));
-            Page<MonthHistoryDto> historyPage = historyService.getHistoryPage(pageRequest);
+            CursorPageDto<MonthHistoryDto> historyPage = historyService.getHistoryPage(cursor, size);
 
             model.addAttribute("historyPage", historyPage);
+            model.addAttribute("cursor", cursor);
+            model.addAttribute("size", size);
             model.addAttribute("activePage", "history");
             
             return "history/list";
@@ -53,11 +52,24 @@ public class HistoryController {
         } catch (Exception e) {
             log.error("Error loading history", e);
             model.addAttribute("errorMessage", "Failed to load history: " + e.getMessage());
+            model.addAttribute("historyPage", new CursorPageDto<MonthHistoryDto>());
             model.addAttribute("activePage", "history");
             return "history/list";
         }
     }
 
+    /**
+     * History snapshots page as JSON (AJAX), most recent first
+     * Pass nextCursor of a page as cursor to get the following one
+     */
+    @GetMapping("/page")
+    @ResponseBody
+    public CursorPageDto<MonthHistoryDto> getHistoryPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
+        return historyService.getHistoryPage(cursor, size);
+    }
+
     /**
      * View specific history snapshot
      */
@@ -120,13 +132,14 @@ public class HistoryController {
     @PostMapping("/{id}/restore")
     public String restoreFromSnapshot(
             @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean diffOnly,
             RedirectAttributes redirectAttributes) {
 
-        log.info("Restoring from snapshot ID: {}", id);
+        log.info("Restoring from snapshot ID: {} (diffOnly={})", id, diffOnly);
 
         try {
             MonthHistoryDto history = historyService.getHistoryById(id);
-            historyService.restoreFromSnapshot(id);
+            historyService.restoreFromSnapshot(id, diffOnly);
             
             redirectAttributes.addFlashAttribute("successMessage", 
                 "Schedule restored successfully from " + 
@@ -141,6 +154,90 @@ public class HistoryController {
         return "redirect:/history";
     }
 
+    /**
+     * Record a checkpoint of a month (ADMIN only)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/checkpoint")
+    public String createCheckpoint(
+            @RequestParam int year,
+            @RequestParam int month,
+            RedirectAttributes redirectAttributes) {
+
+        log.info("Creating checkpoint for {}-{}", year, month);
+
+        try {
+            int changed = historyService.createCheckpoint(year, month);
+
+            redirectAttributes.addFlashAttribute("successMessage",
+                "Checkpoint recorded for " + DateUtils.formatMonthYear(year, month) +
+                " (" + changed + " changed days)");
+
+        } catch (Exception e) {
+            log.error("Error creating checkpoint", e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                "Failed to create checkpoint: " + e.getMessage());
+        }
+
+        return "redirect:/history";
+    }
+
+    /**
+     * Restore a month to a point in time from its checkpoints (ADMIN only)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/restore-at")
+    public String restoreToTimestamp(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            RedirectAttributes redirectAttributes) {
+
+        log.info("Restoring snapshot ID: {} to {}", id, at);
+
+        try {
+            MonthHistoryDto history = historyService.getHistoryById(id);
+            historyService.restoreToTimestamp(id, at);
+
+            redirectAttributes.addFlashAttribute("successMessage",
+                "Schedule for " + DateUtils.formatMonthYear(history.getYear(), history.getMonth()) +
+                " restored to " + at);
+
+        } catch (Exception e) {
+            log.error("Error restoring snapshot to timestamp", e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                "Failed to restore snapshot: " + e.getMessage());
+        }
+
+        return "redirect:/history";
+    }
+
+    /**
+     * Restore all snapshot months of a year (ADMIN only)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/year/{year}/restore")
+    public String restoreYearFromSnapshots(
+            @PathVariable int year,
+            @RequestParam(defaultValue = "false") boolean diffOnly,
+            RedirectAttributes redirectAttributes) {
+
+        log.info("Restoring year {} from snapshots (diffOnly={})", year, diffOnly);
+
+        try {
+            int changed = historyService.restoreYearFromSnapshots(year, diffOnly);
+
+            redirectAttributes.addFlashAttribute("successMessage",
+                "Schedule for " + year + " restored successfully (" + changed + " shifts changed)");
+
+        } catch (Exception e) {
+            log.error("Error restoring year from snapshots", e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                "Failed to restore year: " + e.getMessage());
+        }
+
+        return "redirect:/history";
+    }
+
     /**
      * Duplicate schedule to another month (ADMIN only)
      */
@@ -0,0 +1,74 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.MonthCalendarDto;
+import com.vbforge.concierge.event.ScheduleEventBroadcaster;
+import com.vbforge.concierge.service.MonthScheduleService;
+import com.vbforge.concierge.service.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.YearMonth;
+
+/**
+ * Read-only JSON API for calendar data (polled by lobby displays and mobile clients)
+ * Schedule generation lives in ScheduleGeneratorApiController
+ * The ETag is the month's cache version, so an unchanged month answers 304 without a query or serialization
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/schedule")
+@RequiredArgsConstructor
+public class ScheduleApiController {
+
+    /**
+     * Month versions restart at 0 with the application; the boot id keeps old tags from matching
+     */
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final MonthScheduleService monthScheduleService;
+    private final MonthScheduleCache monthScheduleCache;
+    private final ValidationService validationService;
+    private final ScheduleEventBroadcaster eventBroadcaster;
+
+    /**
+     * Get compact calendar of a month
+     */
+    @GetMapping("/{year}/{month}")
+    public ResponseEntity<MonthCalendarDto> getMonth(
+            @PathVariable int year,
+            @PathVariable int month,
+            WebRequest request) {
+
+        validationService.validateYearMonth(year, month);
+
+        // Read before loading: a write racing the load bumps the version again after commit,
+        // so a tag can only be older than the data it is sent with, never newer
+        String eTag = "\"" + bootId + "-" + monthScheduleCache.getVersion(year, month) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(monthScheduleService.getMonthCalendar(year, month));
+    }
+
+    /**
+     * Stream changes of a month as Server-Sent Events
+     * Events carry the changed days only; after a "resync" event or a reconnect clients reload the month
+     */
+    @GetMapping(value = "/{year}/{month}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMonthEvents(@PathVariable int year, @PathVariable int month) {
+        validationService.validateYearMonth(year, month);
+        return eventBroadcaster.subscribe(YearMonth.of(year, month));
+    }
+
+}
@@ -2,7 +2,7 @@ package com.vbforge.concierge.controller;
 
 import com.vbforge.concierge.dto.MonthScheduleDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
-import com.vbforge.concierge.service.ConciergeService;
+import com.vbforge.concierge.enums.ShiftType;
 import com.vbforge.concierge.service.MonthScheduleService;
 import com.vbforge.concierge.service.ShiftSchedulingService;
 import com.vbforge.concierge.util.DateUtils;
@@ -31,7 +31,6 @@ public class ScheduleController {
 
     private final MonthScheduleService monthScheduleService;
     private final ShiftSchedulingService shiftSchedulingService;
-    private final ConciergeService conciergeService;
 
 
     /**
@@ -63,9 +62,10 @@ public class ScheduleController {
             // Get month schedule
             MonthScheduleDto schedule = monthScheduleService.getMonthSchedule(year, month);
 
-            // Get all active concierges for dropdown
+            // Active concierges for the dropdown come with the (cached) schedule
             model.addAttribute("schedule", schedule);
-            model.addAttribute("concierges", conciergeService.getAllActiveConcierges());
+            model.addAttribute("concierges", schedule.getConcierges());
+            model.addAttribute("shiftTypes", ShiftType.values());
             model.addAttribute("currentYear", year);
             model.addAttribute("currentMonth", month);
 
@@ -95,15 +95,17 @@ public class ScheduleController {
     public String assignShift(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam Long conciergeId,
+            @RequestParam(defaultValue = "FULL_DAY") ShiftType shiftType,
             @RequestParam(required = false) String notes,
             RedirectAttributes redirectAttributes) {
 
-        log.info("Assigning shift for date: {} to concierge: {}", date, conciergeId);
+        log.info("Assigning {} shift for date: {} to concierge: {}", shiftType, date, conciergeId);
 
         try {
             ShiftAssignmentDto dto = ShiftAssignmentDto.builder()
                     .shiftDate(date)
                     .conciergeId(conciergeId)
+                    .shiftType(shiftType)
                     .notes(notes)
                     .build();
 
@@ -124,17 +126,23 @@ public class ScheduleController {
 
     /**
      * Remove shift (ADMIN only)
+     * Without a shift type every shift of the date is removed
      */
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/remove")
     public String removeShift(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) ShiftType shiftType,
             RedirectAttributes redirectAttributes) {
 
-        log.info("Removing shift for date: {}", date);
+        log.info("Removing shift for date: {} ({})", date, shiftType != null ? shiftType : "all slots");
 
         try {
-            shiftSchedulingService.removeShiftByDate(date);
+            if (shiftType != null) {
+                shiftSchedulingService.removeShiftByDate(date, shiftType);
+            } else {
+                shiftSchedulingService.removeShiftByDate(date);
+            }
 
             redirectAttributes.addFlashAttribute("successMessage",
                     "Shift removed successfully for " + DateUtils.formatShortDate(date));
@@ -150,14 +158,18 @@ public class ScheduleController {
 
     /**
      * Get shift details (AJAX endpoint)
+     * Without a shift type the first shift of the date is returned
      */
     @GetMapping("/shift/{date}")
     @ResponseBody
     public ShiftAssignmentDto getShiftByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) ShiftType shiftType) {
 
-        log.debug("Getting shift for date: {}", date);
-        return shiftSchedulingService.getShiftByDate(date);
+        log.debug("Getting shift for date: {} ({})", date, shiftType);
+        return shiftType != null
+                ? shiftSchedulingService.getShiftByDate(date, shiftType)
+                : shiftSchedulingService.getShiftByDate(date);
     }
 
     /**
@@ -0,0 +1,54 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.dto.GeneratedScheduleDto;
+import com.vbforge.concierge.dto.OptimizedScheduleDto;
+import com.vbforge.concierge.service.ScheduleGeneratorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * JSON API for automatic schedule planning (ADMIN only)
+ * Every endpoint previews by default and only writes the proposal with dryRun=false
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/schedule")
+@RequiredArgsConstructor
+public class ScheduleGeneratorApiController {
+
+    private final ScheduleGeneratorService scheduleGeneratorService;
+
+    /**
+     * Fill the unassigned dates of a month with a generated rotation
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{year}/{month}/generate")
+    public GeneratedScheduleDto generateMonth(
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestParam(required = false) Integer minRestDays,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+
+        log.info("Generating schedule for {}-{} (dry run: {})", year, month, dryRun);
+        return scheduleGeneratorService.generateMonth(year, month, minRestDays, dryRun);
+    }
+
+    /**
+     * Plan several months ahead with the optimizer
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{year}/{month}/optimize")
+    public OptimizedScheduleDto optimizeMonths(
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestParam(defaultValue = "3") int months,
+            @RequestParam(required = false) Long timeBudgetMs,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+
+        log.info("Optimizing {} months from {}-{} (dry run: {})", months, year, month, dryRun);
+        return scheduleGeneratorService.optimizeMonths(year, month, months, timeBudgetMs, dryRun);
+    }
+
+}
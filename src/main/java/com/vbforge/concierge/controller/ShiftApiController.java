@@ -0,0 +1,70 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.ETagUtils;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * JSON API for single shift assignments
+ * Responses carry the row version plus the concierge shown with the shift as ETag; updates require If-Match
+ * (412 when the row changed meanwhile)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/shifts")
+@RequiredArgsConstructor
+public class ShiftApiController {
+
+    private final ShiftSchedulingService shiftSchedulingService;
+
+    /**
+     * Get shift by id (304 when If-None-Match matches the current version and concierge)
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ShiftAssignmentDto> getShift(@PathVariable Long id, WebRequest request) {
+        ShiftAssignmentDto shift = shiftSchedulingService.getShiftById(id);
+        String eTag = eTagOf(shift);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(shift);
+    }
+
+    /**
+     * Update shift if it still has the version given in If-Match
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ShiftAssignmentDto> updateShift(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody ShiftAssignmentDto shiftAssignmentDto) {
+
+        if (ifMatch == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        shiftAssignmentDto.setVersion(ETagUtils.parseIfMatch(ifMatch));
+
+        log.info("API update of shift ID: {} at version {}", id, ifMatch);
+        ShiftAssignmentDto updated = shiftSchedulingService.updateShift(id, shiftAssignmentDto);
+
+        return ResponseEntity.ok().eTag(eTagOf(updated)).body(updated);
+    }
+
+    //helper method to tag a shift body; a concierge edit changes name and color without a version bump
+    private String eTagOf(ShiftAssignmentDto shift) {
+        return ETagUtils.fromVersion(shift.getVersion(),
+                shift.getConciergeId(), shift.getConciergeName(), shift.getConciergeColor());
+    }
+
+}
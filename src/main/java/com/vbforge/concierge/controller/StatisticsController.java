@@ -1,20 +1,25 @@
 package com.vbforge.concierge.controller;
 
-import com.vbforge.concierge.dto.ConciergeDto;
-import com.vbforge.concierge.service.ConciergeService;
-import com.vbforge.concierge.service.MonthScheduleService;
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.FairnessReportDto;
+import com.vbforge.concierge.dto.StatisticsDto;
+import com.vbforge.concierge.dto.YearStatisticsDto;
+import com.vbforge.concierge.service.FairnessService;
+import com.vbforge.concierge.service.StatisticsService;
 import com.vbforge.concierge.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
 
 /**
  * Controller for statistics and reports
@@ -25,8 +30,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StatisticsController {
 
-    private final MonthScheduleService monthScheduleService;
-    private final ConciergeService conciergeService;
+    private final StatisticsService statisticsService;
+    private final FairnessService fairnessService;
+    private final MonthScheduleCache monthScheduleCache;
 
     /**
      * Show statistics dashboard for current month
@@ -53,55 +59,13 @@ public class StatisticsController {
         log.debug("Showing statistics for {}-{}", year, month);
 
         try {
-            // Get all active concierges
-            List<ConciergeDto> concierges = conciergeService.getAllActiveConcierges();
-
-            // Get shift count by concierge for the month
-            Map<String, Integer> shiftCounts = monthScheduleService.getShiftCountByConcierge(year, month);
-
-            // Calculate statistics
-            int totalShifts = shiftCounts.values().stream()
-                    .mapToInt(Integer::intValue)
-                    .sum();
-
-            double averageShifts = concierges.isEmpty() ? 0 : 
-                (double) totalShifts / concierges.size();
-
-            // Find most and least active concierge
-            String mostActive = null;
-            String leastActive = null;
-            int maxShifts = 0;
-            int minShifts = Integer.MAX_VALUE;
-
-            for (Map.Entry<String, Integer> entry : shiftCounts.entrySet()) {
-                if (entry.getValue() > maxShifts) {
-                    maxShifts = entry.getValue();
-                    mostActive = entry.getKey();
-                }
-                if (entry.getValue() < minShifts) {
-                    minShifts = entry.getValue();
-                    leastActive = entry.getKey();
-                }
-            }
-
-            // Prepare chart data
-            Map<String, Object> chartData = new HashMap<>();
-            chartData.put("labels", shiftCounts.keySet());
-            chartData.put("data", shiftCounts.values());
-
-            // Add to model
+            // Per-concierge counts are grouped in SQL, one row per concierge
+            StatisticsDto statistics = statisticsService.getMonthStatistics(year, month);
+
             model.addAttribute("year", year);
             model.addAttribute("month", month);
             model.addAttribute("monthName", DateUtils.getMonthName(month));
-            model.addAttribute("concierges", concierges);
-            model.addAttribute("shiftCounts", shiftCounts);
-            model.addAttribute("totalShifts", totalShifts);
-            model.addAttribute("averageShifts", String.format("%.1f", averageShifts));
-            model.addAttribute("mostActive", mostActive);
-            model.addAttribute("maxShifts", maxShifts);
-            model.addAttribute("leastActive", leastActive);
-            model.addAttribute("minShifts", minShifts == Integer.MAX_VALUE ? 0 : minShifts);
-            model.addAttribute("chartData", chartData);
+            model.addAttribute("statistics", statistics);
             model.addAttribute("activePage", "statistics");
 
             // Navigation
@@ -118,8 +82,114 @@ public class StatisticsController {
         } catch (Exception e) {
             log.error("Error loading statistics", e);
             model.addAttribute("errorMessage", "Failed to load statistics: " + e.getMessage());
+            model.addAttribute("statistics", new StatisticsDto());
             model.addAttribute("activePage", "statistics");
             return "statistics/dashboard";
         }
     }
+
+    /**
+     * Month statistics as JSON (AJAX)
+     */
+    @GetMapping("/{year}/{month}/data")
+    @ResponseBody
+    public StatisticsDto getMonthStatistics(@PathVariable int year, @PathVariable int month) {
+        return statisticsService.getMonthStatistics(year, month);
+    }
+
+    /**
+     * Year statistics as JSON (AJAX)
+     */
+    @GetMapping("/{year}/data")
+    @ResponseBody
+    public StatisticsDto getYearStatistics(@PathVariable int year) {
+        return statisticsService.getYearStatistics(year);
+    }
+
+    /**
+     * Date range statistics as JSON (AJAX), both dates inclusive
+     */
+    @GetMapping("/range")
+    @ResponseBody
+    public StatisticsDto getRangeStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return statisticsService.getStatistics(start, end);
+    }
+
+    /**
+     * Show all 12 months of a year
+     */
+    @GetMapping("/year/{year}")
+    public String showYear(@PathVariable int year, Model model) {
+        log.debug("Showing year statistics for {}", year);
+
+        model.addAttribute("year", year);
+        model.addAttribute("activePage", "statistics");
+        try {
+            model.addAttribute("statistics", statisticsService.getYearOverview(year));
+        } catch (Exception e) {
+            log.error("Error loading year statistics", e);
+            model.addAttribute("errorMessage", "Failed to load statistics: " + e.getMessage());
+            model.addAttribute("statistics", new YearStatisticsDto());
+        }
+        return "statistics/year";
+    }
+
+    /**
+     * All 12 months of a year as JSON (AJAX)
+     */
+    @GetMapping("/year/{year}/data")
+    @ResponseBody
+    public YearStatisticsDto getYearOverview(@PathVariable int year) {
+        return statisticsService.getYearOverview(year);
+    }
+
+    /**
+     * Show multi-year fairness report (defaults to the last five years)
+     */
+    @GetMapping("/fairness")
+    public String showFairness(
+            @RequestParam(required = false) Integer startYear,
+            @RequestParam(required = false) Integer endYear,
+            Model model) {
+
+        int lastYear = endYear != null ? endYear : DateUtils.getCurrentYear();
+        int firstYear = startYear != null ? startYear : lastYear - 4;
+        log.debug("Showing fairness report for {}-{}", firstYear, lastYear);
+
+        model.addAttribute("startYear", firstYear);
+        model.addAttribute("endYear", lastYear);
+        model.addAttribute("activePage", "statistics");
+        try {
+            model.addAttribute("report", fairnessService.getFairnessReport(firstYear, lastYear));
+        } catch (Exception e) {
+            log.error("Error loading fairness report", e);
+            model.addAttribute("errorMessage", "Failed to load fairness report: " + e.getMessage());
+            model.addAttribute("report", new FairnessReportDto());
+        }
+        return "statistics/fairness";
+    }
+
+    /**
+     * Fairness report of a date range as JSON (AJAX), both dates inclusive
+     */
+    @GetMapping("/fairness/data")
+    @ResponseBody
+    public FairnessReportDto getFairnessReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return fairnessService.getFairnessReport(start, end);
+    }
+
+    /**
+     * Month schedule cache counters (AJAX, ADMIN only)
+     * Hits are calendar views served without touching the database
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache")
+    @ResponseBody
+    public MonthScheduleCache.Stats getCacheStatistics() {
+        return monthScheduleCache.getStats();
+    }
 }
\ No newline at end of file
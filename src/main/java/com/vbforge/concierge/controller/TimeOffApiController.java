@@ -0,0 +1,81 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.dto.TimeOffDto;
+import com.vbforge.concierge.service.AvailabilityService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JSON API for concierge time off (availability calendar)
+ * Reads are open to authenticated users, writes need the ADMIN role
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/time-off")
+@RequiredArgsConstructor
+public class TimeOffApiController {
+
+    private final AvailabilityService availabilityService;
+
+    /**
+     * List time off overlapping a date range (defaults to the current year)
+     */
+    @GetMapping
+    public List<TimeOffDto> getTimeOff(
+            @RequestParam(required = false) Long conciergeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityService.getTimeOff(conciergeId, from, to);
+    }
+
+    /**
+     * Get time off by id
+     */
+    @GetMapping("/{id}")
+    public TimeOffDto getTimeOffById(@PathVariable Long id) {
+        return availabilityService.getTimeOffById(id);
+    }
+
+    /**
+     * Create time off
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TimeOffDto> createTimeOff(@Valid @RequestBody TimeOffDto timeOffDto) {
+        log.info("API create of time off for concierge ID: {}", timeOffDto.getConciergeId());
+        TimeOffDto created = availabilityService.createTimeOff(timeOffDto);
+        return ResponseEntity.created(URI.create("/api/v1/time-off/" + created.getId())).body(created);
+    }
+
+    /**
+     * Update time off (a version in the body must match the stored one)
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public TimeOffDto updateTimeOff(@PathVariable Long id, @Valid @RequestBody TimeOffDto timeOffDto) {
+        log.info("API update of time off ID: {}", id);
+        return availabilityService.updateTimeOff(id, timeOffDto);
+    }
+
+    /**
+     * Delete time off
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTimeOff(@PathVariable Long id) {
+        log.info("API delete of time off ID: {}", id);
+        availabilityService.deleteTimeOff(id);
+    }
+
+}
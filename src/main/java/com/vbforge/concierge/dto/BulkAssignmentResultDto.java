@@ -0,0 +1,60 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk shift assignment
+ * One row result per submitted shift, in submission order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkAssignmentResultDto {
+
+    /**
+     * Per-row results (same order as the submitted list)
+     */
+    private List<RowResult> rows;
+
+    /**
+     * Number of rows inserted
+     */
+    private int succeeded;
+
+    /**
+     * Number of rows rejected
+     */
+    private int failed;
+
+    /**
+     * Result for a single submitted shift
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowResult {
+
+        private int index;
+        private LocalDate shiftDate;
+        private Long conciergeId;
+        private boolean success;
+
+        /**
+         * Failure reason (null on success)
+         */
+        private String message;
+
+        /**
+         * True when the slot is held by a stored shift (not by another row of the same batch)
+         */
+        private boolean conflict;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * DTO for calendar day cell
@@ -28,8 +29,16 @@ public class CalendarDayDto {
     private boolean isCurrentMonth;
     private boolean isAssigned;
 
+    /**
+     * First shift of the day in slot order
+     */
     private ShiftAssignmentDto shiftAssignment;
 
+    /**
+     * All shifts of the day in slot order
+     */
+    private List<ShiftAssignmentDto> shifts;
+
     // Display helpers
     public String getCssClass() {
         StringBuilder css = new StringBuilder("calendar-day");
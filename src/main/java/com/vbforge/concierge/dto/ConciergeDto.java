@@ -35,6 +35,11 @@ public class ConciergeDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Version the client last saw; an update fails if the row changed since (null skips the check)
+     */
+    private Long version;
+
     // For display purposes
     private Integer currentMonthShiftCount;
     private Integer totalShiftCount;
@@ -0,0 +1,46 @@
+package com.vbforge.concierge.dto;
+
+import com.vbforge.concierge.enums.ColorType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Fairness figures of one concierge over a period
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciergeFairnessDto {
+
+    private Long conciergeId;
+    private String name;
+    private ColorType color;
+    private boolean active;
+
+    private int shiftCount;
+    private int weekendShiftCount;
+    private int holidayShiftCount;
+
+    /**
+     * Share of all weekend / holiday shifts of the period, in percent
+     */
+    private double weekendSharePercent;
+    private double holidaySharePercent;
+
+    /**
+     * Longest run of consecutive worked days
+     */
+    private int longestStreak;
+    private LocalDate longestStreakStart;
+
+    /**
+     * Longest run of days without a shift inside the period
+     */
+    private int longestGap;
+    private LocalDate longestGapStart;
+}
@@ -0,0 +1,53 @@
+package com.vbforge.concierge.dto;
+
+import com.vbforge.concierge.enums.ColorType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shift counts of one concierge over a period, aggregated in SQL
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciergeShiftStatsDto {
+
+    private Long conciergeId;
+    private String name;
+    private ColorType color;
+    private boolean active;
+
+    /**
+     * Shifts in the period
+     */
+    private long shiftCount;
+
+    /**
+     * Shifts in the period falling on a Saturday or Sunday
+     */
+    private long weekendShiftCount;
+
+    /**
+     * Shifts of all time (from the concierge month counters)
+     */
+    private Long totalShiftCount;
+
+    /**
+     * Constructor used by the repository aggregate queries
+     */
+    public ConciergeShiftStatsDto(Long conciergeId, String name, ColorType color, boolean active,
+                                  Long shiftCount, Long weekendShiftCount) {
+        this(conciergeId, name, color, active,
+                shiftCount != null ? shiftCount : 0, weekendShiftCount != null ? weekendShiftCount : 0, null);
+    }
+
+    /**
+     * Share of the period's shifts in percent
+     */
+    public double sharePercent(long totalShifts) {
+        return totalShifts > 0 ? shiftCount * 100.0 / totalShifts : 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.vbforge.concierge.dto;
+
+import com.vbforge.concierge.enums.ColorType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shift counts of one concierge for every month of a year
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciergeYearStatsDto {
+
+    private Long conciergeId;
+    private String name;
+    private ColorType color;
+    private boolean active;
+
+    /**
+     * Shifts per month, index = month - 1
+     */
+    private int[] monthCounts;
+
+    private int totalShifts;
+}
@@ -0,0 +1,41 @@
+package com.vbforge.concierge.dto;
+
+import com.vbforge.concierge.enums.ExportFormat;
+import com.vbforge.concierge.enums.ExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for asynchronous export job status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportJobDto {
+
+    private String id;
+    private ExportFormat format;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    private ExportJobStatus status;
+    private int percentComplete;
+
+    /**
+     * True when the result was served from the result cache instead of being generated
+     */
+    private boolean cached;
+
+    private String fileName;
+    private Long fileSize;
+    private String errorMessage;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,42 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the multi-year fairness report (weekend and holiday share, streaks and gaps)
+ * Computed from the in-memory shift columns, not from JPA entities
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FairnessReportDto {
+
+    /**
+     * Inclusive period bounds
+     */
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * One row per active concierge and per concierge with shifts in the period, ordered by name
+     */
+    @Builder.Default
+    private List<ConciergeFairnessDto> concierges = new ArrayList<>();
+
+    private int totalShifts;
+    private int totalWeekendShifts;
+    private int totalHolidayShifts;
+
+    /**
+     * Share every concierge would get with a perfectly even rotation, in percent
+     */
+    private double fairSharePercent;
+}
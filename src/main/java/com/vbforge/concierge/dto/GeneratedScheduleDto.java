@@ -0,0 +1,60 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for an auto-generated month rotation (preview or applied)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeneratedScheduleDto {
+
+    private int year;
+    private int month;
+
+    /**
+     * True when nothing was written (preview)
+     */
+    private boolean dryRun;
+
+    private int minRestDays;
+
+    /**
+     * Proposed shifts for previously unassigned dates
+     */
+    private List<ShiftAssignmentDto> shifts;
+
+    /**
+     * Unassigned dates no concierge could take without breaking the rest gap
+     */
+    private List<LocalDate> unfilledDates;
+
+    /**
+     * Shifts per concierge name for the whole month (existing + proposed)
+     */
+    private Map<String, Integer> shiftCounts;
+
+    /**
+     * Weekend shifts per concierge name for the whole month (existing + proposed)
+     */
+    private Map<String, Integer> weekendShiftCounts;
+
+    /**
+     * Rows inserted (0 for a preview)
+     */
+    private int inserted;
+
+    /**
+     * Proposed rows rejected on insert, e.g. a date assigned concurrently
+     */
+    private int failed;
+}
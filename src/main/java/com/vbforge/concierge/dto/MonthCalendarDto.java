@@ -0,0 +1,77 @@
+package com.vbforge.concierge.dto;
+
+import com.vbforge.concierge.enums.ShiftType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact month calendar for JSON clients (lobby displays, mobile apps)
+ * Days are positional instead of date-keyed objects; concierges are listed once and referenced by index
+ *
+ * assignments / shiftTypes / notes describe the first shift of each day (one value per day);
+ * the slot fields describe every slot, laid out as [(dayOfMonth - 1) * slotTypes.size() + slot]
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthCalendarDto {
+
+    private int year;
+    private int month;
+    private int totalDays;
+
+    /**
+     * Day of week of the first day (1=Monday, 7=Sunday)
+     */
+    private int startingDayOfWeek;
+
+    /**
+     * Concierge legend, referenced by index from assignments
+     */
+    private List<ConciergeEntry> concierges;
+
+    /**
+     * One entry per day (index 0 = day 1): index into concierges of the day's first shift, -1 when unassigned
+     */
+    private int[] assignments;
+
+    /**
+     * Shift type of the day's first shift by day of month, only for days where it is not FULL_DAY
+     */
+    private Map<Integer, ShiftType> shiftTypes;
+
+    /**
+     * Notes of the day's first shift by day of month, only for days that have notes
+     */
+    private Map<Integer, String> notes;
+
+    /**
+     * Shift type of each slot of a day, in slot order
+     */
+    private List<ShiftType> slotTypes;
+
+    /**
+     * One entry per slot (index = (dayOfMonth - 1) * slotTypes.size() + slot): index into concierges, -1 when free
+     */
+    private int[] slotAssignments;
+
+    /**
+     * Notes by slot index, only for slots that have notes
+     */
+    private Map<Integer, String> slotNotes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConciergeEntry {
+        private Long id;
+        private String name;
+        private String color;
+    }
+}
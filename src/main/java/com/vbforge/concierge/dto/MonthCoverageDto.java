@@ -0,0 +1,29 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shift totals and day coverage of one month
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthCoverageDto {
+
+    private int month;
+    private String monthName;
+    private int daysInMonth;
+    private int shiftCount;
+
+    /**
+     * Days with at least one shift / without any shift
+     */
+    private int assignedDays;
+    private int unassignedDays;
+
+    private double coveragePercent;
+}
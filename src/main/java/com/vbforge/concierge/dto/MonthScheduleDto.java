@@ -1,13 +1,14 @@
 package com.vbforge.concierge.dto;
 
+import com.vbforge.concierge.enums.ShiftType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * DTO for displaying a complete month schedule
@@ -24,10 +25,9 @@ public class MonthScheduleDto {
     private String monthName;
     
     /**
-     * Map of date to shift assignment
-     * Key: LocalDate, Value: ShiftAssignmentDto
+     * Shift per slot, flattened as [(dayOfMonth - 1) * ShiftType.SLOT_COUNT + slot], null for a free slot
      */
-    private Map<LocalDate, ShiftAssignmentDto> dailyAssignments;
+    private ShiftAssignmentDto[] slots;
 
     /**
      * List of all concierges
@@ -40,7 +40,7 @@ public class MonthScheduleDto {
     private Integer totalDays;
 
     /**
-     * Number of assigned days
+     * Number of days with at least one shift
      */
     private Integer assignedDays;
 
@@ -63,4 +63,46 @@ public class MonthScheduleDto {
      * Starting day of week (1=Monday, 7=Sunday)
      */
     private Integer startingDayOfWeek;
-}
\ No newline at end of file
+
+    /**
+     * Get shifts of a date in slot order (empty for dates outside the month)
+     */
+    public List<ShiftAssignmentDto> getShiftsOn(LocalDate date) {
+        List<ShiftAssignmentDto> shifts = new ArrayList<>(1);
+        if (slots == null || date.getYear() != year || date.getMonthValue() != month) {
+            return shifts;
+        }
+        int first = ShiftType.FULL_DAY.slotIndex(date.getDayOfMonth());
+        for (int index = first; index < first + ShiftType.SLOT_COUNT; index++) {
+            if (slots[index] != null) {
+                shifts.add(slots[index]);
+            }
+        }
+        return shifts;
+    }
+
+    /**
+     * Get shift of one slot (null when free or outside the month)
+     */
+    public ShiftAssignmentDto getShift(LocalDate date, ShiftType shiftType) {
+        if (slots == null || date.getYear() != year || date.getMonthValue() != month) {
+            return null;
+        }
+        return slots[shiftType.slotIndex(date.getDayOfMonth())];
+    }
+
+    /**
+     * Get all shifts of the month in date and slot order
+     */
+    public List<ShiftAssignmentDto> getAllShifts() {
+        List<ShiftAssignmentDto> shifts = new ArrayList<>();
+        if (slots != null) {
+            for (ShiftAssignmentDto shift : slots) {
+                if (shift != null) {
+                    shifts.add(shift);
+                }
+            }
+        }
+        return shifts;
+    }
+}
@@ -0,0 +1,65 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a multi-month optimized schedule (preview or applied)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OptimizedScheduleDto {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * True when nothing was written (preview)
+     */
+    private boolean dryRun;
+
+    private int minRestDays;
+
+    /**
+     * Search statistics: parallel runs, total moves evaluated and wall time
+     */
+    private int runs;
+    private long iterations;
+    private long elapsedMs;
+
+    /**
+     * Imbalance of total, weekend and holiday shifts including history (lower is fairer)
+     */
+    private long fairnessScore;
+
+    /**
+     * Proposed shifts for previously unassigned dates
+     */
+    private List<ShiftAssignmentDto> shifts;
+
+    /**
+     * Unassigned dates that could not be filled without breaking a hard constraint
+     */
+    private List<LocalDate> unfilledDates;
+
+    /**
+     * Shifts per concierge name in the planned period (existing + proposed)
+     */
+    private Map<String, Integer> shiftCounts;
+    private Map<String, Integer> weekendShiftCounts;
+    private Map<String, Integer> holidayShiftCounts;
+
+    /**
+     * Rows inserted (0 for a preview) and proposed rows rejected on insert
+     */
+    private int inserted;
+    private int failed;
+}
@@ -0,0 +1,30 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a schedule change pushed to subscribed displays
+ * Carries only what changed; clients reload the month (or the listed days) from the calendar API
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleChangeDto {
+
+    /**
+     * ASSIGNED, UPDATED, REMOVED, REPLACED or RESYNC (events were dropped, reload the month)
+     */
+    private String type;
+
+    private int year;
+    private int month;
+
+    /**
+     * Changed days of the month (empty when the whole month should be reloaded)
+     */
+    private int[] days;
+}
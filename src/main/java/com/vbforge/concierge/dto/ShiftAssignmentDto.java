@@ -41,4 +41,9 @@ public class ShiftAssignmentDto {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Version the client last saw; an update fails if the row changed since (null skips the check)
+     */
+    private Long version;
 }
\ No newline at end of file
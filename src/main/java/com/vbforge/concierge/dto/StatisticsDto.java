@@ -5,10 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Map;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * DTO for statistics and reports
+ * Built from per-concierge SQL aggregates: its size depends on the number of concierges, not shifts
  */
 @Data
 @NoArgsConstructor
@@ -16,38 +19,53 @@ import java.util.Map;
 @Builder
 public class StatisticsDto {
 
+    /**
+     * Year and month of the period (month is null for a year or a date range)
+     */
     private Integer year;
     private Integer month;
 
     /**
-     * Map of concierge name to shift count
+     * Inclusive period bounds
      */
-    private Map<String, Integer> shiftCountByConcierge;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    /**
+     * One row per active concierge and per inactive concierge with shifts in the period, ordered by name
+     */
+    @Builder.Default
+    private List<ConciergeShiftStatsDto> concierges = new ArrayList<>();
 
     /**
      * Total shifts in the period
      */
-    private Integer totalShifts;
+    private int totalShifts;
+
+    /**
+     * Total weekend shifts in the period
+     */
+    private int totalWeekendShifts;
+
+    /**
+     * Number of active concierges
+     */
+    private int activeConcierges;
 
     /**
-     * Average shifts per concierge
+     * Average shifts per active concierge
      */
-    private Double averageShiftsPerConcierge;
+    private double averageShiftsPerConcierge;
 
     /**
      * Most active concierge
      */
     private String mostActiveConcierge;
-    private Integer maxShiftCount;
+    private int maxShiftCount;
 
     /**
      * Least active concierge
      */
     private String leastActiveConcierge;
-    private Integer minShiftCount;
-
-    /**
-     * Distribution data for charts
-     */
-    private Map<String, Object> chartData;
-}
\ No newline at end of file
+    private int minShiftCount;
+}
@@ -0,0 +1,42 @@
+package com.vbforge.concierge.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for TimeOff entity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeOffDto {
+
+    private Long id;
+
+    @NotNull(message = "Concierge is required")
+    private Long conciergeId;
+
+    // For display purposes
+    private String conciergeName;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @Size(max = 255, message = "Reason cannot exceed 255 characters")
+    private String reason;
+
+    /**
+     * Version the client last saw; an update fails if the row changed since (null skips the check)
+     */
+    private Long version;
+}
@@ -0,0 +1,43 @@
+package com.vbforge.concierge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the year-at-a-glance statistics (all 12 months in one view)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class YearStatisticsDto {
+
+    private int year;
+
+    /**
+     * True for years before the current one (served from YearStatisticsCache)
+     */
+    private boolean closed;
+
+    /**
+     * One entry per month, January first
+     */
+    @Builder.Default
+    private List<MonthCoverageDto> months = new ArrayList<>();
+
+    /**
+     * One row per active concierge and per concierge with shifts in the year, ordered by name
+     */
+    @Builder.Default
+    private List<ConciergeYearStatsDto> concierges = new ArrayList<>();
+
+    private int totalShifts;
+    private int totalAssignedDays;
+    private int totalUnassignedDays;
+    private double coveragePercent;
+}
@@ -34,6 +34,14 @@ public abstract class BaseEntity implements Serializable{
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
 
+    /**
+     * Optimistic lock version, incremented on every update
+     * A concurrent edit of the same row fails instead of silently overwriting it
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Hook called before entity is persisted
      */
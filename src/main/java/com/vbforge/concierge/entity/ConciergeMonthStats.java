@@ -0,0 +1,77 @@
+package com.vbforge.concierge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ConciergeMonthStats entity holding the number of active shifts of a concierge in a month
+ * Rows are written with SQL upserts by the shift write paths (no soft delete, no optimistic lock)
+ * and recomputed from shift_assignments by the rebuild job
+ */
+@Entity
+@Table(name = "concierge_month_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_month_stats_concierge_month",
+                        columnNames = {"concierge_id", "stats_year", "stats_month"})
+        },
+        indexes = {
+                @Index(name = "idx_month_stats_month", columnList = "stats_year, stats_month")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConciergeMonthStats implements Serializable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "concierge_id", nullable = false, foreignKey = @ForeignKey(name = "fk_month_stats_concierge"))
+    private Concierge concierge;
+
+    @Column(name = "stats_year", nullable = false)
+    private int year;
+
+    @Column(name = "stats_month", nullable = false)
+    private int month;
+
+    @Column(name = "shift_count", nullable = false)
+    private int shiftCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Counter key: one concierge in one month
+     */
+    public record Key(Long conciergeId, int year, int month) {
+
+        public static Key of(Long conciergeId, LocalDate date) {
+            return new Key(conciergeId, date.getYear(), date.getMonthValue());
+        }
+
+        public static Key of(ShiftAssignment shift) {
+            return of(shift.getConcierge().getId(), shift.getShiftDate());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConciergeMonthStats{" +
+                "id=" + id +
+                ", year=" + year +
+                ", month=" + month +
+                ", shiftCount=" + shiftCount +
+                '}';
+    }
+}
@@ -9,13 +9,15 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 /**
- * MonthHistory entity storing monthly schedule snapshots in JSON format
+ * MonthHistory entity storing monthly schedule snapshots
+ * New snapshots use the compact binary format (snapshotData), older rows keep JSON
  */
 @Entity
 @Table(name = "month_history",
         uniqueConstraints = @UniqueConstraint(columnNames = {"year_value", "month_value"}),
         indexes = {
-                @Index(name = "idx_year_month", columnList = "year_value, month_value")
+                @Index(name = "idx_year_month", columnList = "year_value, month_value"),
+                @Index(name = "idx_history_deleted_year_month", columnList = "deleted, year_value, month_value")
         })
 @Getter
 @Setter
@@ -41,13 +43,18 @@ public class MonthHistory extends BaseEntity{
     private Integer month;
 
     /**
-     * JSON snapshot of the entire month's schedule
-     * Stores serialized list of ShiftAssignmentDto objects
+     * Legacy JSON snapshot of the entire month's schedule
+     * Stores serialized list of ShiftAssignmentDto objects (read-only compatibility)
      */
-    @NotNull(message = "Snapshot JSON is required")
-    @Column(name = "snapshot_json", nullable = false, columnDefinition = "TEXT")
+    @Column(name = "snapshot_json", columnDefinition = "TEXT")
     private String snapshotJson;
 
+    /**
+     * Compact binary snapshot of the entire month's schedule (see SnapshotCodec)
+     */
+    @Column(name = "snapshot_data", columnDefinition = "BLOB")
+    private byte[] snapshotData;
+
     /**
      * Timestamp when snapshot was created
      */
@@ -8,14 +8,23 @@ import lombok.*;
 import java.time.LocalDate;
 
 /**
- * ShiftAssignment entity representing a work shift for a specific date
+ * ShiftAssignment entity representing a work shift for a specific date and slot (shift type)
  */
 @Entity
 @Table(name = "shift_assignments",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"shift_date", "concierge_id"}),
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_shift_active_date_type", columnNames = {"active_date", "shift_type"}),
+                @UniqueConstraint(name = "uk_shift_morning_slot", columnNames = "morning_slot_date"),
+                @UniqueConstraint(name = "uk_shift_evening_slot", columnNames = "evening_slot_date"),
+                @UniqueConstraint(name = "uk_shift_night_slot", columnNames = "night_slot_date")
+        },
         indexes = {
                 @Index(name = "idx_shift_date", columnList = "shift_date"),
-                @Index(name = "idx_concierge_id", columnList = "concierge_id")
+                @Index(name = "idx_concierge_id", columnList = "concierge_id"),
+                @Index(name = "idx_deleted_year_month", columnList = "deleted, shift_year, shift_month, concierge_id"),
+                @Index(name = "idx_deleted_date", columnList = "deleted, shift_date, concierge_id"),
+                @Index(name = "idx_concierge_deleted_year_month", columnList = "concierge_id, deleted, shift_year, shift_month"),
+                @Index(name = "idx_concierge_deleted_date_id", columnList = "concierge_id, deleted, shift_date, id")
         })
 @Getter
 @Setter
@@ -49,6 +58,61 @@ public class ShiftAssignment extends BaseEntity{
     @Column(name = "notes", length = 500)
     private String notes;
 
+    /**
+     * Year of the shift date, generated by the database (STORED column, see V2 migration)
+     * Read-only: only populated when the entity is loaded, never written by Hibernate
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "shift_year", insertable = false, updatable = false,
+            columnDefinition = "INT GENERATED ALWAYS AS (YEAR(shift_date))")
+    private Integer shiftYear;
+
+    /**
+     * Month of the shift date, generated by the database (STORED column, see V2 migration)
+     * Read-only: only populated when the entity is loaded, never written by Hibernate
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "shift_month", insertable = false, updatable = false,
+            columnDefinition = "INT GENERATED ALWAYS AS (MONTH(shift_date))")
+    private Integer shiftMonth;
+
+    /**
+     * Shift date while active, NULL once soft deleted, generated by the database (see V11 migration)
+     * Unique with shift_type: the database allows only one active shift per date and slot (see V14 migration)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "active_date", insertable = false, updatable = false,
+            columnDefinition = "DATE GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE shift_date END)")
+    private LocalDate activeDate;
+
+    /**
+     * Shift date while an active MORNING or FULL_DAY shift holds the morning slot (see V17 migration)
+     * Unique, together with the evening and night columns a FULL_DAY shift excludes every 8-hour shift of its date
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "morning_slot_date", insertable = false, updatable = false,
+            columnDefinition = "DATE GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL "
+                    + "WHEN shift_type IN ('FULL_DAY', 'MORNING') THEN shift_date END)")
+    private LocalDate morningSlotDate;
+
+    /**
+     * Shift date while an active EVENING or FULL_DAY shift holds the evening slot (see V17 migration)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "evening_slot_date", insertable = false, updatable = false,
+            columnDefinition = "DATE GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL "
+                    + "WHEN shift_type IN ('FULL_DAY', 'EVENING') THEN shift_date END)")
+    private LocalDate eveningSlotDate;
+
+    /**
+     * Shift date while an active NIGHT or FULL_DAY shift holds the night slot (see V17 migration)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "night_slot_date", insertable = false, updatable = false,
+            columnDefinition = "DATE GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL "
+                    + "WHEN shift_type IN ('FULL_DAY', 'NIGHT') THEN shift_date END)")
+    private LocalDate nightSlotDate;
+
     @Override
     public String toString() {
         return "ShiftAssignment{" +
@@ -0,0 +1,77 @@
+package com.vbforge.concierge.entity;
+
+import com.vbforge.concierge.enums.ShiftType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * SnapshotDelta entity storing one changed day of a month checkpoint
+ * A month snapshot (MonthHistory) is the base; its deltas are replayed in checkpoint order
+ */
+@Entity
+@Table(name = "snapshot_deltas",
+        indexes = {
+                @Index(name = "idx_delta_history_seq", columnList = "history_id, checkpoint_seq"),
+                @Index(name = "idx_delta_history_at", columnList = "history_id, checkpoint_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SnapshotDelta extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Base snapshot is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "history_id", nullable = false, foreignKey = @ForeignKey(name = "fk_delta_history"))
+    private MonthHistory history;
+
+    /**
+     * Checkpoint sequence number within the chain (all days of one checkpoint share it)
+     */
+    @NotNull
+    @Column(name = "checkpoint_seq", nullable = false)
+    private Integer checkpointSeq;
+
+    /**
+     * Point in time the checkpoint was taken
+     */
+    @NotNull
+    @Column(name = "checkpoint_at", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @NotNull(message = "Shift date is required")
+    @Column(name = "shift_date", nullable = false)
+    private LocalDate shiftDate;
+
+    /**
+     * Concierge assigned from this checkpoint on (null = day cleared)
+     */
+    @Column(name = "concierge_id")
+    private Long conciergeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shift_type", columnDefinition = "varchar(20)")
+    private ShiftType shiftType;
+
+    @Column(name = "notes", length = 500)
+    private String notes;
+
+    @Override
+    public String toString() {
+        return "SnapshotDelta{" +
+                "id=" + id +
+                ", checkpointSeq=" + checkpointSeq +
+                ", shiftDate=" + shiftDate +
+                ", conciergeId=" + conciergeId +
+                '}';
+    }
+}
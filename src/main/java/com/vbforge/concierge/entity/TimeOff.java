@@ -0,0 +1,58 @@
+package com.vbforge.concierge.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * TimeOff entity representing a period (inclusive) in which a concierge cannot take shifts
+ */
+@Entity
+@Table(name = "concierge_time_off",
+        indexes = {
+                @Index(name = "idx_time_off_deleted_range", columnList = "deleted, start_date, end_date"),
+                @Index(name = "idx_time_off_concierge_range", columnList = "concierge_id, deleted, start_date")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeOff extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Concierge is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "concierge_id", nullable = false, foreignKey = @ForeignKey(name = "fk_time_off_concierge"))
+    private Concierge concierge;
+
+    @NotNull(message = "Start date is required")
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    /**
+     * Reason shown to admins, e.g. vacation or sick leave (optional)
+     */
+    @Column(name = "reason")
+    private String reason;
+
+    @Override
+    public String toString() {
+        return "TimeOff{" +
+                "id=" + id +
+                ", concierge=" + (concierge != null ? concierge.getName() : "null") +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                '}';
+    }
+
+}
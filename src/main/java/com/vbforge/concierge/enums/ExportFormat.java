@@ -0,0 +1,26 @@
+package com.vbforge.concierge.enums;
+
+/**
+ * Export file formats
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    PDF("pdf", "application/pdf");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,16 @@
+package com.vbforge.concierge.enums;
+
+/**
+ * Lifecycle of an asynchronous export job
+ */
+public enum ExportJobStatus {
+
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
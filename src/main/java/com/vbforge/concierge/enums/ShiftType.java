@@ -1,12 +1,27 @@
 package com.vbforge.concierge.enums;
 
+import java.time.LocalDate;
+
 /**
- * Shift types - currently only FULL_DAY (24 hours)
- * Can be extended in future for MORNING, EVENING, NIGHT shifts
+ * Shift types - one FULL_DAY (24 hours) shift or up to three 8-hour shifts per day
+ *
+ * Every type owns one slot of a day (slot = ordinal), so a day has {@link #SLOT_COUNT} slots.
+ * A FULL_DAY shift overlaps every other slot of its day. The database enforces this with one
+ * generated slot column per 8-hour type (V17 migration), so a new constant also needs a migration.
  */
 public enum ShiftType {
 
-    FULL_DAY("24 Hours", "Full Day Shift");
+    FULL_DAY("24 Hours", "Full Day Shift"),
+    MORNING("8 Hours", "Morning Shift (06:00-14:00)"),
+    EVENING("8 Hours", "Evening Shift (14:00-22:00)"),
+    NIGHT("8 Hours", "Night Shift (22:00-06:00)");
+
+    /**
+     * Number of slots per day
+     */
+    public static final int SLOT_COUNT = values().length;
+
+    private static final ShiftType[] BY_SLOT = values();
 
     private final String duration;
     private final String description;
@@ -23,4 +38,46 @@ public enum ShiftType {
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    /**
+     * Slot of this type within a day (0..SLOT_COUNT-1)
+     */
+    public int getSlot() {
+        return ordinal();
+    }
+
+    /**
+     * Check if two shifts on the same day would overlap
+     */
+    public boolean overlaps(ShiftType other) {
+        return this == other || this == FULL_DAY || other == FULL_DAY;
+    }
+
+    /**
+     * Index of this slot in a month laid out flat as [(dayOfMonth - 1) * SLOT_COUNT + slot]
+     */
+    public int slotIndex(int dayOfMonth) {
+        return (dayOfMonth - 1) * SLOT_COUNT + ordinal();
+    }
+
+    /**
+     * Key of this slot on a date, ordered by date then slot (epochDay * SLOT_COUNT + slot)
+     */
+    public long slotKey(LocalDate date) {
+        return date.toEpochDay() * SLOT_COUNT + ordinal();
+    }
+
+    /**
+     * Type owning a slot
+     */
+    public static ShiftType ofSlot(int slot) {
+        return BY_SLOT[slot];
+    }
+
+    /**
+     * Type of a shift, FULL_DAY when not set
+     */
+    public static ShiftType orDefault(ShiftType shiftType) {
+        return shiftType != null ? shiftType : FULL_DAY;
+    }
+}
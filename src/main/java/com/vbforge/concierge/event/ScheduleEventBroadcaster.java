@@ -0,0 +1,237 @@
+package com.vbforge.concierge.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vbforge.concierge.dto.ScheduleChangeDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed schedule changes to Server-Sent Events subscribers, per month
+ *
+ * Each event is serialized once and offered to a bounded queue per subscriber; a small sender pool
+ * drains the queues, so a slow client never blocks the committing thread. A subscriber that falls
+ * behind loses its queued events and gets a single "resync" event instead. Idle subscribers only
+ * receive a heartbeat comment; nothing here reads the database.
+ */
+@Slf4j
+@Component
+public class ScheduleEventBroadcaster {
+
+    /** Single-line JSON: each line of an SSE payload becomes its own "data:" field */
+    private final ObjectWriter jsonWriter;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+
+    private final ConcurrentMap<YearMonth, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService sender;
+
+    public ScheduleEventBroadcaster(ObjectMapper objectMapper,
+                                    @Value("${schedule.events.buffer-size:32}") int bufferSize,
+                                    @Value("${schedule.events.timeout-ms:1800000}") long timeoutMs,
+                                    @Value("${schedule.events.max-subscribers:1000}") int maxSubscribers,
+                                    @Value("${schedule.events.sender-threads:2}") int senderThreads) {
+        this.jsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "schedule-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open an event stream for one month
+     */
+    public SseEmitter subscribe(YearMonth month) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many event subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(month, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        subscribers.computeIfAbsent(month, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(SseEmitter.event().comment("subscribed " + month).build());
+
+        log.debug("Event subscriber added for {} ({} total)", month, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * Number of open subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Fan out a change once its transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onShiftChanged(ShiftChangedEvent event) {
+        for (YearMonth month : event.getMonths()) {
+            Set<Subscriber> monthSubscribers = subscribers.get(month);
+            if (monthSubscribers == null || monthSubscribers.isEmpty()) {
+                continue;
+            }
+
+            Set<DataWithMediaType> frame = frame(event.getType().name(), month, event.daysOf(month));
+            monthSubscribers.forEach(subscriber -> subscriber.offer(frame));
+        }
+    }
+
+    /**
+     * Keep idle connections open through proxies; busy subscribers are skipped
+     */
+    @Scheduled(fixedRateString = "${schedule.events.heartbeat-ms:25000}",
+            initialDelayString = "${schedule.events.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        subscribers.values().forEach(monthSubscribers -> monthSubscribers.forEach(subscriber -> {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(heartbeat);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(monthSubscribers -> monthSubscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }));
+        sender.shutdownNow();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to serialize one event for all subscribers of a month
+    private Set<DataWithMediaType> frame(String type, YearMonth month, int[] days) {
+        ScheduleChangeDto change = ScheduleChangeDto.builder()
+                .type(type)
+                .year(month.getYear())
+                .month(month.getMonthValue())
+                .days(days)
+                .build();
+
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(eventSequence.incrementAndGet()))
+                    .name(type.toLowerCase())
+                    .data(jsonWriter.writeValueAsString(change), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize schedule event", e);
+        }
+    }
+
+    /**
+     * One open stream with its bounded backlog
+     */
+    private final class Subscriber {
+
+        private final YearMonth month;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(YearMonth month, SseEmitter emitter) {
+            this.month = month;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                // Too far behind: drop the backlog, the client reloads the month instead
+                queue.clear();
+                queue.offer(frame("RESYNC", month, new int[0]));
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed.get() && (frame = queue.poll()) != null) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event subscriber for {} disconnected: {}", month, e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+
+            // An offer may have landed after the last poll but before the flag was cleared
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                Set<Subscriber> monthSubscribers = subscribers.get(month);
+                if (monthSubscribers != null) {
+                    monthSubscribers.remove(this);
+                }
+                subscriberCount.decrementAndGet();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.vbforge.concierge.event;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Published by ShiftSchedulingServiceImpl when shifts change
+ * Delivered to listeners after the surrounding transaction commits
+ */
+@Getter
+public class ShiftChangedEvent {
+
+    public enum Type {
+        ASSIGNED,
+        UPDATED,
+        REMOVED,
+        /** Whole months were replaced (snapshot restore); clients should reload them */
+        REPLACED
+    }
+
+    private final Type type;
+
+    /**
+     * Changed days (empty for REPLACED)
+     */
+    private final Set<LocalDate> dates;
+
+    /**
+     * Months touched by the change
+     */
+    private final Set<YearMonth> months;
+
+    private ShiftChangedEvent(Type type, Set<LocalDate> dates, Set<YearMonth> months) {
+        this.type = type;
+        this.dates = dates;
+        this.months = months;
+    }
+
+    public static ShiftChangedEvent of(Type type, Collection<LocalDate> dates) {
+        Set<LocalDate> sortedDates = new TreeSet<>(dates);
+        Set<YearMonth> months = new TreeSet<>();
+        sortedDates.forEach(date -> months.add(YearMonth.from(date)));
+        return new ShiftChangedEvent(type, sortedDates, months);
+    }
+
+    public static ShiftChangedEvent of(Type type, LocalDate... dates) {
+        return of(type, List.of(dates));
+    }
+
+    public static ShiftChangedEvent replaced(Collection<YearMonth> months) {
+        return new ShiftChangedEvent(Type.REPLACED, Set.of(), new TreeSet<>(months));
+    }
+
+    /**
+     * Days of the given month that changed
+     */
+    public int[] daysOf(YearMonth month) {
+        return dates.stream()
+                .filter(date -> YearMonth.from(date).equals(month))
+                .mapToInt(LocalDate::getDayOfMonth)
+                .toArray();
+    }
+
+}
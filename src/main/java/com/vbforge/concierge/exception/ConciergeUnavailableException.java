@@ -0,0 +1,14 @@
+package com.vbforge.concierge.exception;
+
+import java.time.LocalDate;
+
+/**
+ * Thrown when a concierge is assigned a shift on a day inside one of their time-off periods
+ */
+public class ConciergeUnavailableException extends ConciergeSchedulerException {
+
+    public ConciergeUnavailableException(Long conciergeId, LocalDate date) {
+        super(String.format("Concierge with id '%s' is on time off on %s", conciergeId, date));
+    }
+
+}
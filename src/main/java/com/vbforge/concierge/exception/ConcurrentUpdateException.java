@@ -0,0 +1,16 @@
+package com.vbforge.concierge.exception;
+
+/**
+ * Thrown when an update is based on a stale version of an entity (optimistic lock failure)
+ */
+public class ConcurrentUpdateException extends ConciergeSchedulerException {
+
+    public ConcurrentUpdateException(String resourceName, Object id) {
+        super(String.format("%s with id '%s' was changed by another user, reload and try again", resourceName, id));
+    }
+
+    public ConcurrentUpdateException(String resourceName, Object id, Throwable cause) {
+        super(String.format("%s with id '%s' was changed by another user, reload and try again", resourceName, id),
+                cause);
+    }
+}
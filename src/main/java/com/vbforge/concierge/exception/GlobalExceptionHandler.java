@@ -87,6 +87,28 @@ public class GlobalExceptionHandler {
         return "redirect:/schedule";
     }
 
+    @ExceptionHandler(ConciergeUnavailableException.class)
+    public String handleConciergeUnavailableException(
+            ConciergeUnavailableException ex,
+            RedirectAttributes redirectAttributes) {
+
+        log.warn("Concierge unavailable: {}", ex.getMessage());
+
+        redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+        return "redirect:/schedule";
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public String handleConcurrentUpdateException(
+            ConcurrentUpdateException ex,
+            RedirectAttributes redirectAttributes) {
+
+        log.warn("Concurrent update: {}", ex.getMessage());
+
+        redirectAttributes.addFlashAttribute("errorMessage", ex.getMessage());
+        return "redirect:/schedule";
+    }
+
     @ExceptionHandler(InvalidInputException.class)
     public String handleInvalidInputException(
             InvalidInputException ex,
@@ -1,5 +1,9 @@
 package com.vbforge.concierge.exception;
 
+import com.vbforge.concierge.enums.ShiftType;
+
+import java.time.LocalDate;
+
 /**
  * Thrown when shift assignment validation fails
  */
@@ -9,4 +13,8 @@ public class ShiftConflictException extends ConciergeSchedulerException {
         super(String.format("Shift already assigned for date: %s", date));
     }
 
+    public ShiftConflictException(LocalDate date, ShiftType shiftType) {
+        super(String.format("Shift already assigned for date: %s (%s)", date, ShiftType.orDefault(shiftType)));
+    }
+
 }
\ No newline at end of file
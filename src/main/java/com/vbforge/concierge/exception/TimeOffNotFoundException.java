@@ -0,0 +1,11 @@
+package com.vbforge.concierge.exception;
+
+/**
+ * Thrown when a time-off period is not found
+ */
+public class TimeOffNotFoundException extends ResourceNotFoundException {
+
+    public TimeOffNotFoundException(Long id) {
+        super("TimeOff", "id", id);
+    }
+}
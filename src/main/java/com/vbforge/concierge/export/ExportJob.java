@@ -0,0 +1,60 @@
+package com.vbforge.concierge.export;
+
+import com.vbforge.concierge.enums.ExportFormat;
+import com.vbforge.concierge.enums.ExportJobStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * In-memory state of an asynchronous export job
+ * Mutable fields are written by the worker thread and read by status requests
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExportJob {
+
+    private final String id;
+    private final String owner;
+    private final ExportFormat format;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String cacheKey;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile int percentComplete;
+    private volatile boolean cached;
+    private volatile Path resultFile;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedAt;
+
+    public void start() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    public void updateProgress(int percent) {
+        percentComplete = Math.max(percentComplete, Math.min(percent, 100));
+    }
+
+    public void complete(Path file, boolean fromCache) {
+        resultFile = file;
+        cached = fromCache;
+        percentComplete = 100;
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        errorMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.FAILED;
+    }
+
+    public String getFileName() {
+        return String.format("schedule-%s-to-%s.%s", startDate, endDate, format.getExtension());
+    }
+}
@@ -0,0 +1,147 @@
+package com.vbforge.concierge.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of finished export files, keyed by export request + data version
+ * Total size is capped; least recently used results are deleted first
+ */
+@Slf4j
+@Component
+public class ExportResultStore {
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /** Access-ordered: iteration starts at the least recently used result */
+    private final LinkedHashMap<String, Path> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> sizes = new LinkedHashMap<>();
+    private long totalBytes;
+
+    public ExportResultStore(@Value("${export.jobs.result-dir:${java.io.tmpdir}/concierge-exports}") String directory,
+                             @Value("${export.jobs.max-cache-mb:512}") long maxCacheMb) throws IOException {
+        this.directory = Files.createDirectories(Path.of(directory));
+        this.maxBytes = maxCacheMb * 1024 * 1024;
+
+        // Cache keys depend on in-memory data versions, so results of a previous run are stale
+        try (Stream<Path> leftovers = Files.list(this.directory)) {
+            leftovers.forEach(this::deleteQuietly);
+        }
+    }
+
+    /**
+     * Find a cached result for the key (null if missing or evicted)
+     */
+    public synchronized Path find(String cacheKey) {
+        Path file = results.get(cacheKey);
+        if (file != null && !Files.exists(file)) {
+            remove(cacheKey);
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * Create an empty temporary file for a job to write into
+     */
+    public Path newTempFile() {
+        try {
+            return Files.createTempFile(directory, "export-", ".tmp");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Move a finished temporary file into the cache and evict old results above the size cap
+     */
+    public synchronized Path store(String cacheKey, Path tempFile, String extension) throws IOException {
+        Path target = directory.resolve(hash(cacheKey) + "." + extension);
+
+        // Same key, same file name: the move below replaces the old result, so only drop its bookkeeping
+        Path previous = forget(cacheKey);
+        if (previous != null && !previous.equals(target)) {
+            deleteQuietly(previous);
+        }
+        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long size = Files.size(target);
+        results.put(cacheKey, target);
+        sizes.put(cacheKey, size);
+        totalBytes += size;
+
+        evictAbove(maxBytes, cacheKey);
+        return target;
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void evictAbove(long limit, String keep) {
+        Iterator<Map.Entry<String, Path>> eldest = results.entrySet().iterator();
+        while (totalBytes > limit && eldest.hasNext()) {
+            Map.Entry<String, Path> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= sizes.remove(entry.getKey());
+            deleteQuietly(entry.getValue());
+            log.debug("Evicted export result {}", entry.getValue().getFileName());
+        }
+    }
+
+    private void remove(String cacheKey) {
+        Path file = forget(cacheKey);
+        if (file != null) {
+            deleteQuietly(file);
+        }
+    }
+
+    //helper method to drop a result from the bookkeeping without touching its file
+    private Path forget(String cacheKey) {
+        Path file = results.remove(cacheKey);
+        Long size = sizes.remove(cacheKey);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        return file;
+    }
+
+    private static String hash(String cacheKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(cacheKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.vbforge.concierge.export;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.colors.DeviceRgb;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ColorType;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.ExportException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Renders month rosters as PDF pages (one page per month)
+ * Font programs, colors and the page template are built once and shared by all requests;
+ * multi-month documents render their pages in parallel and are merged in month order
+ */
+@Slf4j
+@Component
+public class PdfRosterRenderer {
+
+    private static final String[] WEEKDAY_HEADERS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final DeviceRgb HEADER_FILL = new DeviceRgb(0x34, 0x3a, 0x40);
+    private static final DeviceRgb EMPTY_FILL = new DeviceRgb(0xf8, 0xf9, 0xfa);
+    private static final float CELL_HEIGHT = 62f;
+
+    private final FontProgram regularFont;
+    private final FontProgram boldFont;
+    private final Map<ColorType, DeviceRgb> fillColors = new EnumMap<>(ColorType.class);
+    private final Map<ColorType, Color> textColors = new EnumMap<>(ColorType.class);
+    private final ExecutorService renderExecutor;
+
+    public PdfRosterRenderer(@Value("${export.pdf.render-threads:0}") int renderThreads) throws IOException {
+        this.regularFont = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+        this.boldFont = FontProgramFactory.createFont(StandardFonts.HELVETICA_BOLD);
+
+        for (ColorType color : ColorType.values()) {
+            DeviceRgb fill = toDeviceRgb(color.getHexCode());
+            fillColors.put(color, fill);
+            textColors.put(color, isDark(color.getHexCode()) ? ColorConstants.WHITE : ColorConstants.BLACK);
+        }
+
+        int poolSize = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.renderExecutor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "pdf-render-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Render one or more months into a single document, one page per month in list order
+     */
+    public void render(List<MonthScheduleDto> schedules, OutputStream outputStream) {
+        render(schedules, outputStream, pagesDone -> { });
+    }
+
+    /**
+     * Render one or more months into a single document, reporting the number of pages written so far
+     */
+    public void render(List<MonthScheduleDto> schedules, OutputStream outputStream, IntConsumer progress) {
+        if (schedules.size() == 1) {
+            writeMonth(schedules.get(0), outputStream);
+            progress.accept(1);
+            return;
+        }
+
+        List<Future<byte[]>> pages = new ArrayList<>(schedules.size());
+        for (MonthScheduleDto schedule : schedules) {
+            pages.add(renderExecutor.submit(() -> renderMonth(schedule)));
+        }
+
+        PdfWriter writer = new PdfWriter(outputStream);
+        writer.setCloseStream(false);
+        try (PdfDocument target = new PdfDocument(writer)) {
+            PdfMerger merger = new PdfMerger(target);
+            for (int i = 0; i < pages.size(); i++) {
+                try (PdfDocument source = new PdfDocument(new PdfReader(new ByteArrayInputStream(pages.get(i).get())))) {
+                    merger.merge(source, 1, source.getNumberOfPages());
+                }
+                progress.accept(i + 1);
+            }
+        } catch (ExecutionException e) {
+            pages.forEach(page -> page.cancel(true));
+            throw new ExportException("PDF", e.getCause());
+        } catch (InterruptedException e) {
+            pages.forEach(page -> page.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ExportException("PDF", e);
+        } catch (IOException e) {
+            throw new ExportException("PDF", e);
+        }
+    }
+
+    /**
+     * Render a single month page into a standalone PDF
+     */
+    public byte[] renderMonth(MonthScheduleDto schedule) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 * 1024);
+        writeMonth(schedule, bytes);
+        return bytes.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void writeMonth(MonthScheduleDto schedule, OutputStream outputStream) {
+        PdfWriter writer = new PdfWriter(outputStream);
+        writer.setCloseStream(false);
+
+        try (Document document = new Document(new PdfDocument(writer), PageSize.A4.rotate())) {
+
+            PdfFont regular = PdfFontFactory.createFont(regularFont, PdfEncodings.WINANSI);
+            PdfFont bold = PdfFontFactory.createFont(boldFont, PdfEncodings.WINANSI);
+            document.setMargins(24, 24, 24, 24);
+            document.setFont(regular).setFontSize(9);
+
+            document.add(new Paragraph(schedule.getMonthName() + " " + schedule.getYear())
+                    .setFont(bold)
+                    .setFontSize(18)
+                    .setMarginBottom(8));
+
+            document.add(buildCalendar(schedule, bold));
+            document.add(buildLegend(schedule, bold));
+        } catch (RuntimeException e) {
+            throw new ExportException("PDF", e);
+        }
+    }
+
+    private Table buildCalendar(MonthScheduleDto schedule, PdfFont bold) {
+        Table table = new Table(UnitValue.createPercentArray(7)).useAllAvailableWidth();
+
+        for (String weekday : WEEKDAY_HEADERS) {
+            table.addHeaderCell(new Cell()
+                    .add(new Paragraph(weekday).setFont(bold))
+                    .setBackgroundColor(HEADER_FILL)
+                    .setFontColor(ColorConstants.WHITE)
+                    .setTextAlignment(TextAlignment.CENTER));
+        }
+
+        int leading = schedule.getStartingDayOfWeek() - 1;
+        for (int i = 0; i < leading; i++) {
+            table.addCell(new Cell().setHeight(CELL_HEIGHT));
+        }
+
+        for (LocalDate date = schedule.getFirstDayOfMonth();
+             !date.isAfter(schedule.getLastDayOfMonth());
+             date = date.plusDays(1)) {
+
+            Cell cell = new Cell().setHeight(CELL_HEIGHT)
+                    .add(new Paragraph(String.valueOf(date.getDayOfMonth())).setFont(bold));
+
+            List<ShiftAssignmentDto> shifts = schedule.getShiftsOn(date);
+            ColorType color = !shifts.isEmpty() ? toColorType(shifts.get(0).getConciergeColor()) : null;
+            for (ShiftAssignmentDto shift : shifts) {
+                String name = Objects.toString(shift.getConciergeName(), "");
+                ShiftType shiftType = ShiftType.orDefault(shift.getShiftType());
+                cell.add(new Paragraph(shiftType == ShiftType.FULL_DAY ? name : shortLabel(shiftType) + ": " + name));
+                if (shift.getNotes() != null) {
+                    cell.add(new Paragraph(shift.getNotes()).setFontSize(7));
+                }
+            }
+            if (color != null) {
+                cell.setBackgroundColor(fillColors.get(color)).setFontColor(textColors.get(color));
+            } else {
+                cell.setBackgroundColor(EMPTY_FILL);
+            }
+            table.addCell(cell);
+        }
+
+        int trailing = (7 - (leading + schedule.getTotalDays()) % 7) % 7;
+        for (int i = 0; i < trailing; i++) {
+            table.addCell(new Cell().setHeight(CELL_HEIGHT));
+        }
+        return table;
+    }
+
+    private Table buildLegend(MonthScheduleDto schedule, PdfFont bold) {
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        Map<String, ColorType> colors = new HashMap<>();
+        for (ShiftAssignmentDto shift : schedule.getAllShifts()) {
+            String name = Objects.toString(shift.getConciergeName(), "");
+            counts.computeIfAbsent(name, key -> new long[1])[0]++;
+            colors.putIfAbsent(name, toColorType(shift.getConciergeColor()));
+        }
+
+        Table legend = new Table(UnitValue.createPercentArray(new float[]{1, 8, 3})).setWidth(UnitValue.createPercentValue(35))
+                .setMarginTop(10);
+        legend.addHeaderCell(new Cell(1, 2).add(new Paragraph("Concierge").setFont(bold)));
+        legend.addHeaderCell(new Cell().add(new Paragraph("Shifts").setFont(bold)));
+
+        counts.forEach((name, count) -> {
+            ColorType color = colors.get(name);
+            legend.addCell(new Cell().setBackgroundColor(color != null ? fillColors.get(color) : EMPTY_FILL));
+            legend.addCell(new Cell().add(new Paragraph(name)));
+            legend.addCell(new Cell().add(new Paragraph(String.valueOf(count[0]))).setTextAlignment(TextAlignment.RIGHT));
+        });
+        return legend;
+    }
+
+    private String shortLabel(ShiftType shiftType) {
+        String name = shiftType.name();
+        return name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    private ColorType toColorType(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return ColorType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static DeviceRgb toDeviceRgb(String hexCode) {
+        int rgb = Integer.parseInt(hexCode.substring(1), 16);
+        return new DeviceRgb((rgb >> 16) & 0xff, (rgb >> 8) & 0xff, rgb & 0xff);
+    }
+
+    private static boolean isDark(String hexCode) {
+        int rgb = Integer.parseInt(hexCode.substring(1), 16);
+        double luminance = 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+        return luminance < 170;
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.vbforge.concierge.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * One simulated annealing run with incremental scoring
+ *
+ * Score = HARD_WEIGHT * hard + soft, where hard counts rest gap and availability violations
+ * (two units each) and unfilled days (one unit, so leaving a day free beats breaking a rule), and
+ * soft is the sum of squared per-concierge totals, weekend and holiday counts including history.
+ * Moves reassign one day or swap two days; each updates the score in O(minRestDays).
+ */
+class AnnealingSearch {
+
+    static final long HARD_WEIGHT = 1_000_000_000L;
+
+    private static final int VIOLATION = 2;
+    private static final int UNFILLED = 1;
+    private static final double START_TEMPERATURE = 40.0;
+    private static final double END_TEMPERATURE = 0.05;
+
+    private final OptimizationProblem problem;
+    private final int[] movable;
+    private final SplittableRandom random;
+
+    private final int[] assignment;
+    private final int[] shifts;
+    private final int[] weekendShifts;
+    private final int[] holidayShifts;
+    private long hard;
+    private long soft;
+
+    AnnealingSearch(OptimizationProblem problem, int[] initial, int[] movable, long seed) {
+        this.problem = problem;
+        this.movable = movable;
+        this.random = new SplittableRandom(seed);
+        this.assignment = initial.clone();
+
+        int concierges = problem.getConciergeCount();
+        this.shifts = problem.getHistoryShifts().clone();
+        this.weekendShifts = problem.getHistoryWeekendShifts().clone();
+        this.holidayShifts = problem.getHistoryHolidayShifts().clone();
+
+        // Full score once; every move after this is incremental
+        int firstDay = problem.getFirstDay();
+        for (int day = 0; day < assignment.length; day++) {
+            int concierge = assignment[day];
+            if (concierge >= 0) {
+                // pairs reaching back into the context are counted too, moves see them as well
+                hard += VIOLATION * countAfter(day, concierge);
+            }
+            if (day < firstDay) {
+                continue;
+            }
+            if (concierge == GreedyRotationSolver.FREE) {
+                hard += UNFILLED;
+            } else if (concierge >= 0) {
+                shifts[concierge]++;
+                if (problem.getWeekend()[day]) {
+                    weekendShifts[concierge]++;
+                }
+                if (problem.getHoliday()[day]) {
+                    holidayShifts[concierge]++;
+                }
+                if (problem.isUnavailable(concierge, day)) {
+                    hard += VIOLATION;
+                }
+            }
+        }
+        for (int concierge = 0; concierge < concierges; concierge++) {
+            soft += (long) shifts[concierge] * shifts[concierge]
+                    + (long) problem.getWeekendWeight() * weekendShifts[concierge] * weekendShifts[concierge]
+                    + (long) problem.getHolidayWeight() * holidayShifts[concierge] * holidayShifts[concierge];
+        }
+    }
+
+    /**
+     * Anneal until the deadline and return the best roster seen
+     */
+    OptimizationResult run(long deadlineNanos) {
+        int[] best = assignment.clone();
+        long bestHard = hard;
+        long bestSoft = soft;
+        long iterations = 0;
+
+        if (movable.length > 0 && problem.getConciergeCount() > 0) {
+            long start = System.nanoTime();
+            double span = Math.max(1, deadlineNanos - start);
+            double temperature = START_TEMPERATURE;
+            int concierges = problem.getConciergeCount();
+
+            while (true) {
+                if ((iterations & 1023) == 0) {
+                    long now = System.nanoTime();
+                    if (now >= deadlineNanos) {
+                        break;
+                    }
+                    double progress = (now - start) / span;
+                    temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                }
+                iterations++;
+
+                int day = movable[random.nextInt(movable.length)];
+                int previous = assignment[day];
+                long delta;
+
+                if (movable.length > 1 && random.nextBoolean()) {
+                    int other = movable[random.nextInt(movable.length)];
+                    int otherPrevious = assignment[other];
+                    if (other == day || otherPrevious == previous) {
+                        continue;
+                    }
+                    delta = reassign(day, otherPrevious) + reassign(other, previous);
+                    if (!accept(delta, temperature)) {
+                        reassign(other, otherPrevious);
+                        reassign(day, previous);
+                        continue;
+                    }
+                } else {
+                    // FREE is a valid target: an empty day can be better than a broken rule
+                    int target = random.nextInt(concierges + 1) - 1;
+                    if (target == previous) {
+                        continue;
+                    }
+                    delta = reassign(day, target);
+                    if (!accept(delta, temperature)) {
+                        reassign(day, previous);
+                        continue;
+                    }
+                }
+
+                if (hard < bestHard || (hard == bestHard && soft < bestSoft)) {
+                    System.arraycopy(assignment, 0, best, 0, assignment.length);
+                    bestHard = hard;
+                    bestSoft = soft;
+                }
+            }
+        }
+
+        return new OptimizationResult(best, bestHard, bestSoft, iterations, 1);
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private boolean accept(long delta, double temperature) {
+        return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+    }
+
+    //helper method to move a day to another concierge (or FREE), returning the score change
+    private long reassign(int day, int target) {
+        long hardBefore = hard;
+        long softBefore = soft;
+
+        int previous = assignment[day];
+        if (previous == GreedyRotationSolver.FREE) {
+            hard -= UNFILLED;
+        } else {
+            hard -= VIOLATION * countAround(day, previous);
+            if (problem.isUnavailable(previous, day)) {
+                hard -= VIOLATION;
+            }
+            soft += adjust(previous, day, -1);
+        }
+
+        assignment[day] = target;
+
+        if (target == GreedyRotationSolver.FREE) {
+            hard += UNFILLED;
+        } else {
+            hard += VIOLATION * countAround(day, target);
+            if (problem.isUnavailable(target, day)) {
+                hard += VIOLATION;
+            }
+            soft += adjust(target, day, 1);
+        }
+
+        return (hard - hardBefore) * HARD_WEIGHT + (soft - softBefore);
+    }
+
+    //helper method to update one concierge's counts and return the change of its squared terms
+    private long adjust(int concierge, int day, int step) {
+        long change = square(shifts[concierge] + step) - square(shifts[concierge]);
+        shifts[concierge] += step;
+        if (problem.getWeekend()[day]) {
+            change += problem.getWeekendWeight()
+                    * (square(weekendShifts[concierge] + step) - square(weekendShifts[concierge]));
+            weekendShifts[concierge] += step;
+        }
+        if (problem.getHoliday()[day]) {
+            change += problem.getHolidayWeight()
+                    * (square(holidayShifts[concierge] + step) - square(holidayShifts[concierge]));
+            holidayShifts[concierge] += step;
+        }
+        return change;
+    }
+
+    //helper method to count other shifts of a concierge within the rest gap on both sides
+    private int countAround(int day, int concierge) {
+        int rest = problem.getMinRestDays();
+        int count = 0;
+        for (int other = Math.max(0, day - rest); other <= Math.min(assignment.length - 1, day + rest); other++) {
+            if (other != day && assignment[other] == concierge) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //helper method to count shifts of a concierge within the rest gap after a day (each pair once)
+    private int countAfter(int day, int concierge) {
+        int count = 0;
+        for (int other = day + 1; other <= Math.min(assignment.length - 1, day + problem.getMinRestDays()); other++) {
+            if (assignment[other] == concierge) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long square(long value) {
+        return value * value;
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.vbforge.concierge.generator;
+
+import java.util.Arrays;
+
+/**
+ * In-memory greedy solver for a fair month rotation
+ *
+ * Works on a roster of concierge indexes, one slot per day: the first {@code firstDay} slots are
+ * context from the previous month, the rest are the month itself. Free days are filled in date order
+ * with the eligible concierge that has
+ * <ul>
+ *   <li>on weekend days: the fewest weekend shifts, then the fewest shifts</li>
+ *   <li>on weekdays: the fewest shifts, then the fewest weekend shifts</li>
+ * </ul>
+ * ties going to the one who worked longest ago, then to a month-dependent rotation of indexes.
+ * A concierge is eligible when at least {@code minRestDays} days separate the shift from any other
+ * shift of theirs and the day is not one of their unavailable days. Days without an eligible
+ * concierge stay free.
+ */
+public final class GreedyRotationSolver {
+
+    /** Free day, to be filled */
+    public static final int FREE = -1;
+
+    /** Day held by someone who is not part of the rotation (e.g. an inactive concierge) */
+    public static final int TAKEN = -2;
+
+    private static final int NEVER = Integer.MIN_VALUE / 2;
+
+    private GreedyRotationSolver() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Fill the free days of the month part of a roster
+     * @param roster Concierge index per day (FREE, TAKEN or 0..conciergeCount-1); not modified
+     * @param firstDay Index of the first day of the month in the roster
+     * @param weekend Weekend flag per roster day
+     * @param conciergeCount Number of concierges in the rotation
+     * @param minRestDays Minimum free days between two shifts of the same concierge
+     * @param rotationSeed Offset for the final tie-break so the same concierge is not always first
+     * @return New roster with free days filled where possible
+     */
+    public static int[] solve(int[] roster, int firstDay, boolean[] weekend,
+                              int conciergeCount, int minRestDays, int rotationSeed) {
+        return solve(roster, firstDay, weekend, null, conciergeCount, minRestDays, rotationSeed);
+    }
+
+    /**
+     * Fill the free days of the month part of a roster, skipping unavailable concierges
+     * @param roster Concierge index per day (FREE, TAKEN or 0..conciergeCount-1); not modified
+     * @param firstDay Index of the first day of the month in the roster
+     * @param weekend Weekend flag per roster day
+     * @param unavailable Unavailable days flattened as [concierge * roster.length + day], or null
+     * @param conciergeCount Number of concierges in the rotation
+     * @param minRestDays Minimum free days between two shifts of the same concierge
+     * @param rotationSeed Offset for the final tie-break so the same concierge is not always first
+     * @return New roster with free days filled where possible
+     */
+    public static int[] solve(int[] roster, int firstDay, boolean[] weekend, boolean[] unavailable,
+                              int conciergeCount, int minRestDays, int rotationSeed) {
+        if (weekend.length != roster.length) {
+            throw new IllegalArgumentException("Weekend flags must cover the roster");
+        }
+        if (unavailable != null && unavailable.length != conciergeCount * roster.length) {
+            throw new IllegalArgumentException("Unavailable flags must cover every concierge and roster day");
+        }
+
+        int[] result = roster.clone();
+        if (conciergeCount == 0) {
+            return result;
+        }
+
+        //counts only cover the month, the previous month is context for rest gaps
+        int[] shifts = new int[conciergeCount];
+        int[] weekendShifts = new int[conciergeCount];
+        for (int day = firstDay; day < result.length; day++) {
+            int concierge = result[day];
+            if (concierge >= 0) {
+                shifts[concierge]++;
+                if (weekend[day]) {
+                    weekendShifts[concierge]++;
+                }
+            }
+        }
+
+        //last shift before the current day, kept up to date while walking forward
+        int[] lastDay = new int[conciergeCount];
+        Arrays.fill(lastDay, NEVER);
+        for (int day = 0; day < firstDay; day++) {
+            if (result[day] >= 0) {
+                lastDay[result[day]] = day;
+            }
+        }
+
+        for (int day = firstDay; day < result.length; day++) {
+            if (result[day] != FREE) {
+                if (result[day] >= 0) {
+                    lastDay[result[day]] = day;
+                }
+                continue;
+            }
+
+            int best = -1;
+            for (int offset = 0; offset < conciergeCount; offset++) {
+                int candidate = Math.floorMod(rotationSeed + offset, conciergeCount);
+                if (unavailable != null && unavailable[candidate * result.length + day]) {
+                    continue;
+                }
+                if (day - lastDay[candidate] <= minRestDays || workedSoon(result, day, candidate, minRestDays)) {
+                    continue;
+                }
+                if (best < 0 || better(candidate, best, weekend[day], shifts, weekendShifts, lastDay)) {
+                    best = candidate;
+                }
+            }
+
+            if (best >= 0) {
+                result[day] = best;
+                lastDay[best] = day;
+                shifts[best]++;
+                if (weekend[day]) {
+                    weekendShifts[best]++;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to check already fixed shifts after the day
+    private static boolean workedSoon(int[] roster, int day, int concierge, int minRestDays) {
+        int end = Math.min(roster.length - 1, day + minRestDays);
+        for (int next = day + 1; next <= end; next++) {
+            if (roster[next] == concierge) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //helper method to order two candidates; on a full tie the one seen first (rotation order) wins
+    private static boolean better(int candidate, int best, boolean weekendDay,
+                                  int[] shifts, int[] weekendShifts, int[] lastDay) {
+        int primary = weekendDay
+                ? Integer.compare(weekendShifts[candidate], weekendShifts[best])
+                : Integer.compare(shifts[candidate], shifts[best]);
+        if (primary != 0) {
+            return primary < 0;
+        }
+        int secondary = weekendDay
+                ? Integer.compare(shifts[candidate], shifts[best])
+                : Integer.compare(weekendShifts[candidate], weekendShifts[best]);
+        if (secondary != 0) {
+            return secondary < 0;
+        }
+        return lastDay[candidate] < lastDay[best];
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.vbforge.concierge.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Public holidays used to balance holiday shifts
+ * Configured as yearly dates (MM-dd) or single dates (yyyy-MM-dd) in schedule.holidays
+ */
+@Slf4j
+@Component
+public class HolidayCalendar {
+
+    private final Set<MonthDay> yearly = new HashSet<>();
+    private final Set<LocalDate> single = new HashSet<>();
+
+    public HolidayCalendar(@Value("${schedule.holidays:01-01,12-25}") List<String> holidays) {
+        for (String holiday : holidays) {
+            String value = holiday.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                if (value.length() == 5) {
+                    yearly.add(MonthDay.parse("--" + value));
+                } else {
+                    single.add(LocalDate.parse(value));
+                }
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid holiday in schedule.holidays: " + value, e);
+            }
+        }
+        log.debug("Holiday calendar: {} yearly, {} single dates", yearly.size(), single.size());
+    }
+
+    /**
+     * Check if a date is a holiday
+     */
+    public boolean isHoliday(LocalDate date) {
+        return yearly.contains(MonthDay.from(date)) || single.contains(date);
+    }
+
+}
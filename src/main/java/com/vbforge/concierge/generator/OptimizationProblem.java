@@ -0,0 +1,54 @@
+package com.vbforge.concierge.generator;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Input of the schedule optimizer, as primitive arrays indexed by roster day and concierge
+ *
+ * The roster uses the GreedyRotationSolver encoding: the first {@code firstDay} slots are fixed context
+ * before the horizon, then one slot per horizon day (FREE, TAKEN or a concierge index). Only FREE
+ * horizon days are decided by the optimizer.
+ */
+@Getter
+@Builder
+public class OptimizationProblem {
+
+    private final int[] roster;
+    private final int firstDay;
+    private final int conciergeCount;
+
+    private final boolean[] weekend;
+    private final boolean[] holiday;
+
+    /**
+     * Unavailable days, flattened as [concierge * roster.length + day] (null when everyone is available)
+     */
+    private final boolean[] unavailable;
+
+    /**
+     * Minimum free days between two shifts of a concierge (hard)
+     */
+    private final int minRestDays;
+
+    /**
+     * Shifts per concierge before the horizon, so long-term totals even out (soft)
+     */
+    private final int[] historyShifts;
+    private final int[] historyWeekendShifts;
+    private final int[] historyHolidayShifts;
+
+    /**
+     * Weight of weekend and holiday balance relative to total shift balance
+     */
+    @Builder.Default
+    private final int weekendWeight = 2;
+
+    @Builder.Default
+    private final int holidayWeight = 3;
+
+    boolean isUnavailable(int concierge, int day) {
+        return unavailable != null && unavailable[concierge * roster.length + day];
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.vbforge.concierge.generator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Best schedule found by the optimizer
+ */
+@Getter
+@AllArgsConstructor
+public class OptimizationResult {
+
+    /**
+     * Solved roster (same layout as the problem roster)
+     */
+    private final int[] roster;
+
+    /**
+     * Weighted hard constraint violations (0 = every hard constraint holds and every day is filled)
+     */
+    private final long hardScore;
+
+    /**
+     * Imbalance of total, weekend and holiday shifts including history (lower is fairer)
+     */
+    private final long softScore;
+
+    private final long iterations;
+    private final int runs;
+
+    boolean isBetterThan(OptimizationResult other) {
+        return other == null || hardScore < other.hardScore
+                || (hardScore == other.hardScore && softScore < other.softScore);
+    }
+
+}
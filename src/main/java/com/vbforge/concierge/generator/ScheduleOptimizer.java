@@ -0,0 +1,103 @@
+package com.vbforge.concierge.generator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-month schedule optimizer: independent simulated annealing runs on a fork/join pool
+ *
+ * Every run starts from the greedy rotation with its own random seed and anneals until the
+ * time budget is spent; the best result over all runs wins. Runs share nothing but the
+ * read-only problem, so they scale with the cores given to the pool.
+ */
+@Slf4j
+@Component
+public class ScheduleOptimizer {
+
+    private final ForkJoinPool pool;
+    private final int runs;
+
+    public ScheduleOptimizer(@Value("${schedule.optimizer.threads:0}") int threads,
+                             @Value("${schedule.optimizer.runs:0}") int runs) {
+        int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.runs = runs > 0 ? runs : parallelism;
+    }
+
+    /**
+     * Search for the best schedule within the time budget
+     */
+    public OptimizationResult optimize(OptimizationProblem problem, long timeBudgetMillis) {
+        int[] initial = GreedyRotationSolver.solve(problem.getRoster(), problem.getFirstDay(),
+                problem.getWeekend(), problem.getUnavailable(), problem.getConciergeCount(),
+                problem.getMinRestDays(), 0);
+        int[] movable = IntStream.range(problem.getFirstDay(), problem.getRoster().length)
+                .filter(day -> problem.getRoster()[day] == GreedyRotationSolver.FREE)
+                .toArray();
+
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        long seed = ThreadLocalRandom.current().nextLong();
+        OptimizationResult result = pool.invoke(new SearchTask(problem, initial, movable, seed, 0, runs, deadline));
+
+        log.debug("Optimized {} days in {} runs / {} iterations: hard {}, soft {}", movable.length,
+                result.getRuns(), result.getIterations(), result.getHardScore(), result.getSoftScore());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Splits the run range in halves until a single run is left
+     */
+    private static class SearchTask extends RecursiveTask<OptimizationResult> {
+
+        private final OptimizationProblem problem;
+        private final int[] initial;
+        private final int[] movable;
+        private final long seed;
+        private final int from;
+        private final int to;
+        private final long deadline;
+
+        private SearchTask(OptimizationProblem problem, int[] initial, int[] movable,
+                           long seed, int from, int to, long deadline) {
+            this.problem = problem;
+            this.initial = initial;
+            this.movable = movable;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected OptimizationResult compute() {
+            if (to - from == 1) {
+                return new AnnealingSearch(problem, initial, movable, seed + from).run(deadline);
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(problem, initial, movable, seed, from, middle, deadline);
+            SearchTask right = new SearchTask(problem, initial, movable, seed, middle, to, deadline);
+            left.fork();
+            OptimizationResult rightResult = right.compute();
+            OptimizationResult leftResult = left.join();
+
+            OptimizationResult best = rightResult.isBetterThan(leftResult) ? rightResult : leftResult;
+            return new OptimizationResult(best.getRoster(), best.getHardScore(), best.getSoftScore(),
+                    leftResult.getIterations() + rightResult.getIterations(),
+                    leftResult.getRuns() + rightResult.getRuns());
+        }
+    }
+
+}
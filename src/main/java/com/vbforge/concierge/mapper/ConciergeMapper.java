@@ -21,8 +21,16 @@ public interface ConciergeMapper {
 
     /**
      * Convert DTO to entity
+     * Identity, audit fields and version are never taken from the client: a new concierge starts unsaved
+     * Setters instead of the Lombok builder, so inherited BaseEntity fields are mapped (and ignored) explicitly
      */
+    @BeanMapping(builder = @Builder(disableBuilder = true))
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "shiftAssignments", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Concierge toEntity(ConciergeDto dto);
 
     /**
@@ -44,6 +52,7 @@ public interface ConciergeMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDto(ConciergeDto dto, @MappingTarget Concierge entity);
 
 }
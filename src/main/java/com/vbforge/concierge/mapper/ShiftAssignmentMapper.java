@@ -23,8 +23,16 @@ public interface ShiftAssignmentMapper {
     /**
      * Convert DTO to entity
      * Note: concierge relationship must be set manually in service layer
+     * Identity, audit fields and version are never taken from the client: a new shift starts unsaved
+     * Setters instead of the Lombok builder, so inherited BaseEntity fields are mapped (and ignored) explicitly
      */
+    @BeanMapping(builder = @Builder(disableBuilder = true))
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "concierge", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
     ShiftAssignment toEntity(ShiftAssignmentDto dto);
 
     /**
@@ -46,6 +54,7 @@ public interface ShiftAssignmentMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDto(ShiftAssignmentDto dto, @MappingTarget ShiftAssignment entity);
 
 }
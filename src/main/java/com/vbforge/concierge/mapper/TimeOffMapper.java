@@ -0,0 +1,52 @@
+package com.vbforge.concierge.mapper;
+
+import com.vbforge.concierge.dto.TimeOffDto;
+import com.vbforge.concierge.entity.TimeOff;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for TimeOff entity
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface TimeOffMapper {
+
+    /**
+     * Convert entity to DTO
+     */
+    @Mapping(source = "concierge.id", target = "conciergeId")
+    @Mapping(source = "concierge.name", target = "conciergeName")
+    TimeOffDto toDto(TimeOff entity);
+
+    /**
+     * Convert DTO to entity (concierge is set by the service)
+     * Identity, audit fields and version are never taken from the client: a new time off starts unsaved
+     */
+    @BeanMapping(builder = @Builder(disableBuilder = true))
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "concierge", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    TimeOff toEntity(TimeOffDto dto);
+
+    /**
+     * Convert list of entities to list of DTOs
+     */
+    List<TimeOffDto> toDtoList(List<TimeOff> entities);
+
+    /**
+     * Update existing entity from DTO
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "concierge", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntityFromDto(TimeOffDto dto, @MappingTarget TimeOff entity);
+
+}
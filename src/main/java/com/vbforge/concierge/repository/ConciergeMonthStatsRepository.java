@@ -0,0 +1,62 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.ConciergeMonthStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for materialized per-concierge monthly shift counters
+ */
+@Repository
+public interface ConciergeMonthStatsRepository extends JpaRepository<ConciergeMonthStats, Long>,
+        ConciergeMonthStatsRepositoryCustom {
+
+    /**
+     * Shift counts of one concierge: total and for one month (one range read on uk_month_stats_concierge_month)
+     * @return Single row of (total, monthCount)
+     */
+    @Query("SELECT COALESCE(SUM(s.shiftCount), 0), " +
+           "COALESCE(SUM(CASE WHEN s.year = :year AND s.month = :month THEN s.shiftCount ELSE 0 END), 0) " +
+           "FROM ConciergeMonthStats s WHERE s.concierge.id = :conciergeId")
+    List<Object[]> findShiftCounts(@Param("conciergeId") Long conciergeId,
+                                   @Param("year") int year,
+                                   @Param("month") int month);
+
+    /**
+     * Shift count of one concierge in one month (null when the concierge has no counter for it)
+     */
+    @Query("SELECT s.shiftCount FROM ConciergeMonthStats s " +
+           "WHERE s.concierge.id = :conciergeId AND s.year = :year AND s.month = :month")
+    Integer findShiftCount(@Param("conciergeId") Long conciergeId,
+                           @Param("year") int year,
+                           @Param("month") int month);
+
+    /**
+     * Total shift count of one concierge
+     */
+    @Query("SELECT COALESCE(SUM(s.shiftCount), 0) FROM ConciergeMonthStats s WHERE s.concierge.id = :conciergeId")
+    long sumShiftCount(@Param("conciergeId") Long conciergeId);
+
+    /**
+     * Shift count per concierge of one month (idx_month_stats_month), concierges without shifts omitted
+     * @return Rows of (conciergeName, shiftCount) ordered by name
+     */
+    @Query("SELECT c.name, s.shiftCount FROM ConciergeMonthStats s JOIN s.concierge c " +
+           "WHERE s.year = :year AND s.month = :month AND s.shiftCount > 0 " +
+           "ORDER BY c.name")
+    List<Object[]> findMonthCounts(@Param("year") int year, @Param("month") int month);
+
+    /**
+     * Total shift count of some concierges
+     * @return Rows of (conciergeId, total)
+     */
+    @Query("SELECT s.concierge.id, SUM(s.shiftCount) FROM ConciergeMonthStats s " +
+           "WHERE s.concierge.id IN :conciergeIds GROUP BY s.concierge.id")
+    List<Object[]> sumShiftCounts(@Param("conciergeIds") Collection<Long> conciergeIds);
+
+}
@@ -0,0 +1,33 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.ConciergeMonthStats;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Custom JDBC operations for ConciergeMonthStats
+ * Implemented by ConciergeMonthStatsRepositoryCustomImpl
+ */
+public interface ConciergeMonthStatsRepositoryCustom {
+
+    /**
+     * Add shift count deltas with one batched upsert (missing counters are created)
+     * Runs in the caller's transaction, so counters commit or roll back with the shift writes
+     * @param deltas Count change per concierge and month; zero deltas are skipped
+     */
+    void addShiftCounts(Map<ConciergeMonthStats.Key, Integer> deltas);
+
+    /**
+     * Recompute the counters of some months of a year from active shifts
+     * @return Number of counter rows written
+     */
+    int rebuildMonths(int year, Collection<Integer> months);
+
+    /**
+     * Recompute every counter from active shifts
+     * @return Number of counter rows written
+     */
+    int rebuildAll();
+
+}
@@ -0,0 +1,96 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.ConciergeMonthStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of ConciergeMonthStatsRepositoryCustom
+ * Runs inside the surrounding JPA transaction (same connection)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ConciergeMonthStatsRepositoryCustomImpl implements ConciergeMonthStatsRepositoryCustom {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO concierge_month_stats (concierge_id, stats_year, stats_month, shift_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE shift_count = shift_count + VALUES(shift_count), updated_at = VALUES(updated_at)";
+
+    private static final String REBUILD_SELECT =
+            "INSERT INTO concierge_month_stats (concierge_id, stats_year, stats_month, shift_count, updated_at) " +
+            "SELECT concierge_id, shift_year, shift_month, COUNT(*), :now " +
+            "FROM shift_assignments WHERE deleted = FALSE";
+
+    private static final String REBUILD_GROUP = " GROUP BY concierge_id, shift_year, shift_month";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addShiftCounts(Map<ConciergeMonthStats.Key, Integer> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[]{key.conciergeId(), key.year(), key.month(), delta, now});
+            }
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        log.debug("Applied {} concierge month counter deltas", rows.size());
+    }
+
+    @Override
+    public int rebuildMonths(int year, Collection<Integer> months) {
+        if (months.isEmpty()) {
+            return 0;
+        }
+        // Pending JPA changes (e.g. soft deletes) must reach the database before counting
+        entityManager.flush();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("year", year)
+                .addValue("months", months)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        named.update("DELETE FROM concierge_month_stats WHERE stats_year = :year AND stats_month IN (:months)", params);
+        int rows = named.update(REBUILD_SELECT + " AND shift_year = :year AND shift_month IN (:months)" + REBUILD_GROUP,
+                params);
+
+        log.debug("Rebuilt {} concierge month counters for {} months of {}", rows, months.size(), year);
+        return rows;
+    }
+
+    @Override
+    public int rebuildAll() {
+        entityManager.flush();
+
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        jdbcTemplate.update("DELETE FROM concierge_month_stats");
+        int rows = named.update(REBUILD_SELECT + REBUILD_GROUP,
+                new MapSqlParameterSource("now", Timestamp.valueOf(LocalDateTime.now())));
+
+        log.debug("Rebuilt {} concierge month counters", rows);
+        return rows;
+    }
+
+}
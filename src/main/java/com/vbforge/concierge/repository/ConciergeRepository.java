@@ -60,12 +60,13 @@ public interface ConciergeRepository extends JpaRepository<Concierge, Long> {
 
     /**
      * Count shift assignments for concierge in specific year and month
+     * Covered by idx_concierge_deleted_year_month (index-only scan)
      */
     @Query("SELECT COUNT(s) FROM ShiftAssignment s " +
            "WHERE s.concierge.id = :conciergeId " +
-           "AND YEAR(s.shiftDate) = :year " +
-           "AND MONTH(s.shiftDate) = :month " +
-           "AND s.deleted = false")
+           "AND s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth = :month")
     Long countShiftsByMonth(@Param("conciergeId") Long conciergeId, 
                             @Param("year") int year, 
                             @Param("month") int month);
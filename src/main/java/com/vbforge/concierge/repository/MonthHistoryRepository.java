@@ -52,6 +52,18 @@ public interface MonthHistoryRepository extends JpaRepository<MonthHistory, Long
            "ORDER BY h.year DESC, h.month DESC")
     List<MonthHistory> findLatestHistory(Pageable pageable);
 
+    /**
+     * Keyset page: records older than (year, month), most recent first
+     * The first page is findLatestHistory; no count query either way (idx_history_deleted_year_month)
+     */
+    @Query("SELECT h FROM MonthHistory h " +
+           "WHERE h.deleted = false " +
+           "AND (h.year < :year OR (h.year = :year AND h.month < :month)) " +
+           "ORDER BY h.year DESC, h.month DESC")
+    List<MonthHistory> findHistoryBefore(@Param("year") int year,
+                                         @Param("month") int month,
+                                         Pageable pageable);
+
     /**
      * Count total snapshots
      */
@@ -1,12 +1,18 @@
 package com.vbforge.concierge.repository;
 
+import com.vbforge.concierge.dto.ConciergeShiftStatsDto;
 import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.enums.ShiftType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +20,31 @@ import java.util.Optional;
  * Repository for ShiftAssignment entity
  */
 @Repository
-public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment, Long> {
+public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment, Long>,
+        ShiftAssignmentRepositoryCustom {
 
     /**
-     * Find shift assignment by date
+     * Select and grouping shared by the per-concierge aggregate queries
      */
-    Optional<ShiftAssignment> findByShiftDateAndDeletedFalse(LocalDate shiftDate);
+    String CONCIERGE_STATS_SELECT =
+            "SELECT new com.vbforge.concierge.dto.ConciergeShiftStatsDto(" +
+            "c.id, c.name, c.color, c.active, COUNT(s), " +
+            "SUM(CASE WHEN EXTRACT(DAY OF WEEK FROM s.shiftDate) IN (1, 7) THEN 1 ELSE 0 END)) " +
+            "FROM ShiftAssignment s JOIN s.concierge c " +
+            "WHERE s.deleted = false ";
+
+    String CONCIERGE_STATS_GROUP = " GROUP BY c.id, c.name, c.color, c.active ORDER BY c.name";
+
+
+    /**
+     * Find shift assignment by date and slot
+     */
+    Optional<ShiftAssignment> findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate shiftDate, ShiftType shiftType);
+
+    /**
+     * Find all shift assignments (every slot) of a date
+     */
+    List<ShiftAssignment> findAllByShiftDateAndDeletedFalse(LocalDate shiftDate);
 
     /**
      * Find all shift assignments for a specific concierge
@@ -31,13 +56,26 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
      */
     List<ShiftAssignment> findByShiftDateBetweenAndDeletedFalse(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Find all shift assignments in a date range with their concierge fetched in the same query
+     * Read path for the calendar: mapping to DTO (name, color) does not trigger a select per concierge
+     */
+    @Query("SELECT s FROM ShiftAssignment s " +
+           "JOIN FETCH s.concierge " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.shiftDate ASC, s.id ASC")
+    List<ShiftAssignment> findWithConciergeByShiftDateBetween(@Param("startDate") LocalDate startDate,
+                                                              @Param("endDate") LocalDate endDate);
+
     /**
      * Find all shift assignments for a specific month
+     * Filters on the generated shift_year/shift_month columns so idx_deleted_year_month is used
      */
     @Query("SELECT s FROM ShiftAssignment s " +
-           "WHERE YEAR(s.shiftDate) = :year " +
-           "AND MONTH(s.shiftDate) = :month " +
-           "AND s.deleted = false " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth = :month " +
            "ORDER BY s.shiftDate ASC")
     List<ShiftAssignment> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
 
@@ -46,14 +84,24 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
      */
     @Query("SELECT s FROM ShiftAssignment s " +
            "WHERE s.concierge.id = :conciergeId " +
-           "AND YEAR(s.shiftDate) = :year " +
-           "AND MONTH(s.shiftDate) = :month " +
            "AND s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth = :month " +
            "ORDER BY s.shiftDate ASC")
     List<ShiftAssignment> findByConciergeAndMonth(@Param("conciergeId") Long conciergeId,
                                                    @Param("year") int year,
                                                    @Param("month") int month);
 
+    /**
+     * Find occupied slots in a date range as (shift date, shift type) pairs
+     * Used by bulk assignment to detect conflicts for a whole batch in one query
+     */
+    @Query("SELECT s.shiftDate, s.shiftType FROM ShiftAssignment s " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findAssignedSlotsBetween(@Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
     /**
      * Check if shift exists for a specific date
      */
@@ -63,11 +111,81 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
      * Count shift assignments for a specific month
      */
     @Query("SELECT COUNT(s) FROM ShiftAssignment s " +
-           "WHERE YEAR(s.shiftDate) = :year " +
-           "AND MONTH(s.shiftDate) = :month " +
-           "AND s.deleted = false")
+           "WHERE s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth = :month")
     Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
 
+    /**
+     * Per-concierge counts of one month, grouped in SQL (idx_deleted_year_month)
+     * Weekend days are Sunday (1) and Saturday (7) of EXTRACT(DAY OF WEEK)
+     */
+    @Query(CONCIERGE_STATS_SELECT +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth = :month" +
+           CONCIERGE_STATS_GROUP)
+    List<ConciergeShiftStatsDto> aggregateByConciergeForMonth(@Param("year") int year, @Param("month") int month);
+
+    /**
+     * Per-concierge counts of one year, grouped in SQL
+     */
+    @Query(CONCIERGE_STATS_SELECT +
+           "AND s.shiftYear = :year" +
+           CONCIERGE_STATS_GROUP)
+    List<ConciergeShiftStatsDto> aggregateByConciergeForYear(@Param("year") int year);
+
+    /**
+     * Per-concierge counts of an inclusive date range, grouped in SQL
+     */
+    @Query(CONCIERGE_STATS_SELECT +
+           "AND s.shiftDate BETWEEN :startDate AND :endDate" +
+           CONCIERGE_STATS_GROUP)
+    List<ConciergeShiftStatsDto> aggregateByConciergeForRange(@Param("startDate") LocalDate startDate,
+                                                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * Keyset first page of a concierge's shifts, most recent first (idx_concierge_deleted_date_id)
+     */
+    @Query("SELECT s FROM ShiftAssignment s " +
+           "JOIN FETCH s.concierge " +
+           "WHERE s.concierge.id = :conciergeId " +
+           "AND s.deleted = false " +
+           "ORDER BY s.shiftDate DESC, s.id DESC")
+    List<ShiftAssignment> findLatestByConcierge(@Param("conciergeId") Long conciergeId, Pageable pageable);
+
+    /**
+     * Keyset page of a concierge's shifts after (shift date, id), most recent first
+     */
+    @Query("SELECT s FROM ShiftAssignment s " +
+           "JOIN FETCH s.concierge " +
+           "WHERE s.concierge.id = :conciergeId " +
+           "AND s.deleted = false " +
+           "AND (s.shiftDate < :shiftDate OR (s.shiftDate = :shiftDate AND s.id < :id)) " +
+           "ORDER BY s.shiftDate DESC, s.id DESC")
+    List<ShiftAssignment> findByConciergeBefore(@Param("conciergeId") Long conciergeId,
+                                                @Param("shiftDate") LocalDate shiftDate,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * All active shifts as (shift date, concierge ID) pairs ordered by date
+     * Loads the in-memory analytics columns without materializing entities
+     */
+    @Query("SELECT s.shiftDate, s.concierge.id FROM ShiftAssignment s " +
+           "WHERE s.deleted = false " +
+           "ORDER BY s.shiftDate, s.shiftType")
+    List<Object[]> findAllShiftColumns();
+
+    /**
+     * Active shifts of an inclusive date range as (shift date, concierge ID) pairs ordered by date
+     */
+    @Query("SELECT s.shiftDate, s.concierge.id FROM ShiftAssignment s " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.shiftDate, s.shiftType")
+    List<Object[]> findShiftColumnsBetween(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
     /**
      * Delete all shifts for a specific concierge
      */
@@ -77,8 +195,45 @@ public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment
      * Find all shifts in a specific year
      */
     @Query("SELECT s FROM ShiftAssignment s " +
-           "WHERE YEAR(s.shiftDate) = :year " +
-           "AND s.deleted = false " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftYear = :year " +
            "ORDER BY s.shiftDate ASC")
     List<ShiftAssignment> findByYear(@Param("year") int year);
+
+    /**
+     * Find all active shifts in the given months of a year
+     */
+    @Query("SELECT s FROM ShiftAssignment s " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth IN :months " +
+           "ORDER BY s.shiftDate ASC")
+    List<ShiftAssignment> findByYearAndMonthIn(@Param("year") int year,
+                                               @Param("months") Collection<Integer> months);
+
+    /**
+     * Soft delete all active shifts in the given months of a year (single UPDATE)
+     * Bumps the version so concurrent edits of the deleted rows fail
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ShiftAssignment s " +
+           "SET s.deleted = true, s.updatedAt = :now, s.version = s.version + 1 " +
+           "WHERE s.deleted = false " +
+           "AND s.shiftYear = :year " +
+           "AND s.shiftMonth IN :months")
+    int softDeleteByYearAndMonthIn(@Param("year") int year,
+                                   @Param("months") Collection<Integer> months,
+                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Soft delete the given active shifts (single UPDATE)
+     * Bumps the version so concurrent edits of the deleted rows fail
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ShiftAssignment s " +
+           "SET s.deleted = true, s.updatedAt = :now, s.version = s.version + 1 " +
+           "WHERE s.deleted = false " +
+           "AND s.id IN :ids")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids,
+                         @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.ShiftAssignment;
+
+import java.util.List;
+
+/**
+ * Custom JDBC operations for ShiftAssignment that bypass the persistence context
+ * Implemented by ShiftAssignmentRepositoryCustomImpl
+ */
+public interface ShiftAssignmentRepositoryCustom {
+
+    /**
+     * Insert shift assignments with JDBC batch statements
+     * A shift whose slot already has an active shift is not inserted (uk_shift_active_date_type),
+     * any other constraint violation fails the call
+     * Entities are not attached to the persistence context and their IDs are not populated
+     * @param shifts Shifts to insert (concierge must be set)
+     * @return Whether each shift was inserted, in the same order
+     */
+    boolean[] batchInsert(List<ShiftAssignment> shifts);
+
+}
@@ -0,0 +1,135 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.ShiftAssignment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JDBC implementation of ShiftAssignmentRepositoryCustom
+ * Runs inside the surrounding JPA transaction (same connection)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShiftAssignmentRepositoryCustomImpl implements ShiftAssignmentRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO shift_assignments " +
+            "(shift_date, concierge_id, shift_type, notes, created_at, updated_at, deleted, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, FALSE, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${schedule.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Every chunk runs as one batch behind a savepoint. A chunk that executes without error inserted
+     * all of its rows, so the per-row counts are never read: with rewriteBatchedStatements=true
+     * Connector/J only reports SUCCESS_NO_INFO for them. A failed chunk is rolled back to its
+     * savepoint and replayed row by row, where a duplicate key is a definite "not inserted".
+     */
+    @Override
+    public boolean[] batchInsert(List<ShiftAssignment> shifts) {
+        if (shifts.isEmpty()) {
+            return new boolean[0];
+        }
+
+        // Pending JPA changes (e.g. soft deletes) must reach the database before the batch
+        entityManager.flush();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean[] inserted = jdbcTemplate.execute((ConnectionCallback<boolean[]>) connection -> {
+            boolean[] result = new boolean[shifts.size()];
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL)) {
+                for (int from = 0; from < shifts.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, shifts.size());
+                    insertChunk(connection, ps, shifts, from, to, now, result);
+                }
+            }
+            return result;
+        });
+
+        log.debug("Batch inserted {} of {} shifts", countInserted(inserted), shifts.size());
+        return inserted;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to insert shifts [from, to) as one batch, falling back to single rows on a failure
+    private void insertChunk(Connection connection, PreparedStatement ps, List<ShiftAssignment> shifts,
+                             int from, int to, Timestamp now, boolean[] result) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            for (int i = from; i < to; i++) {
+                bind(ps, shifts.get(i), now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            connection.releaseSavepoint(savepoint);
+            Arrays.fill(result, from, to, true);
+            return;
+        } catch (SQLException e) {
+            // Depending on the driver rows before or after the failing one may have been applied
+            ps.clearBatch();
+            connection.rollback(savepoint);
+            log.debug("Batch of {} shifts failed ({}), retrying row by row", to - from, e.getMessage());
+        }
+
+        for (int i = from; i < to; i++) {
+            bind(ps, shifts.get(i), now);
+            try {
+                result[i] = ps.executeUpdate() == 1;
+            } catch (SQLException e) {
+                if (!(jdbcTemplate.getExceptionTranslator().translate("batchInsert", INSERT_SQL, e)
+                        instanceof DuplicateKeyException)) {
+                    throw e;
+                }
+                //slot taken by a concurrent writer (uk_shift_active_date_type)
+                result[i] = false;
+            }
+        }
+    }
+
+    //helper method to bind a shift to the insert statement
+    private void bind(PreparedStatement ps, ShiftAssignment shift, Timestamp now) throws SQLException {
+        ps.setDate(1, Date.valueOf(shift.getShiftDate()));
+        ps.setLong(2, shift.getConcierge().getId());
+        ps.setString(3, shift.getShiftType().name());
+        ps.setString(4, shift.getNotes());
+        ps.setTimestamp(5, now);
+        ps.setTimestamp(6, now);
+    }
+
+    //helper method to count inserted rows
+    private int countInserted(boolean[] inserted) {
+        int count = 0;
+        for (boolean row : inserted) {
+            if (row) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
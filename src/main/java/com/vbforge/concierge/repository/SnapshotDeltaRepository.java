@@ -0,0 +1,64 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.SnapshotDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for SnapshotDelta entity
+ */
+@Repository
+public interface SnapshotDeltaRepository extends JpaRepository<SnapshotDelta, Long> {
+
+    /**
+     * Find the whole delta chain of a base snapshot in replay order
+     */
+    @Query("SELECT d FROM SnapshotDelta d " +
+           "WHERE d.history.id = :historyId " +
+           "ORDER BY d.checkpointSeq ASC, d.id ASC")
+    List<SnapshotDelta> findChain(@Param("historyId") Long historyId);
+
+    /**
+     * Find the delta chain of a base snapshot up to a point in time, in replay order
+     */
+    @Query("SELECT d FROM SnapshotDelta d " +
+           "WHERE d.history.id = :historyId " +
+           "AND d.checkpointAt <= :at " +
+           "ORDER BY d.checkpointSeq ASC, d.id ASC")
+    List<SnapshotDelta> findChainUpTo(@Param("historyId") Long historyId,
+                                      @Param("at") LocalDateTime at);
+
+    /**
+     * Find the last checkpoint sequence number of a chain (0 if empty)
+     */
+    @Query("SELECT COALESCE(MAX(d.checkpointSeq), 0) FROM SnapshotDelta d " +
+           "WHERE d.history.id = :historyId")
+    int findLastCheckpointSeq(@Param("historyId") Long historyId);
+
+    /**
+     * Count delta records of a chain
+     */
+    @Query("SELECT COUNT(d) FROM SnapshotDelta d WHERE d.history.id = :historyId")
+    long countByHistoryId(@Param("historyId") Long historyId);
+
+    /**
+     * Find base snapshots whose chain holds more than the given number of delta records
+     */
+    @Query("SELECT d.history.id FROM SnapshotDelta d " +
+           "GROUP BY d.history.id " +
+           "HAVING COUNT(d) > :threshold")
+    List<Long> findHistoryIdsWithChainLongerThan(@Param("threshold") long threshold);
+
+    /**
+     * Delete a whole chain (after it was folded into its base)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SnapshotDelta d WHERE d.history.id = :historyId")
+    int deleteByHistoryId(@Param("historyId") Long historyId);
+}
@@ -0,0 +1,55 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.TimeOff;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for TimeOff entity
+ */
+@Repository
+public interface TimeOffRepository extends JpaRepository<TimeOff, Long> {
+
+    /**
+     * Find active time off by id
+     */
+    Optional<TimeOff> findByIdAndDeletedFalse(Long id);
+
+    /**
+     * Find active time off overlapping a date range (inclusive), with concierge loaded
+     */
+    @Query("SELECT t FROM TimeOff t JOIN FETCH t.concierge " +
+           "WHERE t.deleted = false " +
+           "AND t.startDate <= :endDate AND t.endDate >= :startDate " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<TimeOff> findOverlapping(@Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find active time off of one concierge overlapping a date range (inclusive)
+     */
+    @Query("SELECT t FROM TimeOff t JOIN FETCH t.concierge " +
+           "WHERE t.deleted = false " +
+           "AND t.concierge.id = :conciergeId " +
+           "AND t.startDate <= :endDate AND t.endDate >= :startDate " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<TimeOff> findOverlappingByConcierge(@Param("conciergeId") Long conciergeId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * Find (concierge id, start date, end date) of active time off overlapping a date range
+     * Used to build the availability index without loading entities
+     */
+    @Query("SELECT t.concierge.id, t.startDate, t.endDate FROM TimeOff t " +
+           "WHERE t.deleted = false " +
+           "AND t.startDate <= :endDate AND t.endDate >= :startDate")
+    List<Object[]> findPeriodsOverlapping(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,68 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.TimeOffDto;
+import com.vbforge.concierge.exception.ConciergeNotFoundException;
+import com.vbforge.concierge.exception.ConcurrentUpdateException;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.exception.TimeOffNotFoundException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for concierge availability (time-off periods)
+ */
+public interface AvailabilityService {
+
+    /**
+     * Create a time-off period
+     * @param timeOffDto Time-off data
+     * @return Created time off
+     * @throws ConciergeNotFoundException if concierge not found
+     * @throws InvalidInputException if the date range is invalid
+     */
+    TimeOffDto createTimeOff(TimeOffDto timeOffDto);
+
+    /**
+     * Update a time-off period
+     * @param id Time-off ID
+     * @param timeOffDto Updated data
+     * @return Updated time off
+     * @throws TimeOffNotFoundException if not found
+     * @throws ConcurrentUpdateException if the given version is stale
+     */
+    TimeOffDto updateTimeOff(Long id, TimeOffDto timeOffDto);
+
+    /**
+     * Soft delete a time-off period
+     * @param id Time-off ID
+     * @throws TimeOffNotFoundException if not found
+     */
+    void deleteTimeOff(Long id);
+
+    /**
+     * Get time off by ID
+     * @param id Time-off ID
+     * @return Time-off DTO
+     * @throws TimeOffNotFoundException if not found
+     */
+    TimeOffDto getTimeOffById(Long id);
+
+    /**
+     * Get time off overlapping a date range (inclusive)
+     * @param conciergeId Concierge ID (null for all concierges)
+     * @param startDate Start date (null for the first day of the current year)
+     * @param endDate End date (null for the last day of the start date's year)
+     * @return Time off ordered by start date
+     */
+    List<TimeOffDto> getTimeOff(Long conciergeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Check if a concierge can work on a date (served from the in-memory availability index)
+     * @param conciergeId Concierge ID
+     * @param date Date
+     * @return true if no time off covers the date
+     */
+    boolean isAvailable(Long conciergeId, LocalDate date);
+
+}
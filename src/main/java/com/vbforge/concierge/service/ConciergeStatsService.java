@@ -0,0 +1,21 @@
+package com.vbforge.concierge.service;
+
+/**
+ * Service for the materialized per-concierge monthly shift counters (concierge_month_stats)
+ * Counters are kept up to date by the shift write paths; this service repairs any drift
+ */
+public interface ConciergeStatsService {
+
+    /**
+     * Recompute every counter from active shifts (scheduled nightly)
+     * @return Number of counter rows written
+     */
+    int rebuildMonthStats();
+
+    /**
+     * Recompute the counters of one month from active shifts
+     * @return Number of counter rows written
+     */
+    int rebuildMonthStats(int year, int monthValue);
+
+}
@@ -0,0 +1,42 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.ExportJobDto;
+import com.vbforge.concierge.enums.ExportFormat;
+import com.vbforge.concierge.exception.ExportException;
+import com.vbforge.concierge.exception.InvalidInputException;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service for asynchronous export jobs
+ * Jobs run on a bounded worker pool; finished files are cached on disk per data version
+ */
+public interface ExportJobService {
+
+    /**
+     * Submit an export of a date range for the current user
+     * Returns a completed job immediately when an identical export of unchanged data is cached
+     * @throws InvalidInputException if the range is invalid or a PDF range covers more than 366 days
+     * @throws ExportException if the job queue is full
+     */
+    ExportJobDto submit(ExportFormat format, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Get job status (owner or admin only)
+     */
+    ExportJobDto getJob(String jobId);
+
+    /**
+     * Find all jobs of the current user (all jobs for admins)
+     */
+    List<ExportJobDto> getJobsForCurrentUser();
+
+    /**
+     * Get the result file of a completed job (owner or admin only)
+     * @throws ExportException if the job is not completed or the result has been evicted
+     */
+    Path getResultFile(String jobId);
+
+}
@@ -0,0 +1,61 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.exception.ExportException;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.IntConsumer;
+
+/**
+ * Service for exporting schedules
+ */
+public interface ExportService {
+
+    /**
+     * Stream the schedule of a date range as CSV
+     * Rows are written while they are read from the database, nothing is collected in memory
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @param outputStream Target stream (not closed)
+     * @return Number of shift rows written
+     * @throws ExportException if the export fails
+     */
+    long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream outputStream);
+
+    /**
+     * Stream the schedule of a date range as CSV, reporting percent complete (0-100)
+     * @param progress Receives percent complete while rows are written
+     * @return Number of shift rows written
+     * @throws ExportException if the export fails
+     */
+    long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream outputStream, IntConsumer progress);
+
+    /**
+     * Write the roster of a month as a one-page PDF
+     * @param year Year
+     * @param monthValue Month (1-12)
+     * @param outputStream Target stream (not closed)
+     * @throws ExportException if the export fails
+     */
+    void exportMonthPdf(int year, int monthValue, OutputStream outputStream);
+
+    /**
+     * Write the rosters of a whole year as a PDF (one page per month, rendered in parallel)
+     * @param year Year
+     * @param outputStream Target stream (not closed)
+     * @throws ExportException if the export fails
+     */
+    void exportYearPdf(int year, OutputStream outputStream);
+
+    /**
+     * Write the rosters of a range of months as a PDF, reporting percent complete (0-100)
+     * @param firstMonth First month (inclusive)
+     * @param lastMonth Last month (inclusive)
+     * @param outputStream Target stream (not closed)
+     * @param progress Receives percent complete while pages are written
+     * @throws ExportException if the export fails
+     */
+    void exportPdf(YearMonth firstMonth, YearMonth lastMonth, OutputStream outputStream, IntConsumer progress);
+
+}
@@ -0,0 +1,26 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.FairnessReportDto;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for multi-year fairness analytics
+ */
+public interface FairnessService {
+
+    /**
+     * Get fairness report of whole years
+     * @param startYear First year
+     * @param endYear Last year (inclusive)
+     */
+    FairnessReportDto getFairnessReport(int startYear, int endYear);
+
+    /**
+     * Get fairness report of an inclusive date range
+     * @param startDate First day
+     * @param endDate Last day
+     */
+    FairnessReportDto getFairnessReport(LocalDate startDate, LocalDate endDate);
+
+}
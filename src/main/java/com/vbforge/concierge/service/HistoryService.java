@@ -1,11 +1,11 @@
 package com.vbforge.concierge.service;
 
+import com.vbforge.concierge.dto.CursorPageDto;
 import com.vbforge.concierge.dto.MonthHistoryDto;
 import com.vbforge.concierge.exception.MonthHistoryNotFoundException;
 import com.vbforge.concierge.exception.SnapshotException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -61,11 +61,12 @@ public interface HistoryService {
     List<MonthHistoryDto> getAllHistory();
 
     /**
-     * Get history with pagination
-     * @param pageable Pagination parameters
-     * @return Page of history DTOs
+     * Get history page by keyset pagination, most recent first (no count query)
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param size Page size (1-100)
+     * @return Page of history DTOs with the cursor of the next page
      */
-    Page<MonthHistoryDto> getHistoryPage(Pageable pageable);
+    CursorPageDto<MonthHistoryDto> getHistoryPage(String cursor, int size);
 
     /**
      * Get latest N history records
@@ -82,6 +83,50 @@ public interface HistoryService {
      */
     void restoreFromSnapshot(Long historyId);
 
+    /**
+     * Restore shifts from snapshot
+     * @param historyId History ID
+     * @param diffOnly Only touch days that differ from the snapshot
+     * @return Number of shifts soft deleted plus shifts inserted
+     * @throws MonthHistoryNotFoundException if history not found
+     * @throws SnapshotException if restoration fails
+     */
+    int restoreFromSnapshot(Long historyId, boolean diffOnly);
+
+    /**
+     * Restore every month of a year that has a snapshot in one pipeline
+     * Months without a snapshot are left untouched
+     * @param year Year
+     * @param diffOnly Only touch days that differ from the snapshots
+     * @return Number of shifts soft deleted plus shifts inserted
+     * @throws SnapshotException if restoration fails
+     */
+    int restoreYearFromSnapshots(int year, boolean diffOnly);
+
+    /**
+     * Record a point-in-time checkpoint of a month as a delta chained onto its snapshot
+     * Only days that changed since the previous checkpoint are stored; creates the base snapshot if missing
+     * @param year Year
+     * @param monthValue Month (1-12)
+     * @return Number of changed days recorded
+     */
+    int createCheckpoint(int year, int monthValue);
+
+    /**
+     * Restore a month to its state at a point in time (base snapshot + checkpoints up to that time)
+     * @param historyId Base snapshot ID
+     * @param at Point in time
+     * @return Number of shifts soft deleted plus shifts inserted
+     * @throws SnapshotException if the time is before the (compacted) base snapshot
+     */
+    int restoreToTimestamp(Long historyId, LocalDateTime at);
+
+    /**
+     * Fold delta chains longer than the configured threshold into new base snapshots
+     * @return Number of chains compacted
+     */
+    int compactDeltaChains();
+
     /**
      * Duplicate month schedule to another month
      * @param sourceYear Source year
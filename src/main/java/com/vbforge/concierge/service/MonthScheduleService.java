@@ -1,6 +1,7 @@
 package com.vbforge.concierge.service;
 
 import com.vbforge.concierge.dto.CalendarDayDto;
+import com.vbforge.concierge.dto.MonthCalendarDto;
 import com.vbforge.concierge.dto.MonthScheduleDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 
@@ -21,6 +22,14 @@ public interface MonthScheduleService {
      */
     MonthScheduleDto getMonthSchedule(int year, int monthValue);
 
+    /**
+     * Get compact month calendar for JSON clients (built from the cached month schedule)
+     * @param year Year
+     * @param monthValue Month (1-12)
+     * @return Compact calendar with positional day assignments
+     */
+    MonthCalendarDto getMonthCalendar(int year, int monthValue);
+
     /**
      * Get shifts for specific month
      * @param year Year
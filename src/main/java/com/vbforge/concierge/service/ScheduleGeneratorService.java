@@ -0,0 +1,31 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.GeneratedScheduleDto;
+import com.vbforge.concierge.dto.OptimizedScheduleDto;
+
+/**
+ * Service interface for automatic schedule generation
+ */
+public interface ScheduleGeneratorService {
+
+    /**
+     * Fill the unassigned dates of a month with a fair rotation of the active concierges
+     * @param year Year
+     * @param monthValue Month (1-12)
+     * @param minRestDays Minimum free days between two shifts of a concierge (null for the configured default)
+     * @param dryRun Only compute the proposal, do not write it
+     * @return Proposed (or inserted) shifts with the resulting balance
+     */
+    GeneratedScheduleDto generateMonth(int year, int monthValue, Integer minRestDays, boolean dryRun);
+
+    /**
+     * Plan several months ahead with the optimizer (fair totals, weekends and holidays, including history)
+     * @param year Year of the first month
+     * @param monthValue First month (1-12)
+     * @param months Number of months to plan
+     * @param timeBudgetMs Search time (null for the configured default)
+     * @param dryRun Only compute the proposal, do not write it
+     * @return Best schedule found within the time budget
+     */
+    OptimizedScheduleDto optimizeMonths(int year, int monthValue, int months, Long timeBudgetMs, boolean dryRun);
+}
@@ -1,21 +1,25 @@
 package com.vbforge.concierge.service;
 
+import com.vbforge.concierge.dto.BulkAssignmentResultDto;
+import com.vbforge.concierge.dto.CursorPageDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ShiftType;
 import com.vbforge.concierge.exception.ConciergeNotFoundException;
 import com.vbforge.concierge.exception.ShiftAssignmentNotFoundException;
 import com.vbforge.concierge.exception.ShiftConflictException;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /** service interface for shift scheduling operation */
 public interface ShiftSchedulingService {
 
     /**
-     * Assign shift to a concierge for a specific date
+     * Assign shift to a concierge for a specific date and slot (shift type)
      * @param shiftAssignmentDto Shift assignment data
      * @return Created shift assignment
-     * @throws ShiftConflictException if shift already exists for date
+     * @throws ShiftConflictException if the slot is taken or overlaps a shift of the date
      * @throws ConciergeNotFoundException if concierge not found
      */
     ShiftAssignmentDto assignShift(ShiftAssignmentDto shiftAssignmentDto);
@@ -37,12 +41,20 @@ public interface ShiftSchedulingService {
     void removeShift(Long id);
 
     /**
-     * Remove shift by date
+     * Remove all shifts (every slot) of a date
      * @param date Shift date
-     * @throws ShiftAssignmentNotFoundException if shift not found
+     * @throws ShiftAssignmentNotFoundException if no shift found
      */
     void removeShiftByDate(LocalDate date);
 
+    /**
+     * Remove the shift of one slot of a date
+     * @param date Shift date
+     * @param shiftType Slot
+     * @throws ShiftAssignmentNotFoundException if shift not found
+     */
+    void removeShiftByDate(LocalDate date, ShiftType shiftType);
+
     /**
      * Get shift by ID
      * @param id Shift assignment ID
@@ -52,18 +64,28 @@ public interface ShiftSchedulingService {
     ShiftAssignmentDto getShiftById(Long id);
 
     /**
-     * Get shift by date
+     * Get first shift of a date in slot order
      * @param date Shift date
      * @return Shift assignment DTO or null if not assigned
      */
     ShiftAssignmentDto getShiftByDate(LocalDate date);
 
     /**
-     * Get all shifts for a concierge
+     * Get shift of one slot of a date
+     * @param date Shift date
+     * @param shiftType Slot
+     * @return Shift assignment DTO or null if not assigned
+     */
+    ShiftAssignmentDto getShiftByDate(LocalDate date, ShiftType shiftType);
+
+    /**
+     * Get shifts of a concierge by keyset pagination, most recent first (no count query)
      * @param conciergeId Concierge ID
-     * @return List of shift assignments
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param size Page size (1-100)
+     * @return Page of shift assignments with the cursor of the next page
      */
-    List<ShiftAssignmentDto> getShiftsByConcierge(Long conciergeId);
+    CursorPageDto<ShiftAssignmentDto> getShiftsByConcierge(Long conciergeId, String cursor, int size);
 
     /**
      * Get shifts in date range
@@ -82,11 +104,34 @@ public interface ShiftSchedulingService {
 
     /**
      * Bulk assign shifts
+     * Invalid or conflicting rows are skipped (see bulkAssignShiftsWithReport)
      * @param shiftAssignments List of shift assignments
-     * @return List of created shift assignments
+     * @return List of created shift assignments (IDs are not populated)
      */
     List<ShiftAssignmentDto> bulkAssignShifts(List<ShiftAssignmentDto> shiftAssignments);
 
+    /**
+     * Bulk assign shifts with a per-row report
+     * Validates the whole batch in memory, resolves concierges and existing dates in two queries
+     * and inserts the valid rows with JDBC batch statements
+     * @param shiftAssignments List of shift assignments
+     * @return Per-row success/failure report
+     */
+    BulkAssignmentResultDto bulkAssignShiftsWithReport(List<ShiftAssignmentDto> shiftAssignments);
+
+    /**
+     * Replace the schedule of the given months with the provided shifts
+     * Full mode soft deletes the months with one UPDATE; diff mode only touches days that differ
+     * @param year Year
+     * @param months Months (1-12) to replace
+     * @param shifts Shifts to store (dates outside the months are ignored)
+     * @param diffOnly Only change days whose assignment differs from the provided shifts
+     * @return Number of shifts soft deleted plus shifts inserted
+     * @throws org.springframework.dao.OptimisticLockingFailureException if a concurrent request assigned
+     *         one of the slots being replaced (the transaction must roll back)
+     */
+    int replaceMonthShifts(int year, Collection<Integer> months, List<ShiftAssignmentDto> shifts, boolean diffOnly);
+
     /**
      * Delete all shifts for a concierge
      * @param conciergeId Concierge ID
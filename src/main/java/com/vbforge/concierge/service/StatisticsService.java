@@ -0,0 +1,39 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.StatisticsDto;
+import com.vbforge.concierge.dto.YearStatisticsDto;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for shift statistics (aggregated in the database)
+ */
+public interface StatisticsService {
+
+    /**
+     * Get statistics of one month
+     * @param year Year
+     * @param monthValue Month (1-12)
+     */
+    StatisticsDto getMonthStatistics(int year, int monthValue);
+
+    /**
+     * Get statistics of one year
+     * @param year Year
+     */
+    StatisticsDto getYearStatistics(int year);
+
+    /**
+     * Get statistics of an inclusive date range (at most 366 days)
+     * @param startDate First day
+     * @param endDate Last day
+     */
+    StatisticsDto getStatistics(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Get all 12 months of a year: per-concierge counts, coverage and unassigned days
+     * @param year Year
+     */
+    YearStatisticsDto getYearOverview(int year);
+
+}
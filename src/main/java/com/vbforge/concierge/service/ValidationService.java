@@ -67,4 +67,12 @@ public interface ValidationService {
      */
     void validateConciergeCanBeDeleted(Long conciergeId);
 
+    /**
+     * Validate concierge has no time off on a date (in-memory check, no query per date)
+     * @param conciergeId Concierge ID
+     * @param date Shift date
+     * @throws ConciergeUnavailableException if a time-off period covers the date
+     */
+    void validateConciergeAvailable(Long conciergeId, LocalDate date);
+
 }
@@ -0,0 +1,166 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.cache.AvailabilityIndex;
+import com.vbforge.concierge.dto.TimeOffDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.TimeOff;
+import com.vbforge.concierge.exception.ConciergeNotFoundException;
+import com.vbforge.concierge.exception.ConcurrentUpdateException;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.exception.TimeOffNotFoundException;
+import com.vbforge.concierge.mapper.TimeOffMapper;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.TimeOffRepository;
+import com.vbforge.concierge.service.AvailabilityService;
+import com.vbforge.concierge.service.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Implementation of AvailabilityService
+ * Every write invalidates the affected years of the AvailabilityIndex
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final long MAX_PERIOD_DAYS = 366;
+
+    private final TimeOffRepository timeOffRepository;
+    private final ConciergeRepository conciergeRepository;
+    private final TimeOffMapper timeOffMapper;
+    private final ValidationService validationService;
+    private final AvailabilityIndex availabilityIndex;
+
+    @Override
+    @Transactional
+    public TimeOffDto createTimeOff(TimeOffDto timeOffDto) {
+        log.info("Creating time off for concierge ID: {} from {} to {}",
+                timeOffDto.getConciergeId(), timeOffDto.getStartDate(), timeOffDto.getEndDate());
+
+        validatePeriod(timeOffDto.getStartDate(), timeOffDto.getEndDate());
+
+        TimeOff timeOff = timeOffMapper.toEntity(timeOffDto);
+        timeOff.setConcierge(findConciergeById(timeOffDto.getConciergeId()));
+
+        TimeOff saved = timeOffRepository.save(timeOff);
+        availabilityIndex.invalidate(saved.getStartDate(), saved.getEndDate());
+
+        log.info("Time off created with ID: {}", saved.getId());
+        return timeOffMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public TimeOffDto updateTimeOff(Long id, TimeOffDto timeOffDto) {
+        log.info("Updating time off ID: {}", id);
+
+        TimeOff existing = findTimeOffById(id);
+        LocalDate previousStart = existing.getStartDate();
+        LocalDate previousEnd = existing.getEndDate();
+
+        //fail fast when the client edited an older version
+        if (timeOffDto.getVersion() != null && !timeOffDto.getVersion().equals(existing.getVersion())) {
+            throw new ConcurrentUpdateException("TimeOff", id);
+        }
+
+        validatePeriod(timeOffDto.getStartDate(), timeOffDto.getEndDate());
+
+        if (!existing.getConcierge().getId().equals(timeOffDto.getConciergeId())) {
+            existing.setConcierge(findConciergeById(timeOffDto.getConciergeId()));
+        }
+        timeOffMapper.updateEntityFromDto(timeOffDto, existing);
+
+        TimeOff updated;
+        try {
+            updated = timeOffRepository.saveAndFlush(existing);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("TimeOff", id, e);
+        }
+        availabilityIndex.invalidate(previousStart, previousEnd);
+        availabilityIndex.invalidate(updated.getStartDate(), updated.getEndDate());
+
+        log.info("Time off updated: {}", updated.getId());
+        return timeOffMapper.toDto(updated);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTimeOff(Long id) {
+        log.info("Deleting time off ID: {}", id);
+
+        TimeOff timeOff = findTimeOffById(id);
+        timeOff.softDelete();
+        timeOffRepository.save(timeOff);
+        availabilityIndex.invalidate(timeOff.getStartDate(), timeOff.getEndDate());
+
+        log.info("Time off soft deleted: {}", id);
+    }
+
+    @Override
+    public TimeOffDto getTimeOffById(Long id) {
+        log.debug("Getting time off by ID: {}", id);
+        return timeOffMapper.toDto(findTimeOffById(id));
+    }
+
+    @Override
+    public List<TimeOffDto> getTimeOff(Long conciergeId, LocalDate startDate, LocalDate endDate) {
+        LocalDate from = startDate != null ? startDate : LocalDate.now().withDayOfYear(1);
+        LocalDate to = endDate != null ? endDate : LocalDate.of(from.getYear(), 12, 31);
+        if (to.isBefore(from)) {
+            throw new InvalidInputException("End date cannot be before start date");
+        }
+        log.debug("Getting time off from {} to {} for concierge ID: {}", from, to, conciergeId);
+
+        List<TimeOff> timeOff = conciergeId != null
+                ? timeOffRepository.findOverlappingByConcierge(conciergeId, from, to)
+                : timeOffRepository.findOverlapping(from, to);
+        return timeOffMapper.toDtoList(timeOff);
+    }
+
+    @Override
+    public boolean isAvailable(Long conciergeId, LocalDate date) {
+        return availabilityIndex.isAvailable(conciergeId, date);
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to find active TimeOff by id
+    private TimeOff findTimeOffById(Long id) {
+        return timeOffRepository.findByIdAndDeletedFalse(id)
+                .orElseThrow(() -> new TimeOffNotFoundException(id));
+    }
+
+    //helper method to find Concierge by id
+    private Concierge findConciergeById(Long id) {
+        if (id == null) {
+            throw new InvalidInputException("Concierge ID cannot be null");
+        }
+        return conciergeRepository.findById(id)
+                .orElseThrow(() -> new ConciergeNotFoundException(id));
+    }
+
+    //helper method to validate a time-off date range
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        validationService.validateDate(startDate);
+        validationService.validateDate(endDate);
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidInputException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new InvalidInputException("Time off cannot be longer than " + MAX_PERIOD_DAYS + " days");
+        }
+    }
+
+}
@@ -1,17 +1,21 @@
 package com.vbforge.concierge.service.impl;
 
+import com.vbforge.concierge.cache.MonthScheduleCache;
 import com.vbforge.concierge.service.ConciergeService;
 
 import com.vbforge.concierge.dto.ConciergeDto;
 import com.vbforge.concierge.entity.Concierge;
 import com.vbforge.concierge.enums.ColorType;
 import com.vbforge.concierge.exception.ConciergeNotFoundException;
+import com.vbforge.concierge.exception.ConcurrentUpdateException;
 import com.vbforge.concierge.mapper.ConciergeMapper;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
 import com.vbforge.concierge.repository.ConciergeRepository;
 import com.vbforge.concierge.service.ValidationService;
 import com.vbforge.concierge.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,8 +32,10 @@ import java.util.List;
 public class ConciergeServiceImpl implements ConciergeService {
 
     private final ConciergeRepository conciergeRepository;
+    private final ConciergeMonthStatsRepository statsRepository;
     private final ConciergeMapper conciergeMapper;
     private final ValidationService validationService;
+    private final MonthScheduleCache monthScheduleCache;
 
     @Override
     @Transactional
@@ -40,6 +46,7 @@ public class ConciergeServiceImpl implements ConciergeService {
 
         Concierge concierge = conciergeMapper.toEntity(conciergeDto);
         Concierge saved = conciergeRepository.save(concierge);
+        monthScheduleCache.invalidateAll();
         log.info("Concierge created with ID: {}", saved.getId());
         return conciergeMapper.toDto(saved);
     }
@@ -51,12 +58,23 @@ public class ConciergeServiceImpl implements ConciergeService {
 
         Concierge exist = findConciergeById(id);
 
+        //fail fast when the client edited an older version
+        if (conciergeDto.getVersion() != null && !conciergeDto.getVersion().equals(exist.getVersion())) {
+            throw new ConcurrentUpdateException("Concierge", id);
+        }
+
         //check if name been changed and new name is unique
         if(!exist.getName().equalsIgnoreCase(conciergeDto.getName())){
             validationService.validateConciergeNameUnique(conciergeDto.getName());
         }
         conciergeMapper.updateEntityFromDto(conciergeDto, exist);
-        Concierge updated = conciergeRepository.save(exist);
+        Concierge updated;
+        try {
+            updated = conciergeRepository.saveAndFlush(exist);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("Concierge", id, e);
+        }
+        monthScheduleCache.invalidateAll();
 
         log.info("Concierge updated: {}", updated.getName());
         return conciergeMapper.toDto(updated);
@@ -74,6 +92,7 @@ public class ConciergeServiceImpl implements ConciergeService {
 
         concierge.softDelete();
         conciergeRepository.save(concierge);
+        monthScheduleCache.invalidateAll();
 
         log.info("Concierge soft deleted: {}", concierge.getName());
     }
@@ -85,9 +104,11 @@ public class ConciergeServiceImpl implements ConciergeService {
         Concierge concierge = findConciergeById(id);
         ConciergeDto dto = conciergeMapper.toDto(concierge);
 
-        // Enrich with shift counts
-        dto.setCurrentMonthShiftCount(getCurrentMonthShiftCount(id).intValue());
-        dto.setTotalShiftCount(getTotalShiftCount(id).intValue());
+        // Enrich with shift counts (one read of the concierge's month counters)
+        Object[] counts = statsRepository.findShiftCounts(id,
+                DateUtils.getCurrentYear(), DateUtils.getCurrentMonth()).get(0);
+        dto.setTotalShiftCount(((Number) counts[0]).intValue());
+        dto.setCurrentMonthShiftCount(((Number) counts[1]).intValue());
 
         return dto;
     }
@@ -133,16 +154,19 @@ public class ConciergeServiceImpl implements ConciergeService {
         Concierge concierge = findConciergeById(id);
         concierge.activate();
         conciergeRepository.save(concierge);
+        monthScheduleCache.invalidateAll();
 
         log.info("Concierge Activated: {}", concierge.getName());
     }
 
     @Override
+    @Transactional
     public void deactivateConcierge(Long id) {
         log.info("Deactivating Concierge ID: {}", id);
         Concierge concierge = findConciergeById(id);
         concierge.deactivate();
         conciergeRepository.save(concierge);
+        monthScheduleCache.invalidateAll();
 
         log.info("Concierge Deactivated: {}", concierge.getName());
     }
@@ -156,12 +180,13 @@ public class ConciergeServiceImpl implements ConciergeService {
     public Long getCurrentMonthShiftCount(Long conciergeId) {
         int year = DateUtils.getCurrentYear();
         int month = DateUtils.getCurrentMonth();
-        return conciergeRepository.countShiftsByMonth(conciergeId, year, month);
+        Integer count = statsRepository.findShiftCount(conciergeId, year, month);
+        return count != null ? count.longValue() : 0L;
     }
 
     @Override
     public Long getTotalShiftCount(Long conciergeId) {
-        return conciergeRepository.countTotalShifts(conciergeId);
+        return statsRepository.sumShiftCount(conciergeId);
     }
 
     //helper method to find Concierge by id (return Optional<Concierge>)
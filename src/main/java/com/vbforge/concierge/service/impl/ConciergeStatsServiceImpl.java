@@ -0,0 +1,48 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
+import com.vbforge.concierge.service.ConciergeStatsService;
+import com.vbforge.concierge.service.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of ConciergeStatsService
+ * A rebuild runs in one transaction: readers see either the old or the new counters
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConciergeStatsServiceImpl implements ConciergeStatsService {
+
+    private final ConciergeMonthStatsRepository statsRepository;
+    private final ValidationService validationService;
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${schedule.stats.rebuild-cron:0 15 4 * * *}")
+    public int rebuildMonthStats() {
+        long start = System.currentTimeMillis();
+        int rows = statsRepository.rebuildAll();
+
+        log.info("Rebuilt {} concierge month counters in {} ms", rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildMonthStats(int year, int monthValue) {
+        log.info("Rebuilding concierge month counters for {}-{}", year, monthValue);
+
+        validationService.validateYearMonth(year, monthValue);
+
+        return statsRepository.rebuildMonths(year, List.of(monthValue));
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.vbforge.concierge.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work of an internal bulk job in its own transaction
+ * and retries it when it loses an optimistic lock race against a concurrent edit
+ * Used by delta chain compaction and snapshot restores. Bulk assignment is not wrapped: it only
+ * inserts, and a slot taken concurrently is reported as a failed row instead of failing the batch.
+ *
+ * Inside an existing transaction the work runs once: a failed attempt has already
+ * marked the outer transaction rollback-only, so only the caller can retry.
+ */
+@Slf4j
+@Component
+class ConflictRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    ConflictRetryExecutor(PlatformTransactionManager transactionManager,
+                          @Value("${schedule.retry.max-attempts:3}") int maxAttempts,
+                          @Value("${schedule.retry.backoff-ms:50}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * Execute work, retrying on optimistic lock failures
+     * @throws OptimisticLockingFailureException if every attempt conflicts
+     */
+    <T> T execute(String description, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("{} lost an update race (attempt {}/{}), retrying", description, attempt, maxAttempts);
+                backoff(attempt);
+            }
+        }
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void backoff(int attempt) {
+        // linear backoff with jitter so competing jobs do not retry in lock step
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry " + attempt, e);
+        }
+    }
+
+}
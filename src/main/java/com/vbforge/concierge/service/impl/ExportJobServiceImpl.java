@@ -0,0 +1,268 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.ExportJobDto;
+import com.vbforge.concierge.enums.ExportFormat;
+import com.vbforge.concierge.enums.ExportJobStatus;
+import com.vbforge.concierge.exception.ExportException;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.exception.ResourceNotFoundException;
+import com.vbforge.concierge.export.ExportJob;
+import com.vbforge.concierge.export.ExportResultStore;
+import com.vbforge.concierge.security.SecurityUtils;
+import com.vbforge.concierge.service.ExportJobService;
+import com.vbforge.concierge.service.ExportService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of ExportJobService
+ * Jobs are kept in memory; they do not survive a restart (neither does the result cache)
+ */
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+    /**
+     * PDF jobs hold every month and rendered page in memory until the merge, so their span is capped
+     */
+    private static final long MAX_PDF_RANGE_DAYS = 366;
+
+    private final ExportService exportService;
+    private final ExportResultStore resultStore;
+    private final MonthScheduleCache monthScheduleCache;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(ExportService exportService,
+                                ExportResultStore resultStore,
+                                MonthScheduleCache monthScheduleCache,
+                                @Value("${export.jobs.threads:2}") int threads,
+                                @Value("${export.jobs.queue-capacity:20}") int queueCapacity,
+                                @Value("${export.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.exportService = exportService;
+        this.resultStore = resultStore;
+        this.monthScheduleCache = monthScheduleCache;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-job-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public ExportJobDto submit(ExportFormat format, LocalDate startDate, LocalDate endDate) {
+        if (format == null || startDate == null || endDate == null) {
+            throw new InvalidInputException("Export format, start date and end date are required");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidInputException("Start date must not be after end date");
+        }
+        // PDF renders whole months, so measure the months it will actually cover
+        if (format == ExportFormat.PDF && ChronoUnit.DAYS.between(YearMonth.from(startDate).atDay(1),
+                YearMonth.from(endDate).atEndOfMonth()) >= MAX_PDF_RANGE_DAYS) {
+            throw new InvalidInputException("PDF export cannot cover more than " + MAX_PDF_RANGE_DAYS + " days");
+        }
+        pruneFinishedJobs();
+
+        String cacheKey = cacheKey(format, startDate, endDate);
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), SecurityUtils.getCurrentUsername(),
+                format, startDate, endDate, cacheKey);
+
+        Path cached = resultStore.find(cacheKey);
+        if (cached != null) {
+            log.info("Export {} {} - {} served from result cache", format, startDate, endDate);
+            job.complete(cached, true);
+            jobs.put(job.getId(), job);
+            return toDto(job);
+        }
+
+        // A repeated submit (double-click) while the same export is still running gets that job back
+        synchronized (jobs) {
+            ExportJob inFlight = findInFlightJob(cacheKey, job.getOwner());
+            if (inFlight != null) {
+                log.info("Export {} {} - {} already queued as job {}", format, startDate, endDate, inFlight.getId());
+                return toDto(inFlight);
+            }
+            jobs.put(job.getId(), job);
+        }
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ExportException("Export queue is full, please try again later");
+        }
+
+        log.info("Export job {} queued: {} {} - {}", job.getId(), format, startDate, endDate);
+        return toDto(job);
+    }
+
+    @Override
+    public ExportJobDto getJob(String jobId) {
+        return toDto(findOwnedJob(jobId));
+    }
+
+    @Override
+    public List<ExportJobDto> getJobsForCurrentUser() {
+        pruneFinishedJobs();
+        String username = SecurityUtils.getCurrentUsername();
+        boolean admin = SecurityUtils.isCurrentUserAdmin();
+
+        return jobs.values().stream()
+                .filter(job -> admin || isOwner(job, username))
+                .sorted(Comparator.comparing(ExportJob::getSubmittedAt).reversed())
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    public Path getResultFile(String jobId) {
+        ExportJob job = findOwnedJob(jobId);
+
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new ExportException("Export job " + jobId + " is not completed (" + job.getStatus() + ")");
+        }
+        Path file = job.getResultFile();
+        if (file == null || !Files.exists(file)) {
+            throw new ExportException("Export result of job " + jobId + " has expired, please submit it again");
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private void run(ExportJob job) {
+        job.start();
+        Path tempFile = resultStore.newTempFile();
+
+        try (OutputStream out = Files.newOutputStream(tempFile)) {
+            if (job.getFormat() == ExportFormat.CSV) {
+                exportService.exportCsv(job.getStartDate(), job.getEndDate(), out, job::updateProgress);
+            } else {
+                exportService.exportPdf(YearMonth.from(job.getStartDate()), YearMonth.from(job.getEndDate()),
+                        out, job::updateProgress);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Export job {} failed: {}", job.getId(), e.getMessage(), e);
+            resultStore.deleteQuietly(tempFile);
+            job.fail(e.getMessage());
+            return;
+        }
+
+        try {
+            job.complete(resultStore.store(job.getCacheKey(), tempFile, job.getFormat().getExtension()), false);
+            log.info("Export job {} completed", job.getId());
+        } catch (IOException e) {
+            log.error("Export job {} could not store result: {}", job.getId(), e.getMessage(), e);
+            resultStore.deleteQuietly(tempFile);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Key of an export result: request parameters plus the cache version of every month it covers,
+     * so any write to one of those months makes the cached file unreachable
+     */
+    private String cacheKey(ExportFormat format, LocalDate startDate, LocalDate endDate) {
+        StringBuilder key = new StringBuilder()
+                .append(format).append('|').append(startDate).append('|').append(endDate);
+
+        YearMonth last = YearMonth.from(endDate);
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(last); month = month.plusMonths(1)) {
+            key.append('|').append(monthScheduleCache.getVersion(month));
+        }
+        return key.toString();
+    }
+
+    private ExportJob findOwnedJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job", "id", jobId);
+        }
+        if (!SecurityUtils.isCurrentUserAdmin() && !isOwner(job, SecurityUtils.getCurrentUsername())) {
+            throw new AccessDeniedException("Export job belongs to another user");
+        }
+        return job;
+    }
+
+    private ExportJob findInFlightJob(String cacheKey, String owner) {
+        return jobs.values().stream()
+                .filter(job -> !job.getStatus().isFinished())
+                .filter(job -> job.getCacheKey().equals(cacheKey) && isOwner(job, owner))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean isOwner(ExportJob job, String username) {
+        return job.getOwner() != null && job.getOwner().equals(username);
+    }
+
+    private void pruneFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.getStatus().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private ExportJobDto toDto(ExportJob job) {
+        Path file = job.getResultFile();
+        Long fileSize = null;
+        if (file != null) {
+            try {
+                fileSize = Files.size(file);
+            } catch (IOException e) {
+                // result evicted from the cache
+            }
+        }
+
+        return ExportJobDto.builder()
+                .id(job.getId())
+                .format(job.getFormat())
+                .startDate(job.getStartDate())
+                .endDate(job.getEndDate())
+                .status(job.getStatus())
+                .percentComplete(job.getPercentComplete())
+                .cached(job.isCached())
+                .fileName(job.getFileName())
+                .fileSize(fileSize)
+                .errorMessage(job.getErrorMessage())
+                .submittedAt(job.getSubmittedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+}
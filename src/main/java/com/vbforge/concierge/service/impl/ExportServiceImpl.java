@@ -0,0 +1,173 @@
+package com.vbforge.concierge.service.impl;
+
+import com.opencsv.CSVWriter;
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import com.vbforge.concierge.exception.ExportException;
+import com.vbforge.concierge.export.PdfRosterRenderer;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.service.ExportService;
+import com.vbforge.concierge.service.MonthScheduleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntConsumer;
+
+/**
+ * Implementation of ExportService
+ * Reads rows through a forward-only JDBC cursor and writes them straight to the output stream
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final String[] CSV_HEADER = {
+            "Date", "Day", "Concierge ID", "Concierge", "Color", "Shift Type", "Notes"
+    };
+
+    private static final String EXPORT_SQL =
+            "SELECT s.shift_date, s.shift_type, s.notes, c.id, c.name, c.color " +
+            "FROM shift_assignments s " +
+            "JOIN concierges c ON c.id = s.concierge_id " +
+            "WHERE s.deleted = FALSE " +
+            "AND s.shift_date BETWEEN ? AND ? " +
+            "ORDER BY s.shift_date, s.shift_type";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM shift_assignments s " +
+            "WHERE s.deleted = FALSE " +
+            "AND s.shift_date BETWEEN ? AND ?";
+
+    /** Rows written between flushes, so the client starts receiving bytes immediately */
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final MonthScheduleService monthScheduleService;
+    private final PdfRosterRenderer pdfRosterRenderer;
+
+    /**
+     * @param fetchSize JDBC fetch size (MySQL streams row by row with Integer.MIN_VALUE)
+     */
+    public ExportServiceImpl(DataSource dataSource,
+                             @Value("${export.csv.fetch-size:1000}") int fetchSize,
+                             MonthScheduleService monthScheduleService,
+                             PdfRosterRenderer pdfRosterRenderer) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.monthScheduleService = monthScheduleService;
+        this.pdfRosterRenderer = pdfRosterRenderer;
+    }
+
+    @Override
+    public long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream outputStream) {
+        return exportCsv(startDate, endDate, outputStream, null);
+    }
+
+    @Override
+    public long exportCsv(LocalDate startDate, LocalDate endDate, OutputStream outputStream, IntConsumer progress) {
+        log.info("Exporting CSV for {} - {}", startDate, endDate);
+
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new InvalidInputException("Export range is invalid: " + startDate + " - " + endDate);
+        }
+
+        // Progress needs the total up front (one COUNT on the covering index)
+        long total = progress != null ? countRows(startDate, endDate) : 0;
+
+        long[] rows = {0};
+        try {
+            CSVWriter csvWriter = new CSVWriter(new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+            csvWriter.writeNext(CSV_HEADER, false);
+            csvWriter.flush();
+
+            String[] line = new String[CSV_HEADER.length];
+            streamingJdbcTemplate.query(EXPORT_SQL, rs -> {
+                LocalDate date = rs.getDate(1).toLocalDate();
+                line[0] = date.toString();
+                line[1] = date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+                line[2] = String.valueOf(rs.getLong(4));
+                line[3] = rs.getString(5);
+                line[4] = rs.getString(6);
+                line[5] = rs.getString(2);
+                line[6] = rs.getString(3);
+                csvWriter.writeNext(line, false);
+
+                if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                    try {
+                        csvWriter.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (progress != null && total > 0) {
+                        progress.accept((int) Math.min(99, rows[0] * 100 / total));
+                    }
+                }
+            }, Date.valueOf(startDate), Date.valueOf(endDate));
+
+            csvWriter.flush();
+        } catch (IOException | UncheckedIOException | DataAccessException e) {
+            throw new ExportException("CSV", e);
+        }
+
+        if (progress != null) {
+            progress.accept(100);
+        }
+        log.info("Exported {} shifts to CSV", rows[0]);
+        return rows[0];
+    }
+
+    @Override
+    public void exportMonthPdf(int year, int monthValue, OutputStream outputStream) {
+        YearMonth month = YearMonth.of(year, monthValue);
+        exportPdf(month, month, outputStream, percent -> { });
+    }
+
+    @Override
+    public void exportYearPdf(int year, OutputStream outputStream) {
+        exportPdf(YearMonth.of(year, 1), YearMonth.of(year, 12), outputStream, percent -> { });
+    }
+
+    @Override
+    public void exportPdf(YearMonth firstMonth, YearMonth lastMonth, OutputStream outputStream, IntConsumer progress) {
+        log.info("Exporting PDF rosters for {} - {}", firstMonth, lastMonth);
+
+        if (firstMonth == null || lastMonth == null || lastMonth.isBefore(firstMonth)) {
+            throw new InvalidInputException("Export range is invalid: " + firstMonth + " - " + lastMonth);
+        }
+
+        // Schedules come from the month cache; only rendering runs in parallel
+        List<MonthScheduleDto> schedules = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            schedules.add(monthScheduleService.getMonthSchedule(month.getYear(), month.getMonthValue()));
+        }
+
+        int pages = schedules.size();
+        pdfRosterRenderer.render(schedules, outputStream, pagesDone -> progress.accept(pagesDone * 100 / pages));
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private long countRows(LocalDate startDate, LocalDate endDate) {
+        Long count = streamingJdbcTemplate.queryForObject(COUNT_SQL, Long.class,
+                Date.valueOf(startDate), Date.valueOf(endDate));
+        return count != null ? count : 0;
+    }
+
+}
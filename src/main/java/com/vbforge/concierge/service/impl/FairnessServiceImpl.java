@@ -0,0 +1,128 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.analytics.ShiftColumnStore;
+import com.vbforge.concierge.analytics.ShiftColumns;
+import com.vbforge.concierge.dto.ConciergeFairnessDto;
+import com.vbforge.concierge.dto.FairnessReportDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.service.FairnessService;
+import com.vbforge.concierge.service.ValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Implementation of FairnessService
+ * Figures come from the in-memory shift columns; the database is only asked for concierge names
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FairnessServiceImpl implements FairnessService {
+
+    private final ShiftColumnStore shiftColumnStore;
+    private final ConciergeRepository conciergeRepository;
+    private final ValidationService validationService;
+
+    @Override
+    public FairnessReportDto getFairnessReport(int startYear, int endYear) {
+        validationService.validateYearMonth(startYear, 1);
+        validationService.validateYearMonth(endYear, 12);
+
+        return getFairnessReport(LocalDate.of(startYear, 1, 1), LocalDate.of(endYear, 12, 31));
+    }
+
+    @Override
+    public FairnessReportDto getFairnessReport(LocalDate startDate, LocalDate endDate) {
+        log.debug("Getting fairness report from {} to {}", startDate, endDate);
+
+        if (startDate == null || endDate == null) {
+            throw new InvalidInputException("Start and end date are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidInputException("End date cannot be before start date");
+        }
+        validationService.validateYearMonth(startDate.getYear(), startDate.getMonthValue());
+        validationService.validateYearMonth(endDate.getYear(), endDate.getMonthValue());
+
+        int fromDay = (int) startDate.toEpochDay();
+        int toDay = (int) endDate.toEpochDay();
+        ShiftColumns.ConciergeFigures[] figures = shiftColumnStore.getColumns().aggregate(fromDay, toDay);
+
+        // Concierges with shifts in the period (any state) plus every active concierge
+        Map<Long, ShiftColumns.ConciergeFigures> byConcierge = new HashMap<>();
+        for (ShiftColumns.ConciergeFigures figure : figures) {
+            if (figure.shiftCount() > 0) {
+                byConcierge.put(figure.conciergeId(), figure);
+            }
+        }
+        Map<Long, Concierge> concierges = new HashMap<>();
+        conciergeRepository.findAllById(byConcierge.keySet()).forEach(c -> concierges.put(c.getId(), c));
+        conciergeRepository.findByActiveTrueAndDeletedFalse().forEach(c -> concierges.putIfAbsent(c.getId(), c));
+
+        int totalShifts = 0;
+        int totalWeekendShifts = 0;
+        int totalHolidayShifts = 0;
+        for (ShiftColumns.ConciergeFigures figure : byConcierge.values()) {
+            totalShifts += figure.shiftCount();
+            totalWeekendShifts += figure.weekendShiftCount();
+            totalHolidayShifts += figure.holidayShiftCount();
+        }
+
+        List<ConciergeFairnessDto> rows = new ArrayList<>(concierges.size());
+        for (Concierge concierge : concierges.values()) {
+            ShiftColumns.ConciergeFigures figure = byConcierge.getOrDefault(concierge.getId(),
+                    new ShiftColumns.ConciergeFigures(concierge.getId(), 0, 0, 0, 0, fromDay,
+                            toDay - fromDay + 1, fromDay));
+            rows.add(toDto(concierge, figure, totalWeekendShifts, totalHolidayShifts));
+        }
+        rows.sort(Comparator.comparing(ConciergeFairnessDto::getName, String.CASE_INSENSITIVE_ORDER));
+
+        return FairnessReportDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .concierges(rows)
+                .totalShifts(totalShifts)
+                .totalWeekendShifts(totalWeekendShifts)
+                .totalHolidayShifts(totalHolidayShifts)
+                .fairSharePercent(rows.isEmpty() ? 0 : 100.0 / rows.size())
+                .build();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to map column figures of one concierge to a report row
+    private ConciergeFairnessDto toDto(Concierge concierge, ShiftColumns.ConciergeFigures figure,
+                                      int totalWeekendShifts, int totalHolidayShifts) {
+        return ConciergeFairnessDto.builder()
+                .conciergeId(concierge.getId())
+                .name(concierge.getName())
+                .color(concierge.getColor())
+                .active(concierge.isActive() && !concierge.isDeleted())
+                .shiftCount(figure.shiftCount())
+                .weekendShiftCount(figure.weekendShiftCount())
+                .holidayShiftCount(figure.holidayShiftCount())
+                .weekendSharePercent(percent(figure.weekendShiftCount(), totalWeekendShifts))
+                .holidaySharePercent(percent(figure.holidayShiftCount(), totalHolidayShifts))
+                .longestStreak(figure.longestStreak())
+                .longestStreakStart(figure.longestStreak() > 0
+                        ? LocalDate.ofEpochDay(figure.longestStreakStart()) : null)
+                .longestGap(figure.longestGap())
+                .longestGapStart(figure.longestGap() > 0
+                        ? LocalDate.ofEpochDay(figure.longestGapStart()) : null)
+                .build();
+    }
+
+    private double percent(int part, int total) {
+        return total > 0 ? part * 100.0 / total : 0;
+    }
+}
@@ -3,32 +3,43 @@ package com.vbforge.concierge.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vbforge.concierge.dto.CursorPageDto;
 import com.vbforge.concierge.dto.MonthHistoryDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.entity.MonthHistory;
+import com.vbforge.concierge.entity.SnapshotDelta;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.InvalidInputException;
 import com.vbforge.concierge.exception.MonthHistoryNotFoundException;
 import com.vbforge.concierge.exception.SnapshotAlreadyExistsException;
 import com.vbforge.concierge.exception.SnapshotCreationException;
 import com.vbforge.concierge.exception.SnapshotException;
 import com.vbforge.concierge.mapper.MonthHistoryMapper;
 import com.vbforge.concierge.repository.MonthHistoryRepository;
+import com.vbforge.concierge.repository.SnapshotDeltaRepository;
 import com.vbforge.concierge.service.HistoryService;
 import com.vbforge.concierge.service.MonthScheduleService;
 import com.vbforge.concierge.service.ShiftSchedulingService;
 import com.vbforge.concierge.service.ValidationService;
+import com.vbforge.concierge.util.CursorUtils;
+import com.vbforge.concierge.util.SnapshotCodec;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 
 /**
  * Implementation of HistoryService
@@ -39,7 +50,10 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class HistoryServiceImpl implements HistoryService {
 
+    private static final String HISTORY_CURSOR = "history";
+
     private final MonthHistoryRepository historyRepository;
+    private final SnapshotDeltaRepository deltaRepository;
     private final MonthHistoryMapper historyMapper;
     private final MonthScheduleService monthScheduleService;
     private final ShiftSchedulingService shiftSchedulingService;
@@ -47,6 +61,14 @@ public class HistoryServiceImpl implements HistoryService {
     private final ObjectMapper objectMapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
 
+    private final ConflictRetryExecutor conflictRetryExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${schedule.snapshot.compaction-threshold:100}")
+    private long compactionThreshold;
+
     @Override
     @Transactional
     public MonthHistoryDto createSnapshot(int year, int monthValue) {
@@ -103,41 +125,56 @@ public class HistoryServiceImpl implements HistoryService {
             // 1️⃣ Check if a snapshot already exists for this year/month
             Optional<MonthHistory> existing = historyRepository.findByYearAndMonth(year, month);
 
-            if (existing.isPresent()) {
+            if (existing.isPresent() && !existing.get().isDeleted()) {
+                // Snapshot already exists and is active
                 MonthHistory found = existing.get();
+                log.warn("Snapshot already exists for {}/{} (ID={}) and is active.", month, year, found.getId());
+                throw new SnapshotAlreadyExistsException(
+                        String.format("Snapshot for %d/%d already exists (ID=%d)", month, year, found.getId())
+                );
+            }
 
-                if (!found.isDeleted()) {
-                    // Snapshot already exists and is active
-                    log.warn("Snapshot already exists for {}/{} (ID={}) and is active.", month, year, found.getId());
-                    throw new SnapshotAlreadyExistsException(
-                            String.format("Snapshot for %d/%d already exists (ID=%d)", month, year, found.getId())
-                    );
-                }
+            // 2️⃣ Encode the month's shifts in the compact snapshot format
+            List<ShiftAssignmentDto> shifts = monthScheduleService.getShiftsForMonth(year, month);
+            byte[] snapshotData = SnapshotCodec.encode(shifts);
 
-                // 2️⃣ Reuse deleted snapshot
+            if (existing.isPresent()) {
+                // 3️⃣ Reuse deleted snapshot
+                MonthHistory found = existing.get();
                 log.info("Reusing previously deleted snapshot for {}/{} (ID={})", month, year, found.getId());
+                // Deltas of the old base would be replayed on top of the new one (soft delete keeps them)
+                int staleDeltas = deltaRepository.deleteByHistoryId(found.getId());
+                if (staleDeltas > 0) {
+                    log.debug("Dropped {} stale deltas of reused snapshot ID={}", staleDeltas, found.getId());
+                }
                 found.setDeleted(false);
                 found.setUpdatedAt(LocalDateTime.now());
                 found.setDescription(description);
-//                found.setSnapshotJson(snapshotJson);
+                found.setSnapshotData(snapshotData);
+                found.setSnapshotJson(null);
+                found.setSnapshotDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+                found.setTotalShifts(shifts.size());
 
                 MonthHistory reused = historyRepository.save(found);
                 log.debug("Snapshot successfully reactivated for {}/{} with ID={}", month, year, reused.getId());
                 return historyMapper.toDto(reused);
             }
 
-            // 3️⃣ No snapshot found → create new one
+            // 4️⃣ No snapshot found → create new one
             MonthHistory newSnapshot = new MonthHistory();
             newSnapshot.setYear(year);
             newSnapshot.setMonth(month);
             newSnapshot.setDescription(description);
-//            newSnapshot.setSnapshotJson(snapshotJson);
+            newSnapshot.setSnapshotData(snapshotData);
+            newSnapshot.setSnapshotDate(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+            newSnapshot.setTotalShifts(shifts.size());
             newSnapshot.setCreatedAt(LocalDateTime.now());
             newSnapshot.setUpdatedAt(LocalDateTime.now());
             newSnapshot.setDeleted(false);
 
             MonthHistory saved = historyRepository.save(newSnapshot);
-            log.info("New snapshot created for {}/{} with ID={}", month, year, saved.getId());
+            log.info("New snapshot created for {}/{} with ID={} ({} bytes)",
+                    month, year, saved.getId(), snapshotData.length);
             return historyMapper.toDto(saved);
 
         } catch (SnapshotAlreadyExistsException e) {
@@ -187,11 +224,33 @@ public class HistoryServiceImpl implements HistoryService {
     }
 
     @Override
-    public Page<MonthHistoryDto> getHistoryPage(Pageable pageable) {
-        log.debug("Getting history page");
+    public CursorPageDto<MonthHistoryDto> getHistoryPage(String cursor, int size) {
+        log.debug("Getting history page after cursor {}", cursor);
+
+        CursorUtils.validatePageSize(size);
+
+        // One extra row tells whether a next page exists, so no count query is needed
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<MonthHistory> histories;
+        if (cursor == null || cursor.isBlank()) {
+            histories = historyRepository.findLatestHistory(limit);
+        } else {
+            String[] keys = CursorUtils.decode(cursor, HISTORY_CURSOR, 2);
+            try {
+                histories = historyRepository.findHistoryBefore(Integer.parseInt(keys[0]),
+                        Integer.parseInt(keys[1]), limit);
+            } catch (NumberFormatException e) {
+                throw new InvalidInputException("Invalid cursor: " + cursor);
+            }
+        }
 
-        Page<MonthHistory> page = historyRepository.findByDeletedFalse(pageable);
-        return page.map(historyMapper::toDto);
+        String nextCursor = null;
+        if (histories.size() > size) {
+            histories = histories.subList(0, size);
+            MonthHistory last = histories.get(size - 1);
+            nextCursor = CursorUtils.encode(HISTORY_CURSOR, last.getYear(), last.getMonth());
+        }
+        return new CursorPageDto<>(historyMapper.toDtoList(histories), nextCursor);
     }
 
     @Override
@@ -204,39 +263,158 @@ public class HistoryServiceImpl implements HistoryService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void restoreFromSnapshot(Long historyId) {
-        log.info("Restoring from snapshot ID: {}", historyId);
+        restoreFromSnapshot(historyId, false);
+    }
 
-        MonthHistory history = findHistoryById(historyId);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int restoreFromSnapshot(Long historyId, boolean diffOnly) {
+        log.info("Restoring from snapshot ID: {} (diffOnly={})", historyId, diffOnly);
 
-        // Deserialize shifts from JSON
-        List<ShiftAssignmentDto> shifts;
-        try {
-            ShiftAssignmentDto[] shiftsArray = objectMapper.readValue(
-                    history.getSnapshotJson(),
-                    ShiftAssignmentDto[].class
-            );
-            shifts = Arrays.asList(shiftsArray);
-        } catch (JsonProcessingException e) {
-            throw new SnapshotException("Failed to deserialize shifts from JSON", e);
+        // One transaction per attempt; a slot assigned concurrently rolls the attempt back and it runs again
+        return conflictRetryExecutor.execute("Restore of snapshot " + historyId, () -> {
+            MonthHistory history = findHistoryById(historyId);
+            List<ShiftAssignmentDto> shifts = readSnapshotShifts(history);
+
+            int changed = shiftSchedulingService.replaceMonthShifts(
+                    history.getYear(), List.of(history.getMonth()), shifts, diffOnly);
+
+            log.info("Restored {} shifts from snapshot ({} rows changed)", shifts.size(), changed);
+            return changed;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int restoreYearFromSnapshots(int year, boolean diffOnly) {
+        log.info("Restoring year {} from snapshots (diffOnly={})", year, diffOnly);
+
+        return conflictRetryExecutor.execute("Restore of year " + year, () -> {
+            List<MonthHistory> histories = historyRepository.findByYearAndDeletedFalseOrderByMonthDesc(year);
+            if (histories.isEmpty()) {
+                throw new SnapshotException("No snapshots found for year " + year);
+            }
+
+            List<Integer> months = new ArrayList<>(histories.size());
+            List<ShiftAssignmentDto> shifts = new ArrayList<>();
+            for (MonthHistory history : histories) {
+                months.add(history.getMonth());
+                shifts.addAll(readSnapshotShifts(history));
+            }
+
+            int changed = shiftSchedulingService.replaceMonthShifts(year, months, shifts, diffOnly);
+
+            log.info("Restored {} months of {} ({} rows changed)", months.size(), year, changed);
+            return changed;
+        });
+    }
+
+    @Override
+    @Transactional
+    public int createCheckpoint(int year, int monthValue) {
+        log.info("Creating checkpoint for {}-{}", year, monthValue);
+
+        validationService.validateYearMonth(year, monthValue);
+
+        Optional<MonthHistory> base = historyRepository.findByYearAndMonthAndDeletedFalse(year, monthValue);
+        if (base.isEmpty()) {
+            // First checkpoint of the month becomes the base snapshot
+            createSnapshot(year, monthValue, "Base snapshot");
+            return 0;
         }
 
-        // Clear existing shifts for the month
-        LocalDate firstDay = LocalDate.of(history.getYear(), history.getMonth(), 1);
-        LocalDate lastDay = firstDay.plusMonths(1).minusDays(1);
+        MonthHistory history = base.get();
+        Map<Long, ShiftAssignmentDto> previous = replayChain(history, deltaRepository.findChain(history.getId()));
+        Map<Long, ShiftAssignmentDto> current = new HashMap<>();
+        monthScheduleService.getShiftsForMonth(year, monthValue)
+                .forEach(shift -> current.put(slotKey(shift), shift));
+
+        Set<Long> slots = new TreeSet<>(previous.keySet());
+        slots.addAll(current.keySet());
 
-        List<ShiftAssignmentDto> existingShifts = shiftSchedulingService
-                .getShiftsInDateRange(firstDay, lastDay);
+        int sequence = deltaRepository.findLastCheckpointSeq(history.getId()) + 1;
+        LocalDateTime checkpointAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<SnapshotDelta> deltas = new ArrayList<>();
 
-        for (ShiftAssignmentDto shift : existingShifts) {
-            shiftSchedulingService.removeShift(shift.getId());
+        for (Long slot : slots) {
+            ShiftAssignmentDto before = previous.get(slot);
+            ShiftAssignmentDto after = current.get(slot);
+            if (isSameSlot(before, after)) {
+                continue;
+            }
+            //a cleared slot keeps its shift type so replay removes only that slot
+            ShiftAssignmentDto shift = after != null ? after : before;
+            deltas.add(SnapshotDelta.builder()
+                    .history(history)
+                    .checkpointSeq(sequence)
+                    .checkpointAt(checkpointAt)
+                    .shiftDate(shift.getShiftDate())
+                    .conciergeId(after != null ? after.getConciergeId() : null)
+                    .shiftType(ShiftType.orDefault(shift.getShiftType()))
+                    .notes(after != null ? after.getNotes() : null)
+                    .build());
         }
 
-        // Restore shifts from snapshot
-        shiftSchedulingService.bulkAssignShifts(shifts);
+        if (!deltas.isEmpty()) {
+            // Appending to the chain bumps the base version: a concurrent checkpoint or compaction
+            // of the same chain fails with an optimistic lock error instead of losing deltas
+            entityManager.lock(history, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            deltaRepository.saveAll(deltas);
+        }
 
-        log.info("Restored {} shifts from snapshot", shifts.size());
+        log.info("Checkpoint {} for {}-{} recorded {} changed slots", sequence, year, monthValue, deltas.size());
+        return deltas.size();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int restoreToTimestamp(Long historyId, LocalDateTime at) {
+        log.info("Restoring snapshot ID: {} to {}", historyId, at);
+
+        return conflictRetryExecutor.execute("Restore of snapshot " + historyId + " to " + at, () -> {
+            MonthHistory history = findHistoryById(historyId);
+            if (at.isBefore(history.getSnapshotDate())) {
+                throw new SnapshotException(String.format(
+                        "Cannot restore %d/%d to %s: earliest available point is %s",
+                        history.getMonth(), history.getYear(), at, history.getSnapshotDate()));
+            }
+
+            Map<Long, ShiftAssignmentDto> state = replayChain(history, deltaRepository.findChainUpTo(historyId, at));
+
+            int changed = shiftSchedulingService.replaceMonthShifts(
+                    history.getYear(), List.of(history.getMonth()), new ArrayList<>(state.values()), true);
+
+            log.info("Restored {}-{} to {} ({} rows changed)", history.getYear(), history.getMonth(), at, changed);
+            return changed;
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Scheduled(cron = "${schedule.snapshot.compaction-cron:0 30 3 * * *}")
+    public int compactDeltaChains() {
+        List<Long> historyIds = deltaRepository.findHistoryIdsWithChainLongerThan(compactionThreshold);
+        int compacted = 0;
+
+        // One transaction per chain; a chain that got a new checkpoint meanwhile is re-read and folded again
+        for (Long historyId : historyIds) {
+            try {
+                conflictRetryExecutor.execute("Compaction of snapshot " + historyId, () -> {
+                    compactChain(findHistoryById(historyId));
+                    return null;
+                });
+                compacted++;
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Compaction of snapshot ID={} skipped, chain kept changing: {}", historyId, e.getMessage());
+            }
+        }
+
+        if (compacted > 0) {
+            log.info("Compacted {} snapshot delta chains", compacted);
+        }
+        return compacted;
     }
 
     @Override
@@ -305,6 +483,80 @@ public class HistoryServiceImpl implements HistoryService {
     // PRIVATE HELPER METHODS
     // ============================================================
 
+    private void compactChain(MonthHistory history) {
+        List<SnapshotDelta> chain = deltaRepository.findChain(history.getId());
+        if (chain.isEmpty()) {
+            return;
+        }
+
+        List<ShiftAssignmentDto> folded = new ArrayList<>(replayChain(history, chain).values());
+
+        history.setSnapshotData(SnapshotCodec.encode(folded));
+        history.setSnapshotJson(null);
+        history.setTotalShifts(folded.size());
+        history.setSnapshotDate(chain.get(chain.size() - 1).getCheckpointAt());
+        historyRepository.save(history);
+
+        deltaRepository.deleteByHistoryId(history.getId());
+        log.debug("Folded {} deltas into base snapshot ID={}", chain.size(), history.getId());
+    }
+
+    private TreeMap<Long, ShiftAssignmentDto> replayChain(MonthHistory history, List<SnapshotDelta> chain) {
+        TreeMap<Long, ShiftAssignmentDto> state = new TreeMap<>();
+        readSnapshotShifts(history).forEach(shift -> state.put(slotKey(shift), shift));
+
+        for (SnapshotDelta delta : chain) {
+            if (delta.getConciergeId() == null && delta.getShiftType() == null) {
+                //deltas recorded before shift slots clear the whole day
+                long firstSlot = ShiftType.FULL_DAY.slotKey(delta.getShiftDate());
+                state.subMap(firstSlot, firstSlot + ShiftType.SLOT_COUNT).clear();
+            } else if (delta.getConciergeId() == null) {
+                state.remove(delta.getShiftType().slotKey(delta.getShiftDate()));
+            } else {
+                state.put(ShiftType.orDefault(delta.getShiftType()).slotKey(delta.getShiftDate()), ShiftAssignmentDto.builder()
+                        .shiftDate(delta.getShiftDate())
+                        .conciergeId(delta.getConciergeId())
+                        .shiftType(delta.getShiftType())
+                        .notes(delta.getNotes())
+                        .build());
+            }
+        }
+        return state;
+    }
+
+    private long slotKey(ShiftAssignmentDto shift) {
+        return ShiftType.orDefault(shift.getShiftType()).slotKey(shift.getShiftDate());
+    }
+
+    private boolean isSameSlot(ShiftAssignmentDto before, ShiftAssignmentDto after) {
+        if (before == null || after == null) {
+            return before == after;
+        }
+        return Objects.equals(before.getConciergeId(), after.getConciergeId())
+                && before.getShiftType() == after.getShiftType()
+                && Objects.equals(before.getNotes(), after.getNotes());
+    }
+
+    private List<ShiftAssignmentDto> readSnapshotShifts(MonthHistory history) {
+        if (history.getSnapshotData() != null) {
+            return SnapshotCodec.decode(history.getSnapshotData());
+        }
+
+        // Legacy rows written before the compact format
+        if (history.getSnapshotJson() == null) {
+            throw new SnapshotException("Snapshot " + history.getId() + " has no data");
+        }
+        try {
+            ShiftAssignmentDto[] shiftsArray = objectMapper.readValue(
+                    history.getSnapshotJson(),
+                    ShiftAssignmentDto[].class
+            );
+            return Arrays.asList(shiftsArray);
+        } catch (JsonProcessingException e) {
+            throw new SnapshotException("Failed to deserialize shifts from JSON", e);
+        }
+    }
+
     private MonthHistory findHistoryById(Long id) {
         return historyRepository.findById(id)
                 .orElseThrow(() -> new MonthHistoryNotFoundException(id));
@@ -1,9 +1,14 @@
 package com.vbforge.concierge.service.impl;
 
+import com.vbforge.concierge.cache.MonthScheduleCache;
 import com.vbforge.concierge.dto.CalendarDayDto;
 import com.vbforge.concierge.dto.ConciergeDto;
+import com.vbforge.concierge.dto.MonthCalendarDto;
 import com.vbforge.concierge.dto.MonthScheduleDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ColorType;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
 import com.vbforge.concierge.service.ConciergeService;
 import com.vbforge.concierge.service.MonthScheduleService;
 import com.vbforge.concierge.service.ShiftSchedulingService;
@@ -12,6 +17,7 @@ import com.vbforge.concierge.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -29,44 +35,93 @@ public class MonthScheduleServiceImpl implements MonthScheduleService {
 
     private final ShiftSchedulingService shiftSchedulingService;
     private final ConciergeService conciergeService;
+    private final ConciergeMonthStatsRepository statsRepository;
     private final ValidationService validationService;
+    private final MonthScheduleCache monthScheduleCache;
+    private final ParallelReadExecutor parallelReadExecutor;
 
+    /**
+     * Joins a caller's transaction but does not open one: on a cache miss shifts and concierges
+     * load concurrently, each in its own read transaction
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MonthScheduleDto getMonthSchedule(int year, int monthValue) {
         log.debug("Getting month schedule for {}-{}", year, monthValue);
 
         validationService.validateYearMonth(year, monthValue);
 
-        // Get all shifts for the month
-        List<ShiftAssignmentDto> shifts = getShiftsForMonth(year, monthValue);
-
-        // Create map of date to shift
-        Map<LocalDate, ShiftAssignmentDto> dailyAssignments = shifts.stream()
-                .collect(Collectors.toMap(ShiftAssignmentDto::getShiftDate, s -> s));
-
-        // Get all concierges
-        List<ConciergeDto> concierges = conciergeService.getAllActiveConcierges();
-
-        // Calculate statistics
-        int totalDays = DateUtils.getTotalDaysInMonth(year, monthValue);
-        int assignedDays = shifts.size();
-        int unassignedDays = totalDays - assignedDays;
-
-        LocalDate firstDay = DateUtils.getFirstDayOfMonth(year, monthValue);
-        LocalDate lastDay = DateUtils.getLastDayOfMonth(year, monthValue);
+        return monthScheduleCache.get(year, monthValue, () -> buildMonthSchedule(year, monthValue));
+    }
 
-        return MonthScheduleDto.builder()
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MonthCalendarDto getMonthCalendar(int year, int monthValue) {
+        MonthScheduleDto schedule = getMonthSchedule(year, monthValue);
+
+        List<MonthCalendarDto.ConciergeEntry> legend = new ArrayList<>();
+        Map<Long, Integer> legendIndex = new HashMap<>();
+        for (ConciergeDto concierge : schedule.getConcierges()) {
+            legendIndex.put(concierge.getId(), legend.size());
+            legend.add(new MonthCalendarDto.ConciergeEntry(concierge.getId(), concierge.getName(),
+                    concierge.getColor() != null ? concierge.getColor().getHexCode() : null));
+        }
+
+        int totalDays = schedule.getTotalDays();
+        int[] assignments = new int[totalDays];
+        Arrays.fill(assignments, -1);
+        int[] slotAssignments = new int[totalDays * ShiftType.SLOT_COUNT];
+        Arrays.fill(slotAssignments, -1);
+        Map<Integer, ShiftType> shiftTypes = new TreeMap<>();
+        Map<Integer, String> notes = new TreeMap<>();
+        Map<Integer, String> slotNotes = new TreeMap<>();
+
+        ShiftAssignmentDto[] slots = schedule.getSlots();
+        for (int slotIndex = 0; slotIndex < slotAssignments.length; slotIndex++) {
+            ShiftAssignmentDto shift = slots[slotIndex];
+            if (shift == null) {
+                continue;
+            }
+            int day = slotIndex / ShiftType.SLOT_COUNT + 1;
+
+            //inactive concierges still appear on their old shifts
+            Integer index = legendIndex.get(shift.getConciergeId());
+            if (index == null) {
+                index = legend.size();
+                legendIndex.put(shift.getConciergeId(), index);
+                legend.add(new MonthCalendarDto.ConciergeEntry(shift.getConciergeId(), shift.getConciergeName(),
+                        hexCode(shift.getConciergeColor())));
+            }
+            slotAssignments[slotIndex] = index;
+            boolean hasNotes = shift.getNotes() != null && !shift.getNotes().isBlank();
+            if (hasNotes) {
+                slotNotes.put(slotIndex, shift.getNotes());
+            }
+
+            //per-day fields describe the first shift of the day
+            if (assignments[day - 1] == -1) {
+                assignments[day - 1] = index;
+                if (shift.getShiftType() != null && shift.getShiftType() != ShiftType.FULL_DAY) {
+                    shiftTypes.put(day, shift.getShiftType());
+                }
+                if (hasNotes) {
+                    notes.put(day, shift.getNotes());
+                }
+            }
+        }
+
+        return MonthCalendarDto.builder()
                 .year(year)
                 .month(monthValue)
-                .monthName(DateUtils.getMonthName(monthValue))
-                .dailyAssignments(dailyAssignments)
-                .concierges(concierges)
-                .totalDays(totalDays)
-                .assignedDays(assignedDays)
-                .unassignedDays(unassignedDays)
-                .firstDayOfMonth(firstDay)
-                .lastDayOfMonth(lastDay)
-                .startingDayOfWeek(DateUtils.getDayOfWeekValue(firstDay))
+                .totalDays(schedule.getTotalDays())
+                .startingDayOfWeek(schedule.getStartingDayOfWeek())
+                .concierges(legend)
+                .assignments(assignments)
+                .shiftTypes(shiftTypes)
+                .notes(notes)
+                .slotTypes(List.of(ShiftType.values()))
+                .slotAssignments(slotAssignments)
+                .slotNotes(slotNotes)
                 .build();
     }
 
@@ -96,33 +151,42 @@ public class MonthScheduleServiceImpl implements MonthScheduleService {
         LocalDate endDate = gridDates.get(gridDates.size() - 1);
         List<ShiftAssignmentDto> shifts = shiftSchedulingService.getShiftsInDateRange(startDate, endDate);
 
-        // Create map of date to shift
-        Map<LocalDate, ShiftAssignmentDto> shiftMap = shifts.stream()
-                .collect(Collectors.toMap(ShiftAssignmentDto::getShiftDate, s -> s));
+        // Group shifts per grid position (shifts arrive in date order)
+        List<List<ShiftAssignmentDto>> shiftsByDay = new ArrayList<>(gridDates.size());
+        for (int i = 0; i < gridDates.size(); i++) {
+            shiftsByDay.add(new ArrayList<>(1));
+        }
+        for (ShiftAssignmentDto shift : shifts) {
+            int position = (int) (shift.getShiftDate().toEpochDay() - startDate.toEpochDay());
+            shiftsByDay.get(position).add(shift);
+        }
+        shiftsByDay.forEach(day -> day.sort(Comparator.comparingInt(s -> ShiftType.orDefault(s.getShiftType()).getSlot())));
 
         // Create calendar day DTOs
         LocalDate today = LocalDate.now();
         LocalDate firstOfMonth = DateUtils.getFirstDayOfMonth(year, monthValue);
         LocalDate lastOfMonth = DateUtils.getLastDayOfMonth(year, monthValue);
 
-        return gridDates.stream()
-                .map(date -> {
-                    boolean isCurrentMonth = !date.isBefore(firstOfMonth) && !date.isAfter(lastOfMonth);
-                    ShiftAssignmentDto shift = shiftMap.get(date);
-
-                    return CalendarDayDto.builder()
-                            .date(date)
-                            .dayOfMonth(date.getDayOfMonth())
-                            .dayOfWeek(date.getDayOfWeek())
-                            .dayOfWeekShort(DateUtils.getDayOfWeekShort(date))
-                            .isToday(date.equals(today))
-                            .isWeekend(DateUtils.isWeekend(date))
-                            .isCurrentMonth(isCurrentMonth)
-                            .isAssigned(shift != null)
-                            .shiftAssignment(shift)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<CalendarDayDto> days = new ArrayList<>(gridDates.size());
+        for (int position = 0; position < gridDates.size(); position++) {
+            LocalDate date = gridDates.get(position);
+            boolean isCurrentMonth = !date.isBefore(firstOfMonth) && !date.isAfter(lastOfMonth);
+            List<ShiftAssignmentDto> dayShifts = shiftsByDay.get(position);
+
+            days.add(CalendarDayDto.builder()
+                    .date(date)
+                    .dayOfMonth(date.getDayOfMonth())
+                    .dayOfWeek(date.getDayOfWeek())
+                    .dayOfWeekShort(DateUtils.getDayOfWeekShort(date))
+                    .isToday(date.equals(today))
+                    .isWeekend(DateUtils.isWeekend(date))
+                    .isCurrentMonth(isCurrentMonth)
+                    .isAssigned(!dayShifts.isEmpty())
+                    .shiftAssignment(dayShifts.isEmpty() ? null : dayShifts.get(0))
+                    .shifts(dayShifts)
+                    .build());
+        }
+        return days;
     }
 
     @Override
@@ -149,13 +213,12 @@ public class MonthScheduleServiceImpl implements MonthScheduleService {
 
         validationService.validateYearMonth(year, monthValue);
 
-        List<ShiftAssignmentDto> shifts = getShiftsForMonth(year, monthValue);
-
-        return shifts.stream()
-                .collect(Collectors.groupingBy(
-                        ShiftAssignmentDto::getConciergeName,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+        //read from the materialized month counters (one indexed lookup, no shift scan)
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Object[] row : statsRepository.findMonthCounts(year, monthValue)) {
+            counts.put((String) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
     }
 
     @Override
@@ -164,7 +227,10 @@ public class MonthScheduleServiceImpl implements MonthScheduleService {
 
         validationService.validateYearMonth(year, monthValue);
 
-        return getShiftsForMonth(year, monthValue).size();
+        return (int) getShiftsForMonth(year, monthValue).stream()
+                .map(ShiftAssignmentDto::getShiftDate)
+                .distinct()
+                .count();
     }
 
     @Override
@@ -187,4 +253,65 @@ public class MonthScheduleServiceImpl implements MonthScheduleService {
 
         return countUnassignedDays(year, monthValue) == 0;
     }
+
+    //helper method to resolve a color name (ColorType constant) to its hex code
+    private String hexCode(String colorName) {
+        if (colorName == null) {
+            return null;
+        }
+        try {
+            return ColorType.valueOf(colorName).getHexCode();
+        } catch (IllegalArgumentException e) {
+            return colorName;
+        }
+    }
+
+    //helper method to build month schedule on a cache miss (shifts and concierges are loaded concurrently)
+    private MonthScheduleDto buildMonthSchedule(int year, int monthValue) {
+        log.debug("Building month schedule for {}-{}", year, monthValue);
+
+        return parallelReadExecutor.both(
+                () -> getShiftsForMonth(year, monthValue),
+                conciergeService::getAllActiveConcierges,
+                (shifts, concierges) -> assembleMonthSchedule(year, monthValue, shifts, concierges));
+    }
+
+    //helper method to assemble month schedule from its loaded parts
+    private MonthScheduleDto assembleMonthSchedule(int year, int monthValue,
+                                                   List<ShiftAssignmentDto> shifts,
+                                                   List<ConciergeDto> concierges) {
+        // Lay shifts out flat by (day, slot)
+        int totalDays = DateUtils.getTotalDaysInMonth(year, monthValue);
+        ShiftAssignmentDto[] slots = new ShiftAssignmentDto[totalDays * ShiftType.SLOT_COUNT];
+        boolean[] assigned = new boolean[totalDays];
+        int assignedDays = 0;
+        for (ShiftAssignmentDto shift : shifts) {
+            int day = shift.getShiftDate().getDayOfMonth();
+            slots[ShiftType.orDefault(shift.getShiftType()).slotIndex(day)] = shift;
+            if (!assigned[day - 1]) {
+                assigned[day - 1] = true;
+                assignedDays++;
+            }
+        }
+
+        // Calculate statistics
+        int unassignedDays = totalDays - assignedDays;
+
+        LocalDate firstDay = DateUtils.getFirstDayOfMonth(year, monthValue);
+        LocalDate lastDay = DateUtils.getLastDayOfMonth(year, monthValue);
+
+        return MonthScheduleDto.builder()
+                .year(year)
+                .month(monthValue)
+                .monthName(DateUtils.getMonthName(monthValue))
+                .slots(slots)
+                .concierges(concierges)
+                .totalDays(totalDays)
+                .assignedDays(assignedDays)
+                .unassignedDays(unassignedDays)
+                .firstDayOfMonth(firstDay)
+                .lastDayOfMonth(lastDay)
+                .startingDayOfWeek(DateUtils.getDayOfWeekValue(firstDay))
+                .build();
+    }
 }
@@ -0,0 +1,87 @@
+package com.vbforge.concierge.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only loads of one page concurrently on a small bounded pool
+ * Each load opens its own short read transaction on the thread that runs it
+ *
+ * Inside an existing transaction everything runs on the caller thread: other threads cannot see
+ * its uncommitted work, and holding its connection while waiting for pooled ones could starve the pool.
+ * When the pool is saturated the caller runs the load itself, so a busy server degrades to sequential reads.
+ */
+@Slf4j
+@Component
+class ParallelReadExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    ParallelReadExecutor(@Value("${schedule.page-assembly.threads:4}") int threads,
+                         @Value("${schedule.page-assembly.queue-capacity:64}") int queueCapacity) {
+        if (threads <= 0) {
+            this.executor = null;
+            log.info("Parallel page assembly disabled");
+            return;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "page-assembly-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Load two independent values concurrently and combine them
+     * The first load runs on the caller thread while the second runs on the pool
+     */
+    <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combine) {
+        if (executor == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return combine.apply(first.get(), second.get());
+        }
+
+        CompletableFuture<B> secondResult = CompletableFuture.supplyAsync(second, executor);
+        A firstValue = first.get();
+        return combine.apply(firstValue, join(secondResult));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // rethrow what the load threw so callers and exception handlers see the original type
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+}
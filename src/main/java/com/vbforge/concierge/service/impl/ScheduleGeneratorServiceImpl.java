@@ -0,0 +1,340 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.dto.BulkAssignmentResultDto;
+import com.vbforge.concierge.dto.GeneratedScheduleDto;
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import com.vbforge.concierge.dto.OptimizedScheduleDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.generator.GreedyRotationSolver;
+import com.vbforge.concierge.generator.HolidayCalendar;
+import com.vbforge.concierge.generator.OptimizationProblem;
+import com.vbforge.concierge.generator.OptimizationResult;
+import com.vbforge.concierge.generator.ScheduleOptimizer;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.service.AvailabilityService;
+import com.vbforge.concierge.service.MonthScheduleService;
+import com.vbforge.concierge.service.ScheduleGeneratorService;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.service.ValidationService;
+import com.vbforge.concierge.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Implementation of ScheduleGeneratorService
+ * Loads the period once, solves it in memory and writes the result through the bulk insert
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleGeneratorServiceImpl implements ScheduleGeneratorService {
+
+    private static final long MAX_TIME_BUDGET_MS = 30_000;
+
+    private final MonthScheduleService monthScheduleService;
+    private final ShiftSchedulingService shiftSchedulingService;
+    private final ConciergeRepository conciergeRepository;
+    private final ValidationService validationService;
+    private final ScheduleOptimizer scheduleOptimizer;
+    private final HolidayCalendar holidayCalendar;
+    private final AvailabilityService availabilityService;
+
+    @Value("${schedule.generator.min-rest-days:1}")
+    private int defaultMinRestDays;
+
+    @Value("${schedule.optimizer.time-budget-ms:2000}")
+    private long defaultTimeBudgetMs;
+
+    @Value("${schedule.optimizer.max-months:12}")
+    private int maxMonths;
+
+    @Value("${schedule.optimizer.history-months:12}")
+    private int historyMonths;
+
+    @Override
+    @Transactional
+    public GeneratedScheduleDto generateMonth(int year, int monthValue, Integer minRestDays, boolean dryRun) {
+        validationService.validateYearMonth(year, monthValue);
+        int restDays = minRestDays != null ? minRestDays : defaultMinRestDays;
+        if (restDays < 0 || restDays > 14) {
+            throw new InvalidInputException("Minimum rest days must be between 0 and 14");
+        }
+        log.info("Generating schedule for {}-{} (rest {} days, dry run {})", year, monthValue, restDays, dryRun);
+
+        List<Concierge> concierges = conciergeRepository.findByActiveTrueAndDeletedFalse();
+
+        // Roster: rest-gap context from the previous month followed by the month itself
+        LocalDate firstOfMonth = DateUtils.getFirstDayOfMonth(year, monthValue);
+        LocalDate rosterStart = firstOfMonth.minusDays(restDays);
+        int[] roster = newRoster(rosterStart, DateUtils.getLastDayOfMonth(year, monthValue));
+        boolean[] weekend = dayFlags(rosterStart, roster.length, false);
+        boolean[] unavailable = unavailableFlags(rosterStart, roster.length, concierges);
+
+        List<ShiftAssignmentDto> existing = new ArrayList<>();
+        if (restDays > 0) {
+            existing.addAll(shiftSchedulingService.getShiftsInDateRange(rosterStart, firstOfMonth.minusDays(1)));
+        }
+        MonthScheduleDto schedule = monthScheduleService.getMonthSchedule(year, monthValue);
+        existing.addAll(schedule.getAllShifts());
+        placeShifts(roster, rosterStart, existing, conciergeIndex(concierges));
+
+        long start = System.nanoTime();
+        int[] solved = GreedyRotationSolver.solve(roster, restDays, weekend, unavailable, concierges.size(),
+                restDays, year * 12 + monthValue);
+        log.debug("Solved {}-{} for {} concierges in {} us", year, monthValue, concierges.size(),
+                (System.nanoTime() - start) / 1_000);
+
+        List<ShiftAssignmentDto> proposed = new ArrayList<>();
+        List<LocalDate> unfilled = new ArrayList<>();
+        collectProposal(roster, solved, restDays, rosterStart, concierges, proposed, unfilled);
+
+        GeneratedScheduleDto result = GeneratedScheduleDto.builder()
+                .year(year)
+                .month(monthValue)
+                .dryRun(dryRun)
+                .minRestDays(restDays)
+                .shifts(proposed)
+                .unfilledDates(unfilled)
+                .shiftCounts(countShifts(solved, restDays, null, concierges))
+                .weekendShiftCounts(countShifts(solved, restDays, weekend, concierges))
+                .build();
+
+        if (!dryRun && !proposed.isEmpty()) {
+            BulkAssignmentResultDto inserted = shiftSchedulingService.bulkAssignShiftsWithReport(proposed);
+            result.setInserted(inserted.getSucceeded());
+            result.setFailed(inserted.getFailed());
+        }
+
+        log.info("Generated {} shifts for {}-{} ({} dates left unassigned)",
+                proposed.size(), year, monthValue, unfilled.size());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public OptimizedScheduleDto optimizeMonths(int year, int monthValue, int months, Long timeBudgetMs,
+                                               boolean dryRun) {
+        validationService.validateYearMonth(year, monthValue);
+        if (months < 1 || months > maxMonths) {
+            throw new InvalidInputException("Months must be between 1 and " + maxMonths);
+        }
+        long budget = timeBudgetMs != null ? timeBudgetMs : defaultTimeBudgetMs;
+        if (budget < 1 || budget > MAX_TIME_BUDGET_MS) {
+            throw new InvalidInputException("Time budget must be between 1 and " + MAX_TIME_BUDGET_MS + " ms");
+        }
+        // no back-to-back days is a hard constraint of the optimizer
+        int restDays = Math.max(1, defaultMinRestDays);
+        log.info("Optimizing {} months from {}-{} ({} ms, dry run {})", months, year, monthValue, budget, dryRun);
+
+        List<Concierge> concierges = conciergeRepository.findByActiveTrueAndDeletedFalse();
+        Map<Long, Integer> conciergeIndex = conciergeIndex(concierges);
+
+        LocalDate startDate = DateUtils.getFirstDayOfMonth(year, monthValue);
+        LocalDate endDate = startDate.plusMonths(months).minusDays(1);
+        LocalDate rosterStart = startDate.minusDays(restDays);
+        int[] roster = newRoster(rosterStart, endDate);
+        boolean[] weekend = dayFlags(rosterStart, roster.length, false);
+        boolean[] holiday = dayFlags(rosterStart, roster.length, true);
+        boolean[] unavailable = unavailableFlags(rosterStart, roster.length, concierges);
+
+        // One read covers history, the rest-gap context and the planned period
+        List<ShiftAssignmentDto> shifts = shiftSchedulingService.getShiftsInDateRange(
+                startDate.minusMonths(historyMonths), endDate);
+        int[] historyShifts = new int[concierges.size()];
+        int[] historyWeekendShifts = new int[concierges.size()];
+        int[] historyHolidayShifts = new int[concierges.size()];
+        List<ShiftAssignmentDto> rosterShifts = new ArrayList<>();
+        for (ShiftAssignmentDto shift : shifts) {
+            LocalDate date = shift.getShiftDate();
+            if (!date.isBefore(rosterStart)) {
+                rosterShifts.add(shift);
+            }
+            Integer index = conciergeIndex.get(shift.getConciergeId());
+            if (index != null && date.isBefore(startDate)) {
+                historyShifts[index]++;
+                if (DateUtils.isWeekend(date)) {
+                    historyWeekendShifts[index]++;
+                }
+                if (holidayCalendar.isHoliday(date)) {
+                    historyHolidayShifts[index]++;
+                }
+            }
+        }
+        placeShifts(roster, rosterStart, rosterShifts, conciergeIndex);
+
+        OptimizationProblem problem = OptimizationProblem.builder()
+                .roster(roster)
+                .firstDay(restDays)
+                .conciergeCount(concierges.size())
+                .weekend(weekend)
+                .holiday(holiday)
+                .unavailable(unavailable)
+                .minRestDays(restDays)
+                .historyShifts(historyShifts)
+                .historyWeekendShifts(historyWeekendShifts)
+                .historyHolidayShifts(historyHolidayShifts)
+                .build();
+
+        long start = System.currentTimeMillis();
+        OptimizationResult optimized = scheduleOptimizer.optimize(problem, budget);
+        long elapsed = System.currentTimeMillis() - start;
+
+        int[] solved = optimized.getRoster().clone();
+        dropViolations(roster, solved, restDays, unavailable);
+
+        List<ShiftAssignmentDto> proposed = new ArrayList<>();
+        List<LocalDate> unfilled = new ArrayList<>();
+        collectProposal(roster, solved, restDays, rosterStart, concierges, proposed, unfilled);
+
+        OptimizedScheduleDto result = OptimizedScheduleDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .dryRun(dryRun)
+                .minRestDays(restDays)
+                .runs(optimized.getRuns())
+                .iterations(optimized.getIterations())
+                .elapsedMs(elapsed)
+                .fairnessScore(optimized.getSoftScore())
+                .shifts(proposed)
+                .unfilledDates(unfilled)
+                .shiftCounts(countShifts(solved, restDays, null, concierges))
+                .weekendShiftCounts(countShifts(solved, restDays, weekend, concierges))
+                .holidayShiftCounts(countShifts(solved, restDays, holiday, concierges))
+                .build();
+
+        if (!dryRun && !proposed.isEmpty()) {
+            BulkAssignmentResultDto inserted = shiftSchedulingService.bulkAssignShiftsWithReport(proposed);
+            result.setInserted(inserted.getSucceeded());
+            result.setFailed(inserted.getFailed());
+        }
+
+        log.info("Optimized {} shifts from {} to {} ({} dates left unassigned, {} iterations)",
+                proposed.size(), startDate, endDate, unfilled.size(), optimized.getIterations());
+        return result;
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to create an empty roster covering a date range
+    private int[] newRoster(LocalDate rosterStart, LocalDate endDate) {
+        int[] roster = new int[(int) (endDate.toEpochDay() - rosterStart.toEpochDay() + 1)];
+        Arrays.fill(roster, GreedyRotationSolver.FREE);
+        return roster;
+    }
+
+    //helper method to flag weekend (or holiday) days of a roster
+    private boolean[] dayFlags(LocalDate rosterStart, int length, boolean holidays) {
+        boolean[] flags = new boolean[length];
+        for (int day = 0; day < length; day++) {
+            LocalDate date = rosterStart.plusDays(day);
+            flags[day] = holidays ? holidayCalendar.isHoliday(date) : DateUtils.isWeekend(date);
+        }
+        return flags;
+    }
+
+    //helper method to flag time-off days per concierge, flattened as [concierge * length + day]
+    private boolean[] unavailableFlags(LocalDate rosterStart, int length, List<Concierge> concierges) {
+        boolean[] flags = new boolean[concierges.size() * length];
+        for (int concierge = 0; concierge < concierges.size(); concierge++) {
+            Long conciergeId = concierges.get(concierge).getId();
+            for (int day = 0; day < length; day++) {
+                flags[concierge * length + day] = !availabilityService.isAvailable(conciergeId, rosterStart.plusDays(day));
+            }
+        }
+        return flags;
+    }
+
+    //helper method to map concierge IDs to roster indexes
+    private Map<Long, Integer> conciergeIndex(List<Concierge> concierges) {
+        Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < concierges.size(); i++) {
+            index.put(concierges.get(i).getId(), i);
+        }
+        return index;
+    }
+
+    //helper method to put existing shifts on the roster (inactive concierges or several concierges block the day)
+    private void placeShifts(int[] roster, LocalDate rosterStart, Collection<ShiftAssignmentDto> shifts,
+                             Map<Long, Integer> conciergeIndex) {
+        for (ShiftAssignmentDto shift : shifts) {
+            int day = (int) (shift.getShiftDate().toEpochDay() - rosterStart.toEpochDay());
+            int index = conciergeIndex.getOrDefault(shift.getConciergeId(), GreedyRotationSolver.TAKEN);
+            roster[day] = roster[day] == GreedyRotationSolver.FREE || roster[day] == index
+                    ? index
+                    : GreedyRotationSolver.TAKEN;
+        }
+    }
+
+    //helper method to free decided days that still break a hard rule (the search prefers empty days)
+    private void dropViolations(int[] roster, int[] solved, int restDays, boolean[] unavailable) {
+        for (int day = 0; day < solved.length; day++) {
+            if (roster[day] != GreedyRotationSolver.FREE || solved[day] < 0) {
+                continue;
+            }
+            if (unavailable[solved[day] * solved.length + day]) {
+                solved[day] = GreedyRotationSolver.FREE;
+                continue;
+            }
+            for (int other = Math.max(0, day - restDays); other <= Math.min(solved.length - 1, day + restDays); other++) {
+                if (other != day && solved[other] == solved[day]) {
+                    solved[day] = GreedyRotationSolver.FREE;
+                    break;
+                }
+            }
+        }
+    }
+
+    //helper method to turn newly decided roster days into shifts and unfilled dates
+    private void collectProposal(int[] roster, int[] solved, int firstDay, LocalDate rosterStart,
+                                 List<Concierge> concierges,
+                                 List<ShiftAssignmentDto> proposed, List<LocalDate> unfilled) {
+        for (int day = firstDay; day < roster.length; day++) {
+            if (roster[day] != GreedyRotationSolver.FREE) {
+                continue;
+            }
+            LocalDate date = rosterStart.plusDays(day);
+            if (solved[day] < 0) {
+                unfilled.add(date);
+                continue;
+            }
+            Concierge concierge = concierges.get(solved[day]);
+            proposed.add(ShiftAssignmentDto.builder()
+                    .shiftDate(date)
+                    .conciergeId(concierge.getId())
+                    .conciergeName(concierge.getName())
+                    .conciergeColor(concierge.getColor() != null ? concierge.getColor().name() : null)
+                    .shiftType(ShiftType.FULL_DAY)
+                    .build());
+        }
+    }
+
+    //helper method to count planned shifts (all, or flagged days only) per active concierge
+    private Map<String, Integer> countShifts(int[] roster, int firstDay, boolean[] flags,
+                                             List<Concierge> concierges) {
+        int[] counts = new int[concierges.size()];
+        for (int day = firstDay; day < roster.length; day++) {
+            if (roster[day] >= 0 && (flags == null || flags[day])) {
+                counts[roster[day]]++;
+            }
+        }
+
+        Map<String, Integer> byName = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            byName.put(concierges.get(i).getName(), counts[i]);
+        }
+        return byName;
+    }
+
+}
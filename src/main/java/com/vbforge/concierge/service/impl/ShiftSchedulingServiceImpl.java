@@ -1,25 +1,45 @@
 package com.vbforge.concierge.service.impl;
 
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.BulkAssignmentResultDto;
+import com.vbforge.concierge.dto.CursorPageDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ConciergeMonthStats;
 import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.event.ShiftChangedEvent;
+import com.vbforge.concierge.exception.ConciergeNotFoundException;
+import com.vbforge.concierge.exception.ConciergeSchedulerException;
+import com.vbforge.concierge.exception.ConcurrentUpdateException;
+import com.vbforge.concierge.exception.InvalidInputException;
 import com.vbforge.concierge.exception.ShiftAssignmentNotFoundException;
+import com.vbforge.concierge.exception.ShiftConflictException;
 import com.vbforge.concierge.mapper.ShiftAssignmentMapper;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
 import com.vbforge.concierge.repository.ConciergeRepository;
 import com.vbforge.concierge.repository.ShiftAssignmentRepository;
 import com.vbforge.concierge.service.ShiftSchedulingService;
 import com.vbforge.concierge.service.ValidationService;
+import com.vbforge.concierge.util.CursorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 
 /**
  * Implementation of ShiftSchedulingService
+ * Every write path also adjusts concierge_month_stats in the same transaction
  */
 @Slf4j
 @Service
@@ -27,10 +47,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
 
+    private static final String SHIFT_CURSOR = "shifts";
+
     private final ShiftAssignmentRepository shiftRepository;
     private final ConciergeRepository conciergeRepository;
+    private final ConciergeMonthStatsRepository statsRepository;
     private final ShiftAssignmentMapper shiftMapper;
     private final ValidationService validationService;
+    private final MonthScheduleCache monthScheduleCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -41,12 +66,13 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
         //validate shift assignment
         validationService.validateShiftAssignment(shiftAssignmentDto);
 
-        //check for conflicts
-        validationService.checkShiftConflict(shiftAssignmentDto.getShiftDate());
-
         //validate concierge exists
         validationService.validateConciergeExists(shiftAssignmentDto.getConciergeId());
 
+        //validate concierge is not on time off
+        validationService.validateConciergeAvailable(shiftAssignmentDto.getConciergeId(),
+                shiftAssignmentDto.getShiftDate());
+
         //create shift assignment
         ShiftAssignment assignment = shiftMapper.toEntity(shiftAssignmentDto);
 
@@ -56,7 +82,11 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
 
         assignment.setConcierge(concierge);
 
-        ShiftAssignment saved = shiftRepository.save(assignment);
+        //overlapping slots are rejected by the database (uk_shift_active_date_type and the slot keys of V17)
+        ShiftAssignment saved = saveOrConflict(assignment);
+        statsRepository.addShiftCounts(Map.of(ConciergeMonthStats.Key.of(saved), 1));
+        monthScheduleCache.invalidate(saved.getShiftDate());
+        eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.ASSIGNED, saved.getShiftDate()));
 
         log.info("Shift assigned with ID: {}", saved.getId());
         return shiftMapper.toDto(saved);
@@ -69,14 +99,16 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
         log.info("Updating shift ID: {}", id);
 
         ShiftAssignment existing = findShiftById(id);
+        LocalDate previousDate = existing.getShiftDate();
+        ConciergeMonthStats.Key previousKey = ConciergeMonthStats.Key.of(existing);
+
+        //fail fast when the client edited an older version
+        checkVersion(existing, shiftAssignmentDto.getVersion());
 
         //validate updated data
         validationService.validateShiftAssignment(shiftAssignmentDto);
-
-        //if date is changing, check for conflicts
-        if(!existing.getShiftDate().equals(shiftAssignmentDto.getShiftDate())){
-            validationService.checkShiftConflict(shiftAssignmentDto.getShiftDate());
-        }
+        validationService.validateConciergeAvailable(shiftAssignmentDto.getConciergeId(),
+                shiftAssignmentDto.getShiftDate());
 
         // If concierge is changing, validate and update
         if (!existing.getConcierge().getId().equals(shiftAssignmentDto.getConciergeId())) {
@@ -87,7 +119,16 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
         }
 
         shiftMapper.updateEntityFromDto(shiftAssignmentDto, existing);
-        ShiftAssignment updated = shiftRepository.save(existing);
+        //a move onto an assigned or overlapping slot fails on the slot unique keys
+        ShiftAssignment updated = saveOrConflict(existing);
+        ConciergeMonthStats.Key updatedKey = ConciergeMonthStats.Key.of(updated);
+        if (!updatedKey.equals(previousKey)) {
+            statsRepository.addShiftCounts(Map.of(previousKey, -1, updatedKey, 1));
+        }
+        monthScheduleCache.invalidate(previousDate);
+        monthScheduleCache.invalidate(updated.getShiftDate());
+        eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.UPDATED,
+                previousDate, updated.getShiftDate()));
 
         log.info("Shift updated: {}", updated.getId());
         return shiftMapper.toDto(updated);
@@ -101,6 +142,9 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
         ShiftAssignment shift = findShiftById(id);
         shift.softDelete();
         shiftRepository.save(shift);
+        statsRepository.addShiftCounts(Map.of(ConciergeMonthStats.Key.of(shift), -1));
+        monthScheduleCache.invalidate(shift.getShiftDate());
+        eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.REMOVED, shift.getShiftDate()));
 
         log.info("Shift soft deleted: {}", id);
     }
@@ -108,15 +152,41 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
     @Override
     @Transactional
     public void removeShiftByDate(LocalDate date) {
-        log.info("Removing shift for date: {}", date);
+        log.info("Removing shifts for date: {}", date);
+
+        List<ShiftAssignment> shifts = shiftRepository.findAllByShiftDateAndDeletedFalse(date);
+        if (shifts.isEmpty()) {
+            throw new ShiftAssignmentNotFoundException(date.toString());
+        }
+
+        Map<ConciergeMonthStats.Key, Integer> statsDeltas = new HashMap<>();
+        for (ShiftAssignment shift : shifts) {
+            shift.softDelete();
+            countShift(statsDeltas, ConciergeMonthStats.Key.of(shift), -1);
+        }
+        shiftRepository.saveAll(shifts);
+        statsRepository.addShiftCounts(statsDeltas);
+        monthScheduleCache.invalidate(date);
+        eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.REMOVED, date));
 
-        ShiftAssignment shift = shiftRepository.findByShiftDateAndDeletedFalse(date)
-                .orElseThrow(() -> new ShiftAssignmentNotFoundException(date.toString()));
+        log.info("{} shifts removed for date: {}", shifts.size(), date);
+    }
+
+    @Override
+    @Transactional
+    public void removeShiftByDate(LocalDate date, ShiftType shiftType) {
+        log.info("Removing {} shift for date: {}", shiftType, date);
+
+        ShiftAssignment shift = shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(date, shiftType)
+                .orElseThrow(() -> new ShiftAssignmentNotFoundException(date + " (" + shiftType + ")"));
 
         shift.softDelete();
         shiftRepository.save(shift);
+        statsRepository.addShiftCounts(Map.of(ConciergeMonthStats.Key.of(shift), -1));
+        monthScheduleCache.invalidate(date);
+        eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.REMOVED, date));
 
-        log.info("Shift removed for date: {}", date);
+        log.info("{} shift removed for date: {}", shiftType, date);
     }
 
     @Override
@@ -131,24 +201,60 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
     public ShiftAssignmentDto getShiftByDate(LocalDate date) {
         log.debug("Getting shift by date: {}", date);
 
-        return shiftRepository.findByShiftDateAndDeletedFalse(date)
+        return shiftRepository.findAllByShiftDateAndDeletedFalse(date).stream()
+                .min(Comparator.comparing(ShiftAssignment::getShiftType))
                 .map(shiftMapper::toDto)
                 .orElse(null);
     }
 
     @Override
-    public List<ShiftAssignmentDto> getShiftsByConcierge(Long conciergeId) {
-        log.debug("Getting shifts for concierge ID: {}", conciergeId);
+    public ShiftAssignmentDto getShiftByDate(LocalDate date, ShiftType shiftType) {
+        log.debug("Getting {} shift by date: {}", shiftType, date);
 
-        List<ShiftAssignment> shifts = shiftRepository.findByConciergeIdAndDeletedFalse(conciergeId);
-        return shiftMapper.toDtoList(shifts);
+        return shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(date, shiftType)
+                .map(shiftMapper::toDto)
+                .orElse(null);
+    }
+
+    @Override
+    public CursorPageDto<ShiftAssignmentDto> getShiftsByConcierge(Long conciergeId, String cursor, int size) {
+        log.debug("Getting shifts page for concierge ID: {} after cursor {}", conciergeId, cursor);
+
+        CursorUtils.validatePageSize(size);
+
+        // One extra row tells whether a next page exists, so no count query is needed
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<ShiftAssignment> shifts;
+        if (cursor == null || cursor.isBlank()) {
+            shifts = shiftRepository.findLatestByConcierge(conciergeId, limit);
+        } else {
+            String[] keys = CursorUtils.decode(cursor, SHIFT_CURSOR, 2);
+            try {
+                shifts = shiftRepository.findByConciergeBefore(conciergeId, LocalDate.parse(keys[0]),
+                        Long.parseLong(keys[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidInputException("Invalid cursor: " + cursor);
+            }
+        }
+        // Only an empty first page needs to tell an unknown concierge from one without shifts
+        if (shifts.isEmpty() && cursor == null && !conciergeRepository.existsById(conciergeId)) {
+            throw new ConciergeNotFoundException(conciergeId);
+        }
+
+        String nextCursor = null;
+        if (shifts.size() > size) {
+            shifts = shifts.subList(0, size);
+            ShiftAssignment last = shifts.get(size - 1);
+            nextCursor = CursorUtils.encode(SHIFT_CURSOR, last.getShiftDate(), last.getId());
+        }
+        return new CursorPageDto<>(shiftMapper.toDtoList(shifts), nextCursor);
     }
 
     @Override
     public List<ShiftAssignmentDto> getShiftsInDateRange(LocalDate startDate, LocalDate endDate) {
         log.debug("Getting shifts from {} to {}", startDate, endDate);
 
-        List<ShiftAssignment> shifts = shiftRepository.findByShiftDateBetweenAndDeletedFalse(startDate, endDate);
+        List<ShiftAssignment> shifts = shiftRepository.findWithConciergeByShiftDateBetween(startDate, endDate);
         return shiftMapper.toDtoList(shifts);
     }
 
@@ -160,22 +266,219 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
     @Override
     @Transactional
     public List<ShiftAssignmentDto> bulkAssignShifts(List<ShiftAssignmentDto> shiftAssignments) {
+        BulkAssignmentResultDto result = bulkAssignShiftsWithReport(shiftAssignments);
+
+        List<ShiftAssignmentDto> created = new ArrayList<>(result.getSucceeded());
+        for (BulkAssignmentResultDto.RowResult row : result.getRows()) {
+            if (row.isSuccess()) {
+                created.add(shiftAssignments.get(row.getIndex()));
+            }
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public BulkAssignmentResultDto bulkAssignShiftsWithReport(List<ShiftAssignmentDto> shiftAssignments) {
+        BulkAssignmentResultDto result = insertShifts(shiftAssignments, true);
+
+        List<LocalDate> assignedDates = result.getRows().stream()
+                .filter(BulkAssignmentResultDto.RowResult::isSuccess)
+                .map(BulkAssignmentResultDto.RowResult::getShiftDate)
+                .toList();
+        if (!assignedDates.isEmpty()) {
+            eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.ASSIGNED, assignedDates));
+        }
+        return result;
+    }
+
+    //helper method for set-based bulk insert (validation, one conflict query, JDBC batch)
+    //restores skip the time-off check: they replay recorded history, not new planning
+    private BulkAssignmentResultDto insertShifts(List<ShiftAssignmentDto> shiftAssignments,
+                                                 boolean checkAvailability) {
         log.info("Bulk assigning {} shifts", shiftAssignments.size());
 
-        List<ShiftAssignmentDto> created = new ArrayList<>();
+        BulkAssignmentResultDto.RowResult[] results = new BulkAssignmentResultDto.RowResult[shiftAssignments.size()];
 
-        for (ShiftAssignmentDto dto : shiftAssignments) {
+        //validate the whole batch in memory (slots as ShiftType.slotKey)
+        Set<Long> batchSlots = new HashSet<>();
+        Set<Long> conciergeIds = new HashSet<>();
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+
+        for (int i = 0; i < shiftAssignments.size(); i++) {
+            ShiftAssignmentDto dto = shiftAssignments.get(i);
             try {
-                ShiftAssignmentDto assigned = assignShift(dto);
-                created.add(assigned);
-            } catch (Exception e) {
-                log.warn("Failed to assign shift for date {}: {}", dto.getShiftDate(), e.getMessage());
-                // Continue with remaining shifts
+                validationService.validateShiftAssignment(dto);
+                if (checkAvailability) {
+                    validationService.validateConciergeAvailable(dto.getConciergeId(), dto.getShiftDate());
+                }
+            } catch (ConciergeSchedulerException e) {
+                results[i] = failedRow(i, dto, e.getMessage());
+                continue;
+            }
+
+            if (isOccupied(batchSlots, dto.getShiftDate(), dto.getShiftType())) {
+                results[i] = failedRow(i, dto, new ShiftConflictException(dto.getShiftDate(), dto.getShiftType()).getMessage());
+                continue;
             }
+            batchSlots.add(dto.getShiftType().slotKey(dto.getShiftDate()));
+
+            conciergeIds.add(dto.getConciergeId());
+            minDate = minDate == null || dto.getShiftDate().isBefore(minDate) ? dto.getShiftDate() : minDate;
+            maxDate = maxDate == null || dto.getShiftDate().isAfter(maxDate) ? dto.getShiftDate() : maxDate;
         }
 
-        log.info("Successfully assigned {} out of {} shifts", created.size(), shiftAssignments.size());
-        return created;
+        //resolve concierges and already assigned slots for the span (two queries)
+        Map<Long, Concierge> concierges = new HashMap<>();
+        Set<Long> assignedSlots = new HashSet<>();
+        if (minDate != null) {
+            conciergeRepository.findAllById(conciergeIds)
+                    .forEach(concierge -> concierges.put(concierge.getId(), concierge));
+            for (Object[] slot : shiftRepository.findAssignedSlotsBetween(minDate, maxDate)) {
+                assignedSlots.add(((ShiftType) slot[1]).slotKey((LocalDate) slot[0]));
+            }
+        }
+
+        List<ShiftAssignment> toInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+
+        for (int i = 0; i < shiftAssignments.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ShiftAssignmentDto dto = shiftAssignments.get(i);
+
+            Concierge concierge = concierges.get(dto.getConciergeId());
+            if (concierge == null) {
+                results[i] = failedRow(i, dto, new ConciergeNotFoundException(dto.getConciergeId()).getMessage());
+                continue;
+            }
+            if (isOccupied(assignedSlots, dto.getShiftDate(), dto.getShiftType())) {
+                results[i] = conflictRow(i, dto);
+                continue;
+            }
+
+            ShiftAssignment assignment = shiftMapper.toEntity(dto);
+            assignment.setConcierge(concierge);
+            toInsert.add(assignment);
+            insertIndexes.add(i);
+
+            // enrich submitted DTO for callers of bulkAssignShifts
+            dto.setConciergeName(concierge.getName());
+            dto.setConciergeColor(concierge.getColor().name());
+        }
+
+        //insert the survivors with JDBC batch statements
+        boolean[] inserted = shiftRepository.batchInsert(toInsert);
+
+        Set<YearMonth> affectedMonths = new HashSet<>();
+        Map<ConciergeMonthStats.Key, Integer> statsDeltas = new HashMap<>();
+        for (int j = 0; j < inserted.length; j++) {
+            int i = insertIndexes.get(j);
+            ShiftAssignmentDto dto = shiftAssignments.get(i);
+            if (inserted[j]) {
+                results[i] = BulkAssignmentResultDto.RowResult.builder()
+                        .index(i)
+                        .shiftDate(dto.getShiftDate())
+                        .conciergeId(dto.getConciergeId())
+                        .success(true)
+                        .build();
+                affectedMonths.add(YearMonth.from(dto.getShiftDate()));
+                //counters only follow rows the database accepted, a lost slot must not be counted
+                countShift(statsDeltas, ConciergeMonthStats.Key.of(toInsert.get(j)), 1);
+            } else {
+                //another request assigned the slot after the pre-check (uk_shift_active_date_type)
+                results[i] = conflictRow(i, dto);
+            }
+        }
+        statsRepository.addShiftCounts(statsDeltas);
+        monthScheduleCache.invalidateMonths(affectedMonths);
+
+        int succeeded = (int) Arrays.stream(results).filter(BulkAssignmentResultDto.RowResult::isSuccess).count();
+        int failed = results.length - succeeded;
+
+        if (failed > 0) {
+            log.warn("Bulk assignment rejected {} shifts", failed);
+        }
+        log.info("Successfully assigned {} out of {} shifts", succeeded, shiftAssignments.size());
+
+        return BulkAssignmentResultDto.builder()
+                .rows(Arrays.asList(results))
+                .succeeded(succeeded)
+                .failed(failed)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int replaceMonthShifts(int year, Collection<Integer> months,
+                                  List<ShiftAssignmentDto> shifts, boolean diffOnly) {
+        log.info("Replacing shifts for {} months of {} (diffOnly={})", months.size(), year, diffOnly);
+
+        if (months.isEmpty()) {
+            return 0;
+        }
+
+        //target state per slot (ShiftType.slotKey), restricted to the requested months
+        Map<Long, ShiftAssignmentDto> target = new TreeMap<>();
+        for (ShiftAssignmentDto dto : shifts) {
+            LocalDate date = dto.getShiftDate();
+            if (date != null && date.getYear() == year && months.contains(date.getMonthValue())) {
+                target.put(ShiftType.orDefault(dto.getShiftType()).slotKey(date), dto);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ShiftAssignmentDto> toInsert;
+        int removed;
+
+        if (diffOnly) {
+            //one read of the current state, then soft delete only the slots that differ
+            List<Long> staleIds = new ArrayList<>();
+            Map<ConciergeMonthStats.Key, Integer> statsDeltas = new HashMap<>();
+            for (ShiftAssignment current : shiftRepository.findByYearAndMonthIn(year, months)) {
+                long slotKey = current.getShiftType().slotKey(current.getShiftDate());
+                ShiftAssignmentDto wanted = target.get(slotKey);
+                if (wanted != null && isSameAssignment(current, wanted)) {
+                    target.remove(slotKey);
+                } else {
+                    staleIds.add(current.getId());
+                    countShift(statsDeltas, ConciergeMonthStats.Key.of(current), -1);
+                }
+            }
+
+            removed = staleIds.isEmpty() ? 0 : shiftRepository.softDeleteByIdIn(staleIds, now);
+            statsRepository.addShiftCounts(statsDeltas);
+            toInsert = new ArrayList<>(target.values());
+        } else {
+            //counters of the emptied months are reset before the inserts add to them
+            removed = shiftRepository.softDeleteByYearAndMonthIn(year, months, now);
+            statsRepository.rebuildMonths(year, months);
+            toInsert = new ArrayList<>(target.values());
+        }
+
+        BulkAssignmentResultDto result = insertShifts(toInsert, false);
+
+        //the emptied slots were assigned by a concurrent request: undo the whole replace so the caller can retry
+        long conflicts = result.getRows().stream().filter(BulkAssignmentResultDto.RowResult::isConflict).count();
+        if (conflicts > 0) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "%d slots of %d/%s were assigned by another request during the replace", conflicts, year, months));
+        }
+        if (result.getFailed() > 0) {
+            log.warn("{} shifts could not be restored", result.getFailed());
+        }
+
+        List<YearMonth> replacedMonths = months.stream()
+                .map(month -> YearMonth.of(year, month))
+                .toList();
+        monthScheduleCache.invalidateMonths(replacedMonths);
+        eventPublisher.publishEvent(ShiftChangedEvent.replaced(replacedMonths));
+
+        log.info("Replaced schedule for {} months of {}: {} removed, {} inserted",
+                months.size(), year, removed, result.getSucceeded());
+        return removed + result.getSucceeded();
     }
 
     @Override
@@ -185,14 +488,86 @@ public class ShiftSchedulingServiceImpl implements ShiftSchedulingService {
 
         List<ShiftAssignment> shifts = shiftRepository.findByConciergeIdAndDeletedFalse(conciergeId);
 
+        Set<YearMonth> affectedMonths = new HashSet<>();
+        List<LocalDate> removedDates = new ArrayList<>(shifts.size());
+        Map<ConciergeMonthStats.Key, Integer> statsDeltas = new HashMap<>();
         for (ShiftAssignment shift : shifts) {
             shift.softDelete();
+            affectedMonths.add(YearMonth.from(shift.getShiftDate()));
+            removedDates.add(shift.getShiftDate());
+            countShift(statsDeltas, ConciergeMonthStats.Key.of(shift), -1);
         }
 
         shiftRepository.saveAll(shifts);
+        statsRepository.addShiftCounts(statsDeltas);
+        monthScheduleCache.invalidateMonths(affectedMonths);
+        if (!removedDates.isEmpty()) {
+            eventPublisher.publishEvent(ShiftChangedEvent.of(ShiftChangedEvent.Type.REMOVED, removedDates));
+        }
         log.info("Deleted {} shifts for concierge ID: {}", shifts.size(), conciergeId);
     }
 
+    //helper method to accumulate a concierge month counter change
+    private void countShift(Map<ConciergeMonthStats.Key, Integer> deltas, ConciergeMonthStats.Key key, int delta) {
+        deltas.merge(key, delta, Integer::sum);
+    }
+
+    //helper method to compare a stored shift with a wanted assignment
+    private boolean isSameAssignment(ShiftAssignment current, ShiftAssignmentDto wanted) {
+        return Objects.equals(current.getConcierge().getId(), wanted.getConciergeId())
+                && current.getShiftType() == ShiftType.orDefault(wanted.getShiftType())
+                && Objects.equals(current.getNotes(), wanted.getNotes());
+    }
+
+    //helper method to check a slot against occupied slot keys (FULL_DAY overlaps every slot of its date)
+    private boolean isOccupied(Set<Long> occupiedSlots, LocalDate date, ShiftType shiftType) {
+        for (ShiftType other : ShiftType.values()) {
+            if (shiftType.overlaps(other) && occupiedSlots.contains(other.slotKey(date))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //helper method to build the result of a row whose slot is held by a stored shift
+    private BulkAssignmentResultDto.RowResult conflictRow(int index, ShiftAssignmentDto dto) {
+        BulkAssignmentResultDto.RowResult row = failedRow(index, dto,
+                new ShiftConflictException(dto.getShiftDate(), dto.getShiftType()).getMessage());
+        row.setConflict(true);
+        return row;
+    }
+
+    //helper method to build a failed bulk row result
+    private BulkAssignmentResultDto.RowResult failedRow(int index, ShiftAssignmentDto dto, String message) {
+        log.debug("Bulk row {} rejected: {}", index, message);
+        return BulkAssignmentResultDto.RowResult.builder()
+                .index(index)
+                .shiftDate(dto != null ? dto.getShiftDate() : null)
+                .conciergeId(dto != null ? dto.getConciergeId() : null)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+    //helper method to save and flush a shift, translating a slot unique key violation into a conflict
+    private ShiftAssignment saveOrConflict(ShiftAssignment shift) {
+        try {
+            return shiftRepository.saveAndFlush(shift);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Shift conflict for date {}: {}", shift.getShiftDate(), e.getMostSpecificCause().getMessage());
+            throw new ShiftConflictException(shift.getShiftDate(), shift.getShiftType());
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("ShiftAssignment", shift.getId(), e);
+        }
+    }
+
+    //helper method to reject an update based on a stale version
+    private void checkVersion(ShiftAssignment shift, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(shift.getVersion())) {
+            throw new ConcurrentUpdateException("ShiftAssignment", shift.getId());
+        }
+    }
+
     //helper method to find shift by id
     private ShiftAssignment findShiftById(Long id) {
         return shiftRepository.findById(id)
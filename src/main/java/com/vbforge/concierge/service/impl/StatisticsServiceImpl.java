@@ -0,0 +1,234 @@
+package com.vbforge.concierge.service.impl;
+
+import com.vbforge.concierge.cache.YearStatisticsCache;
+import com.vbforge.concierge.dto.ConciergeShiftStatsDto;
+import com.vbforge.concierge.dto.ConciergeYearStatsDto;
+import com.vbforge.concierge.dto.MonthCoverageDto;
+import com.vbforge.concierge.dto.StatisticsDto;
+import com.vbforge.concierge.dto.YearStatisticsDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.exception.InvalidInputException;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.service.StatisticsService;
+import com.vbforge.concierge.service.ValidationService;
+import com.vbforge.concierge.util.DateUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Implementation of StatisticsService
+ * Counts are grouped per concierge in SQL; Java only merges in active concierges without shifts.
+ * The year overview is counted in one pass over a single date range query instead.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private static final long MAX_RANGE_DAYS = 366;
+
+    private final ShiftAssignmentRepository shiftRepository;
+    private final ConciergeRepository conciergeRepository;
+    private final ConciergeMonthStatsRepository statsRepository;
+    private final ValidationService validationService;
+    private final YearStatisticsCache yearStatisticsCache;
+
+    @Override
+    public StatisticsDto getMonthStatistics(int year, int monthValue) {
+        log.debug("Getting statistics for {}-{}", year, monthValue);
+
+        validationService.validateYearMonth(year, monthValue);
+
+        StatisticsDto statistics = buildStatistics(shiftRepository.aggregateByConciergeForMonth(year, monthValue),
+                DateUtils.getFirstDayOfMonth(year, monthValue), DateUtils.getLastDayOfMonth(year, monthValue));
+        statistics.setYear(year);
+        statistics.setMonth(monthValue);
+        return statistics;
+    }
+
+    @Override
+    public StatisticsDto getYearStatistics(int year) {
+        log.debug("Getting statistics for {}", year);
+
+        validationService.validateYearMonth(year, 1);
+
+        StatisticsDto statistics = buildStatistics(shiftRepository.aggregateByConciergeForYear(year),
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        statistics.setYear(year);
+        return statistics;
+    }
+
+    @Override
+    public StatisticsDto getStatistics(LocalDate startDate, LocalDate endDate) {
+        log.debug("Getting statistics from {} to {}", startDate, endDate);
+
+        if (startDate == null || endDate == null) {
+            throw new InvalidInputException("Start and end date are required");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidInputException("End date cannot be before start date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new InvalidInputException("Statistics range cannot be longer than " + MAX_RANGE_DAYS + " days");
+        }
+
+        return buildStatistics(shiftRepository.aggregateByConciergeForRange(startDate, endDate), startDate, endDate);
+    }
+
+    @Override
+    public YearStatisticsDto getYearOverview(int year) {
+        log.debug("Getting year overview for {}", year);
+
+        validationService.validateYearMonth(year, 1);
+
+        // Past years rarely change, their counts are cached until a shift write touches them
+        boolean closed = year < DateUtils.getCurrentYear();
+        YearStatisticsCache.YearCounts counts = closed
+                ? yearStatisticsCache.get(year, () -> countYear(year))
+                : countYear(year);
+
+        Map<Long, Concierge> concierges = new HashMap<>();
+        conciergeRepository.findAllById(counts.byConcierge().keySet()).forEach(c -> concierges.put(c.getId(), c));
+        conciergeRepository.findByActiveTrueAndDeletedFalse().forEach(c -> concierges.putIfAbsent(c.getId(), c));
+
+        List<ConciergeYearStatsDto> rows = new ArrayList<>(concierges.size());
+        for (Concierge concierge : concierges.values()) {
+            int[] monthCounts = counts.byConcierge().getOrDefault(concierge.getId(), new int[12]).clone();
+            rows.add(ConciergeYearStatsDto.builder()
+                    .conciergeId(concierge.getId())
+                    .name(concierge.getName())
+                    .color(concierge.getColor())
+                    .active(concierge.isActive() && !concierge.isDeleted())
+                    .monthCounts(monthCounts)
+                    .totalShifts(Arrays.stream(monthCounts).sum())
+                    .build());
+        }
+        rows.sort(Comparator.comparing(ConciergeYearStatsDto::getName, String.CASE_INSENSITIVE_ORDER));
+
+        List<MonthCoverageDto> months = new ArrayList<>(12);
+        int totalShifts = 0;
+        int totalAssignedDays = 0;
+        for (int month = 1; month <= 12; month++) {
+            int daysInMonth = YearMonth.of(year, month).lengthOfMonth();
+            int assignedDays = counts.assignedDays()[month - 1];
+            months.add(MonthCoverageDto.builder()
+                    .month(month)
+                    .monthName(DateUtils.getMonthName(month))
+                    .daysInMonth(daysInMonth)
+                    .shiftCount(counts.shifts()[month - 1])
+                    .assignedDays(assignedDays)
+                    .unassignedDays(daysInMonth - assignedDays)
+                    .coveragePercent(assignedDays * 100.0 / daysInMonth)
+                    .build());
+            totalShifts += counts.shifts()[month - 1];
+            totalAssignedDays += assignedDays;
+        }
+
+        int daysInYear = Year.of(year).length();
+        return YearStatisticsDto.builder()
+                .year(year)
+                .closed(closed)
+                .months(months)
+                .concierges(rows)
+                .totalShifts(totalShifts)
+                .totalAssignedDays(totalAssignedDays)
+                .totalUnassignedDays(daysInYear - totalAssignedDays)
+                .coveragePercent(totalAssignedDays * 100.0 / daysInYear)
+                .build();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to count a whole year in one pass over a single date range query (rows ordered by date)
+    private YearStatisticsCache.YearCounts countYear(int year) {
+        List<Object[]> rows = shiftRepository.findShiftColumnsBetween(LocalDate.of(year, 1, 1),
+                LocalDate.of(year, 12, 31));
+
+        Map<Long, int[]> byConcierge = new HashMap<>();
+        int[] shifts = new int[12];
+        int[] assignedDays = new int[12];
+        LocalDate previousDate = null;
+        for (Object[] row : rows) {
+            LocalDate date = (LocalDate) row[0];
+            int month = date.getMonthValue() - 1;
+            shifts[month]++;
+            byConcierge.computeIfAbsent((Long) row[1], id -> new int[12])[month]++;
+            // Several slots of one day cover it once
+            if (!date.equals(previousDate)) {
+                assignedDays[month]++;
+                previousDate = date;
+            }
+        }
+        return new YearStatisticsCache.YearCounts(byConcierge, shifts, assignedDays);
+    }
+
+    //helper method to merge aggregate rows with active concierges and derive the summary figures
+    private StatisticsDto buildStatistics(List<ConciergeShiftStatsDto> rows, LocalDate startDate, LocalDate endDate) {
+        Map<Long, ConciergeShiftStatsDto> byConcierge = new HashMap<>();
+        rows.forEach(row -> byConcierge.put(row.getConciergeId(), row));
+
+        //active concierges without shifts in the period still get a row
+        List<ConciergeShiftStatsDto> merged = new ArrayList<>(rows);
+        int activeConcierges = 0;
+        for (Concierge concierge : conciergeRepository.findByActiveTrueAndDeletedFalse()) {
+            activeConcierges++;
+            if (!byConcierge.containsKey(concierge.getId())) {
+                ConciergeShiftStatsDto row = new ConciergeShiftStatsDto(concierge.getId(), concierge.getName(),
+                        concierge.getColor(), true, 0L, 0L);
+                byConcierge.put(concierge.getId(), row);
+                merged.add(row);
+            }
+        }
+        merged.sort(Comparator.comparing(ConciergeShiftStatsDto::getName, String.CASE_INSENSITIVE_ORDER));
+
+        //all-time totals from the concierge month counters
+        if (!byConcierge.isEmpty()) {
+            byConcierge.values().forEach(row -> row.setTotalShiftCount(0L));
+            for (Object[] total : statsRepository.sumShiftCounts(byConcierge.keySet())) {
+                byConcierge.get((Long) total[0]).setTotalShiftCount(((Number) total[1]).longValue());
+            }
+        }
+
+        long totalShifts = 0;
+        long totalWeekendShifts = 0;
+        ConciergeShiftStatsDto mostActive = null;
+        ConciergeShiftStatsDto leastActive = null;
+        for (ConciergeShiftStatsDto row : merged) {
+            totalShifts += row.getShiftCount();
+            totalWeekendShifts += row.getWeekendShiftCount();
+            if (mostActive == null || row.getShiftCount() > mostActive.getShiftCount()) {
+                mostActive = row;
+            }
+            if (leastActive == null || row.getShiftCount() < leastActive.getShiftCount()) {
+                leastActive = row;
+            }
+        }
+
+        return StatisticsDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .concierges(merged)
+                .totalShifts((int) totalShifts)
+                .totalWeekendShifts((int) totalWeekendShifts)
+                .activeConcierges(activeConcierges)
+                .averageShiftsPerConcierge(activeConcierges > 0 ? (double) totalShifts / activeConcierges : 0)
+                .mostActiveConcierge(mostActive != null ? mostActive.getName() : null)
+                .maxShiftCount(mostActive != null ? (int) mostActive.getShiftCount() : 0)
+                .leastActiveConcierge(leastActive != null ? leastActive.getName() : null)
+                .minShiftCount(leastActive != null ? (int) leastActive.getShiftCount() : 0)
+                .build();
+    }
+}
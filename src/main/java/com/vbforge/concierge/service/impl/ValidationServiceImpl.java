@@ -1,5 +1,6 @@
 package com.vbforge.concierge.service.impl;
 
+import com.vbforge.concierge.cache.AvailabilityIndex;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.exception.*;
 import com.vbforge.concierge.repository.ConciergeRepository;
@@ -21,6 +22,7 @@ public class ValidationServiceImpl implements ValidationService {
 
     private final ConciergeRepository conciergeRepository;
     private final ShiftAssignmentRepository shiftAssignmentRepository;
+    private final AvailabilityIndex availabilityIndex;
 
     @Override
     public void validateShiftAssignment(ShiftAssignmentDto shiftAssignmentDto) {
@@ -142,5 +144,13 @@ public class ValidationServiceImpl implements ValidationService {
         }
     }
 
+    @Override
+    public void validateConciergeAvailable(Long conciergeId, LocalDate date) {
+        log.debug("Validating concierge {} is available on {}", conciergeId, date);
+
+        if (!availabilityIndex.isAvailable(conciergeId, date)) {
+            throw new ConciergeUnavailableException(conciergeId, date);
+        }
+    }
 
 }
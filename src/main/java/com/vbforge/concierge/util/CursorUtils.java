@@ -0,0 +1,71 @@
+package com.vbforge.concierge.util;
+
+import com.vbforge.concierge.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for opaque keyset pagination cursors
+ * A cursor is the URL-safe Base64 of "kind|key1|key2..." taken from the last row of a page
+ */
+public class CursorUtils {
+
+    /**
+     * Largest page a cursor listing returns
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encode the sort keys of the last row of a page
+     * @param kind Listing the cursor belongs to (a cursor of another listing is rejected)
+     * @param keys Sort key values, in sort order
+     */
+    public static String encode(String kind, Object... keys) {
+        StringBuilder value = new StringBuilder(kind);
+        for (Object key : keys) {
+            value.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode the sort keys of a cursor
+     * @return Key values as strings, in sort order
+     * @throws InvalidInputException if the cursor is malformed or belongs to another listing
+     */
+    public static String[] decode(String cursor, String kind, int keyCount) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+        if (parts.length != keyCount + 1 || !kind.equals(parts[0])) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return keys;
+    }
+
+    /**
+     * Validate a requested page size
+     * @throws InvalidInputException if the size is outside 1..MAX_PAGE_SIZE
+     */
+    public static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+}
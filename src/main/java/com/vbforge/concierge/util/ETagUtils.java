@@ -0,0 +1,60 @@
+package com.vbforge.concierge.util;
+
+import com.vbforge.concierge.exception.InvalidInputException;
+
+import java.util.Arrays;
+
+/**
+ * Utility class for entity tags derived from optimistic lock versions
+ */
+public class ETagUtils {
+
+    private ETagUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Strong entity tag for an entity version, e.g. "3"
+     */
+    public static String fromVersion(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * Strong entity tag for an entity version and the derived values returned with it, e.g. "3-1f2e3d"
+     * Derived values (counts, names of related rows) change without bumping the version; the suffix
+     * makes the tag change with them. If-Match still compares the version part only.
+     */
+    public static String fromVersion(Long version, Object... derived) {
+        return "\"" + (version != null ? version : 0L) + "-"
+                + Integer.toHexString(Arrays.hashCode(derived)) + "\"";
+    }
+
+    /**
+     * Parse the version from an If-Match header (a suffix of derived values is ignored)
+     * @return version, or null for the wildcard "*" (match any version)
+     * @throws InvalidInputException if the header is not a single version tag
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        String value = ifMatch.trim();
+        if ("*".equals(value)) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            throw new InvalidInputException("Weak entity tags cannot be used for conditional updates: " + ifMatch);
+        }
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        int suffix = value.indexOf('-');
+        if (suffix > 0) {
+            value = value.substring(0, suffix);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.vbforge.concierge.util;
+
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.SnapshotException;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact binary codec for schedule snapshots
+ *
+ * Layout (version 2): an uncompressed header of version byte, slots per day and the shift type
+ * name of every slot, followed by a deflated body of start epoch day, day count, a concierge
+ * dictionary (id, name, color), one varint per (day, shift slot) (0 = free, otherwise dictionary
+ * index + 1) and a sparse list of slots carrying notes. Audit fields are not stored.
+ * Slots are decoded through the stored names, so adding or reordering ShiftType constants
+ * does not change the meaning of existing snapshots.
+ *
+ * Version 1 stored one varint per day plus a sparse list of days carrying notes or a
+ * non-default shift type. It is still decoded.
+ */
+public class SnapshotCodec {
+
+    public static final byte FORMAT_VERSION = 2;
+
+    private static final byte FORMAT_VERSION_DAILY = 1;
+
+    private SnapshotCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Encode shifts into the compact snapshot format
+     * At most one shift per (date, shift type) is supported
+     */
+    public static byte[] encode(List<ShiftAssignmentDto> shifts) {
+        List<ShiftAssignmentDto> sorted = new ArrayList<>(shifts);
+        sorted.sort(Comparator.comparing(ShiftAssignmentDto::getShiftDate));
+
+        long startDay = sorted.isEmpty() ? 0 : sorted.get(0).getShiftDate().toEpochDay();
+        int dayCount = sorted.isEmpty() ? 0
+                : (int) (sorted.get(sorted.size() - 1).getShiftDate().toEpochDay() - startDay + 1);
+
+        //concierge dictionary in order of first appearance
+        Map<Long, Integer> dictionary = new LinkedHashMap<>();
+        List<ShiftAssignmentDto> dictionaryEntries = new ArrayList<>();
+        int[] codes = new int[dayCount * ShiftType.SLOT_COUNT];
+        List<Integer> noteSlots = new ArrayList<>();
+        List<String> notes = new ArrayList<>();
+
+        for (ShiftAssignmentDto shift : sorted) {
+            int day = (int) (shift.getShiftDate().toEpochDay() - startDay);
+            int slot = day * ShiftType.SLOT_COUNT + ShiftType.orDefault(shift.getShiftType()).getSlot();
+            if (codes[slot] != 0) {
+                throw new SnapshotException("Snapshot format supports one shift per slot: "
+                        + shift.getShiftDate() + " " + ShiftType.orDefault(shift.getShiftType()));
+            }
+
+            Integer index = dictionary.get(shift.getConciergeId());
+            if (index == null) {
+                index = dictionaryEntries.size();
+                dictionary.put(shift.getConciergeId(), index);
+                dictionaryEntries.add(shift);
+            }
+            codes[slot] = index + 1;
+
+            if (shift.getNotes() != null) {
+                noteSlots.add(slot);
+                notes.add(shift.getNotes());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + codes.length);
+        bytes.write(FORMAT_VERSION);
+        writeSlotHeader(bytes);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeLong(startDay);
+            writeVarInt(out, dayCount);
+
+            writeVarInt(out, dictionaryEntries.size());
+            for (ShiftAssignmentDto entry : dictionaryEntries) {
+                out.writeLong(entry.getConciergeId());
+                writeNullableString(out, entry.getConciergeName());
+                writeNullableString(out, entry.getConciergeColor());
+            }
+
+            for (int code : codes) {
+                writeVarInt(out, code);
+            }
+
+            writeVarInt(out, noteSlots.size());
+            for (int i = 0; i < noteSlots.size(); i++) {
+                writeVarInt(out, noteSlots.get(i));
+                out.writeUTF(notes.get(i));
+            }
+        } catch (IOException e) {
+            throw new SnapshotException("Failed to encode snapshot", e);
+        } finally {
+            deflater.end();
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode shifts from the compact snapshot format (ordered by date and slot)
+     */
+    public static List<ShiftAssignmentDto> decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            throw new SnapshotException("Snapshot data is empty");
+        }
+        if (data[0] != FORMAT_VERSION && data[0] != FORMAT_VERSION_DAILY) {
+            throw new SnapshotException("Unsupported snapshot format version: " + data[0]);
+        }
+
+        ByteArrayInputStream body = new ByteArrayInputStream(data, 1, data.length - 1);
+        ShiftType[] slotTypes;
+        try {
+            slotTypes = data[0] == FORMAT_VERSION ? readSlotHeader(new DataInputStream(body)) : null;
+        } catch (IOException | RuntimeException e) {
+            throw new SnapshotException("Failed to decode snapshot header", e);
+        }
+        int slotsPerDay = slotTypes != null ? slotTypes.length : 1;
+
+        Inflater inflater = new Inflater();
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(body, inflater))) {
+
+            long startDay = in.readLong();
+            int dayCount = readVarInt(in);
+
+            int dictionarySize = readVarInt(in);
+            long[] ids = new long[dictionarySize];
+            String[] names = new String[dictionarySize];
+            String[] colors = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                ids[i] = in.readLong();
+                names[i] = readNullableString(in);
+                colors[i] = readNullableString(in);
+            }
+
+            List<ShiftAssignmentDto> shifts = new ArrayList<>();
+            ShiftAssignmentDto[] bySlot = new ShiftAssignmentDto[dayCount * slotsPerDay];
+            for (int slot = 0; slot < bySlot.length; slot++) {
+                int code = readVarInt(in);
+                if (code == 0) {
+                    continue;
+                }
+                int index = code - 1;
+                ShiftAssignmentDto shift = ShiftAssignmentDto.builder()
+                        .shiftDate(LocalDate.ofEpochDay(startDay + slot / slotsPerDay))
+                        .conciergeId(ids[index])
+                        .conciergeName(names[index])
+                        .conciergeColor(colors[index])
+                        .shiftType(slotTypes == null ? null : slotTypes[slot % slotsPerDay])
+                        .build();
+                bySlot[slot] = shift;
+                shifts.add(shift);
+            }
+
+            int extrasCount = readVarInt(in);
+            for (int i = 0; i < extrasCount; i++) {
+                ShiftAssignmentDto shift = bySlot[readVarInt(in)];
+                if (slotTypes == null) {
+                    String shiftType = readNullableString(in);
+                    shift.setShiftType(shiftType != null ? ShiftType.valueOf(shiftType) : null);
+                    shift.setNotes(readNullableString(in));
+                } else {
+                    shift.setNotes(in.readUTF());
+                }
+            }
+
+            return shifts;
+        } catch (IOException | RuntimeException e) {
+            throw new SnapshotException("Failed to decode snapshot", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    private static void writeSlotHeader(ByteArrayOutputStream bytes) {
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            writeVarInt(out, ShiftType.SLOT_COUNT);
+            for (int slot = 0; slot < ShiftType.SLOT_COUNT; slot++) {
+                out.writeUTF(ShiftType.ofSlot(slot).name());
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new SnapshotException("Failed to encode snapshot", e);
+        }
+    }
+
+    //a slot whose shift type no longer exists cannot be decoded (ShiftType.valueOf fails)
+    private static ShiftType[] readSlotHeader(DataInputStream in) throws IOException {
+        int slotCount = readVarInt(in);
+        if (slotCount == 0) {
+            throw new SnapshotException("Snapshot declares no shift slots");
+        }
+        ShiftType[] types = new ShiftType[slotCount];
+        for (int slot = 0; slot < slotCount; slot++) {
+            types[slot] = ShiftType.valueOf(in.readUTF());
+        }
+        return types;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+}
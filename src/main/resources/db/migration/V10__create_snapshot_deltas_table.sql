@@ -0,0 +1,26 @@
+-- ============================================================
+-- V10__create_snapshot_deltas_table.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Per-day change records chained onto a month snapshot
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS snapshot_deltas (
+                                               id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                               history_id BIGINT NOT NULL,
+                                               checkpoint_seq INT NOT NULL,
+                                               checkpoint_at TIMESTAMP NOT NULL,
+                                               shift_date DATE NOT NULL,
+                                               concierge_id BIGINT NULL,
+                                               shift_type VARCHAR(20) NULL,
+                                               notes VARCHAR(500),
+                                               created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                               updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                               deleted BOOLEAN NOT NULL DEFAULT FALSE,
+
+                                               CONSTRAINT fk_delta_history FOREIGN KEY (history_id)
+                                                   REFERENCES month_history(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Chain replay (all / up to a timestamp)
+CREATE INDEX idx_delta_history_seq ON snapshot_deltas (history_id, checkpoint_seq);
+CREATE INDEX idx_delta_history_at ON snapshot_deltas (history_id, checkpoint_at);
@@ -0,0 +1,26 @@
+-- ============================================================
+-- V11__add_shift_active_date_unique.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Enforce one active shift per date in the database
+-- ============================================================
+
+-- Resolve existing duplicates: keep the newest active shift per date, soft delete the others
+UPDATE shift_assignments s
+    JOIN (SELECT shift_date, MAX(id) AS keep_id
+          FROM shift_assignments
+          WHERE deleted = FALSE
+          GROUP BY shift_date
+          HAVING COUNT(*) > 1) d ON s.shift_date = d.shift_date
+SET s.deleted = TRUE
+WHERE s.deleted = FALSE
+  AND s.id <> d.keep_id;
+
+-- active_date is the shift date for active rows and NULL for soft deleted rows;
+-- a unique index ignores NULLs, so any number of deleted rows may share a date
+ALTER TABLE shift_assignments
+    ADD COLUMN active_date DATE GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE shift_date END) STORED,
+    ADD CONSTRAINT uk_shift_active_date UNIQUE (active_date);
+
+-- Superseded by uk_shift_active_date; it also blocked re-assigning a date to a concierge
+-- who held it before (soft deleted rows kept the key)
+ALTER TABLE shift_assignments DROP INDEX uk_shift_date_concierge;
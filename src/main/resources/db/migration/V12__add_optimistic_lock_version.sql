@@ -0,0 +1,11 @@
+-- ============================================================
+-- V12__add_optimistic_lock_version.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Optimistic lock version column for all entities (BaseEntity.version)
+-- ============================================================
+
+ALTER TABLE concierges ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE shift_assignments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE month_history ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE snapshot_deltas ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
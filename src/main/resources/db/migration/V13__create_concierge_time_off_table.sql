@@ -0,0 +1,26 @@
+-- ============================================================
+-- V13__create_concierge_time_off_table.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Concierge time-off periods (inclusive date ranges) checked before assigning shifts
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS concierge_time_off (
+                                                  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                  concierge_id BIGINT NOT NULL,
+                                                  start_date DATE NOT NULL,
+                                                  end_date DATE NOT NULL,
+                                                  reason VARCHAR(255),
+                                                  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                                  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                                  deleted BOOLEAN NOT NULL DEFAULT FALSE,
+                                                  version BIGINT NOT NULL DEFAULT 0,
+
+                                                  CONSTRAINT fk_time_off_concierge FOREIGN KEY (concierge_id)
+                                                      REFERENCES concierges(id),
+                                                  CONSTRAINT chk_time_off_range CHECK (end_date >= start_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Year load of the availability index (all periods overlapping a date range)
+CREATE INDEX idx_time_off_deleted_range ON concierge_time_off (deleted, start_date, end_date);
+-- Time off of one concierge
+CREATE INDEX idx_time_off_concierge_range ON concierge_time_off (concierge_id, deleted, start_date);
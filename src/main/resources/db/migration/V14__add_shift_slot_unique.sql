@@ -0,0 +1,11 @@
+-- ============================================================
+-- V14__add_shift_slot_unique.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Several shifts per date, one active shift per (date, shift type) slot
+-- ============================================================
+
+-- Mixing FULL_DAY with 8-hour shifts on a date is rejected by the application
+ALTER TABLE shift_assignments
+    ADD CONSTRAINT uk_shift_active_date_type UNIQUE (active_date, shift_type);
+
+ALTER TABLE shift_assignments DROP INDEX uk_shift_active_date;
@@ -0,0 +1,31 @@
+-- ============================================================
+-- V15__create_concierge_month_stats_table.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Materialized active shift count per concierge and month
+--              (kept up to date by every shift write, rebuilt nightly from shift_assignments)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS concierge_month_stats (
+                                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                     concierge_id BIGINT NOT NULL,
+                                                     stats_year INT NOT NULL,
+                                                     stats_month INT NOT NULL,
+                                                     shift_count INT NOT NULL DEFAULT 0,
+                                                     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+                                                     -- Derived data: counters go with their concierge
+                                                     CONSTRAINT fk_month_stats_concierge FOREIGN KEY (concierge_id)
+                                                         REFERENCES concierges(id) ON DELETE CASCADE,
+                                                     -- Upsert target; also serves the per-concierge lookups (current month, total)
+                                                     CONSTRAINT uk_month_stats_concierge_month UNIQUE (concierge_id, stats_year, stats_month)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Statistics dashboard (all concierges of one month)
+CREATE INDEX idx_month_stats_month ON concierge_month_stats (stats_year, stats_month);
+
+-- Backfill from existing shifts
+INSERT INTO concierge_month_stats (concierge_id, stats_year, stats_month, shift_count)
+SELECT concierge_id, shift_year, shift_month, COUNT(*)
+FROM shift_assignments
+WHERE deleted = FALSE
+GROUP BY concierge_id, shift_year, shift_month;
@@ -0,0 +1,26 @@
+-- ============================================================
+-- V16__add_keyset_pagination_indexes.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Indexes matching the sort keys of the keyset (seek) paginated listings
+-- ============================================================
+
+-- Shifts of one concierge, most recent first, seek on (shift_date, id)
+-- (findLatestByConcierge, findByConciergeBefore)
+CREATE INDEX idx_concierge_deleted_date_id ON shift_assignments (concierge_id, deleted, shift_date, id);
+
+-- History listing, most recent first, seek on (year, month)
+-- (findLatestHistory, findHistoryBefore)
+CREATE INDEX idx_history_deleted_year_month ON month_history (deleted, year_value, month_value);
+
+-- ============================================================
+-- VERIFICATION QUERIES (Run these manually to check)
+-- ============================================================
+
+-- EXPLAIN SELECT * FROM shift_assignments
+-- WHERE concierge_id = 1 AND deleted = FALSE
+--   AND (shift_date < '2025-11-10' OR (shift_date = '2025-11-10' AND id < 500))
+-- ORDER BY shift_date DESC, id DESC LIMIT 21;
+
+-- EXPLAIN SELECT * FROM month_history
+-- WHERE deleted = FALSE AND (year_value < 2025 OR (year_value = 2025 AND month_value < 6))
+-- ORDER BY year_value DESC, month_value DESC LIMIT 13;
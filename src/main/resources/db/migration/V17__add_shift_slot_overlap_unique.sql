@@ -0,0 +1,54 @@
+-- ============================================================
+-- V17__add_shift_slot_overlap_unique.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Enforce in the database that a FULL_DAY shift excludes the 8-hour slots of its date
+-- ============================================================
+
+-- Months whose concierge_month_stats (backfilled by V15) count the shifts removed below
+CREATE TEMPORARY TABLE v17_affected_months AS
+SELECT DISTINCT s.shift_year, s.shift_month
+FROM shift_assignments s
+    JOIN (SELECT shift_date
+          FROM shift_assignments
+          WHERE deleted = FALSE
+            AND shift_type = 'FULL_DAY') f ON s.shift_date = f.shift_date
+WHERE s.deleted = FALSE
+  AND s.shift_type <> 'FULL_DAY';
+
+-- Resolve dates that slipped past the former application check: the FULL_DAY shift wins
+UPDATE shift_assignments s
+    JOIN (SELECT shift_date
+          FROM shift_assignments
+          WHERE deleted = FALSE
+            AND shift_type = 'FULL_DAY') f ON s.shift_date = f.shift_date
+SET s.deleted = TRUE
+WHERE s.deleted = FALSE
+  AND s.shift_type <> 'FULL_DAY';
+
+-- Recount those months, as the nightly rebuild would
+DELETE m
+FROM concierge_month_stats m
+    JOIN v17_affected_months a ON m.stats_year = a.shift_year AND m.stats_month = a.shift_month;
+
+INSERT INTO concierge_month_stats (concierge_id, stats_year, stats_month, shift_count)
+SELECT s.concierge_id, s.shift_year, s.shift_month, COUNT(*)
+FROM shift_assignments s
+    JOIN v17_affected_months a ON s.shift_year = a.shift_year AND s.shift_month = a.shift_month
+WHERE s.deleted = FALSE
+GROUP BY s.concierge_id, s.shift_year, s.shift_month;
+
+DROP TEMPORARY TABLE v17_affected_months;
+
+-- One generated column per 8-hour slot holds the date while an active shift occupies that slot;
+-- a FULL_DAY shift occupies all three, so it collides with any 8-hour shift (and another FULL_DAY)
+-- of its date. A new 8-hour ShiftType needs its own column here.
+ALTER TABLE shift_assignments
+    ADD COLUMN morning_slot_date DATE GENERATED ALWAYS AS
+        (CASE WHEN deleted THEN NULL WHEN shift_type IN ('FULL_DAY', 'MORNING') THEN shift_date END) STORED,
+    ADD COLUMN evening_slot_date DATE GENERATED ALWAYS AS
+        (CASE WHEN deleted THEN NULL WHEN shift_type IN ('FULL_DAY', 'EVENING') THEN shift_date END) STORED,
+    ADD COLUMN night_slot_date DATE GENERATED ALWAYS AS
+        (CASE WHEN deleted THEN NULL WHEN shift_type IN ('FULL_DAY', 'NIGHT') THEN shift_date END) STORED,
+    ADD CONSTRAINT uk_shift_morning_slot UNIQUE (morning_slot_date),
+    ADD CONSTRAINT uk_shift_evening_slot UNIQUE (evening_slot_date),
+    ADD CONSTRAINT uk_shift_night_slot UNIQUE (night_slot_date);
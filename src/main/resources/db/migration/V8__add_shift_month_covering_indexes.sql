@@ -0,0 +1,32 @@
+-- ============================================================
+-- V8__add_shift_month_covering_indexes.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Composite covering indexes for month/year/range reads
+-- ============================================================
+
+-- Calendar, statistics and snapshot reads filter on deleted + generated year/month
+-- (findByYearAndMonth, countByYearAndMonth, findByYear)
+CREATE INDEX idx_deleted_year_month ON shift_assignments (deleted, shift_year, shift_month, concierge_id);
+
+-- Date range reads (findByShiftDateBetweenAndDeletedFalse, calendar grid)
+CREATE INDEX idx_deleted_date ON shift_assignments (deleted, shift_date, concierge_id);
+
+-- Per-concierge monthly counts (countShiftsByMonth, findByConciergeAndMonth)
+CREATE INDEX idx_concierge_deleted_year_month ON shift_assignments (concierge_id, deleted, shift_year, shift_month);
+
+-- Superseded by the composite indexes above
+-- idx_deleted is a prefix of idx_deleted_year_month and idx_deleted_date
+-- idx_year_month is not a prefix of any of them (they lead with deleted), but every year/month
+-- read also filters deleted = FALSE, so idx_deleted_year_month serves it with equality on all three
+DROP INDEX idx_year_month ON shift_assignments;
+DROP INDEX idx_deleted ON shift_assignments;
+
+-- ============================================================
+-- VERIFICATION QUERIES (Run these manually to check)
+-- ============================================================
+
+-- EXPLAIN SELECT * FROM shift_assignments
+-- WHERE deleted = FALSE AND shift_year = 2025 AND shift_month = 11;
+
+-- EXPLAIN SELECT COUNT(*) FROM shift_assignments
+-- WHERE concierge_id = 1 AND deleted = FALSE AND shift_year = 2025 AND shift_month = 11;
@@ -0,0 +1,11 @@
+-- ============================================================
+-- V9__add_month_history_snapshot_data.sql
+-- Location: src/main/resources/db/migration/
+-- Description: Compact binary snapshot column (SnapshotCodec)
+-- ============================================================
+
+-- Versioned, deflate-compressed snapshot (concierge dictionary + day-indexed ids)
+ALTER TABLE month_history ADD COLUMN snapshot_data BLOB NULL AFTER snapshot_json;
+
+-- New snapshots no longer write JSON; existing rows keep it and stay readable
+ALTER TABLE month_history MODIFY snapshot_json TEXT NULL;
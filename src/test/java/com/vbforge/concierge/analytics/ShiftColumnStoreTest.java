@@ -0,0 +1,124 @@
+package com.vbforge.concierge.analytics;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.ConciergeFairnessDto;
+import com.vbforge.concierge.dto.FairnessReportDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.event.ShiftChangedEvent;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.service.FairnessService;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ShiftColumnStore: one load, then incremental updates from committed shift writes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ShiftColumnStoreTest {
+
+    @Autowired
+    private ShiftColumnStore shiftColumnStore;
+
+    @Autowired
+    private FairnessService fairnessService;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        // January 2032 rotates Alice, Bob, Carol; the 1st is a holiday, nine days are weekend days
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2032, 1, concierges)));
+        // Fixture rows were saved behind the service layer
+        publishFixtureMonths();
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        publishFixtureMonths();
+        monthScheduleCache.invalidateAll();
+    }
+
+    @Test
+    void shouldReportWeekendHolidayStreaksAndGaps() {
+        FairnessReportDto report = fairnessService.getFairnessReport(2032, 2032);
+
+        assertThat(report.getTotalShifts()).isEqualTo(31);
+        assertThat(report.getTotalWeekendShifts()).isEqualTo(9);
+        assertThat(report.getTotalHolidayShifts()).isEqualTo(1);
+        assertThat(report.getConcierges()).extracting(ConciergeFairnessDto::getName)
+                .containsExactly("Alice", "Bob", "Carol");
+
+        ConciergeFairnessDto alice = report.getConcierges().get(0);
+        assertThat(alice.getShiftCount()).isEqualTo(11);
+        assertThat(alice.getHolidaySharePercent()).isEqualTo(100.0);
+        assertThat(alice.getLongestStreak()).isEqualTo(1);
+        // Last shift on the 31st, nothing until the end of the leap year
+        assertThat(alice.getLongestGap()).isEqualTo(335);
+        assertThat(alice.getLongestGapStart()).isEqualTo(LocalDate.of(2032, 2, 1));
+    }
+
+    @Test
+    void shouldApplyCommittedWritesWithoutReloading() {
+        fairnessService.getFairnessReport(2032, 2032);
+        long loads = shiftColumnStore.getLoadCount();
+        long updates = shiftColumnStore.getUpdateCount();
+
+        shiftSchedulingService.assignShift(TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(LocalDate.of(2032, 12, 25))
+                .conciergeId(concierges[1].getId())
+                .shiftType(ShiftType.FULL_DAY)
+                .build());
+        shiftSchedulingService.removeShiftByDate(LocalDate.of(2032, 1, 1));
+
+        FairnessReportDto report = fairnessService.getFairnessReport(2032, 2032);
+
+        assertThat(shiftColumnStore.getLoadCount()).isEqualTo(loads);
+        assertThat(shiftColumnStore.getUpdateCount()).isEqualTo(updates + 2);
+        assertThat(report.getTotalShifts()).isEqualTo(31);
+        assertThat(report.getConcierges().get(0).getHolidayShiftCount()).isZero();
+        assertThat(report.getConcierges().get(1).getHolidayShiftCount()).isEqualTo(1);
+        assertThat(report.getConcierges().get(1).getWeekendShiftCount()).isEqualTo(3);
+    }
+
+    //helper method to announce the months this class writes, as ShiftSchedulingService would
+    private void publishFixtureMonths() {
+        eventPublisher.publishEvent(ShiftChangedEvent.replaced(
+                List.of(YearMonth.of(2032, 1), YearMonth.of(2032, 12))));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.vbforge.concierge.analytics;
+
+import com.vbforge.concierge.analytics.ShiftColumns.ConciergeFigures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ShiftColumns (range aggregation and copy-on-write splicing)
+ */
+class ShiftColumnsTest {
+
+    private static final long ALICE = 10L;
+    private static final long BOB = 20L;
+
+    private ShiftColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        // Alice works 100-102 (two slots on 101) and 110, Bob a weekend day 105 and a holiday 106
+        columns = ShiftColumns.EMPTY.replaceRange(Integer.MIN_VALUE, Integer.MAX_VALUE,
+                new int[]{100, 101, 101, 102, 105, 106, 110},
+                new long[]{ALICE, ALICE, ALICE, ALICE, BOB, BOB, ALICE},
+                new byte[]{0, 0, 0, 0, ShiftColumns.WEEKEND, ShiftColumns.HOLIDAY, 0});
+    }
+
+    @Test
+    void shouldAggregateCountsStreaksAndGaps() {
+        ConciergeFigures[] figures = columns.aggregate(100, 119);
+
+        assertThat(figures).hasSize(2);
+        assertThat(figures[0]).isEqualTo(new ConciergeFigures(ALICE, 5, 0, 0, 3, 100, 9, 111));
+        assertThat(figures[1]).isEqualTo(new ConciergeFigures(BOB, 2, 1, 1, 2, 105, 13, 107));
+    }
+
+    @Test
+    void shouldLimitAggregationToRange() {
+        ConciergeFigures[] figures = columns.aggregate(105, 106);
+
+        assertThat(figures[0]).isEqualTo(new ConciergeFigures(ALICE, 0, 0, 0, 0, 105, 2, 105));
+        assertThat(figures[1].shiftCount()).isEqualTo(2);
+        assertThat(figures[1].longestGap()).isZero();
+    }
+
+    @Test
+    void shouldSpliceRangeWithoutChangingOriginal() {
+        long carol = 30L;
+        ShiftColumns updated = columns.replaceRange(101, 101, new int[]{101}, new long[]{carol}, new byte[]{0});
+
+        assertThat(updated.size()).isEqualTo(6);
+        assertThat(updated.getConciergeCount()).isEqualTo(3);
+        ConciergeFigures[] figures = updated.aggregate(100, 119);
+        assertThat(figures[0].shiftCount()).isEqualTo(3);
+        assertThat(figures[0].longestStreak()).isEqualTo(1);
+        assertThat(figures[2]).isEqualTo(new ConciergeFigures(carol, 1, 0, 0, 1, 101, 18, 102));
+
+        assertThat(columns.size()).isEqualTo(7);
+        assertThat(columns.aggregate(100, 119)[0].shiftCount()).isEqualTo(5);
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.vbforge.concierge.cache;
+
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MonthScheduleCache
+ */
+class MonthScheduleCacheTest {
+
+    private MonthScheduleCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MonthScheduleCache(2);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldServeSecondReadFromCache() {
+        MonthScheduleDto first = load(2025, 11);
+        MonthScheduleDto second = load(2025, 11);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+        assertThat(cache.getStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedMonth() {
+        load(2025, 10);
+        load(2025, 11);
+        load(2025, 10); // touch October so November becomes eldest
+        load(2025, 12);
+
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.getStats().size()).isEqualTo(2);
+
+        load(2025, 10);
+        assertThat(loads.get()).isEqualTo(3);
+
+        load(2025, 11);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReloadOnlyInvalidatedMonth() {
+        load(2025, 10);
+        load(2025, 11);
+
+        cache.invalidate(LocalDate.of(2025, 11, 15));
+        load(2025, 10);
+        load(2025, 11);
+
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.getVersion(2025, 11)).isGreaterThan(cache.getVersion(2025, 10));
+    }
+
+    @Test
+    void shouldInvalidateEveryMonthInRange() {
+        long before = cache.getVersion(2026, 1);
+
+        cache.invalidateRange(LocalDate.of(2025, 11, 20), LocalDate.of(2026, 1, 5));
+
+        assertThat(cache.getVersion(2025, 11)).isPositive();
+        assertThat(cache.getVersion(2025, 12)).isPositive();
+        assertThat(cache.getVersion(2026, 1)).isGreaterThan(before);
+        assertThat(cache.getVersion(2026, 2)).isZero();
+    }
+
+    @Test
+    void shouldNotCacheScheduleChangedDuringLoad() {
+        cache.get(2025, 11, () -> {
+            loads.incrementAndGet();
+            cache.invalidateMonths(List.of(YearMonth.of(2025, 11))); // concurrent write
+            return new MonthScheduleDto();
+        });
+
+        load(2025, 11);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBumpEveryMonthOnInvalidateAll() {
+        load(2025, 11);
+        long untouched = cache.getVersion(2030, 1);
+
+        cache.invalidateAll();
+        load(2025, 11);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getVersion(2030, 1)).isGreaterThan(untouched);
+    }
+
+    private MonthScheduleDto load(int year, int month) {
+        return cache.get(year, month, () -> {
+            loads.incrementAndGet();
+            return MonthScheduleDto.builder().year(year).month(month).build();
+        });
+    }
+
+}
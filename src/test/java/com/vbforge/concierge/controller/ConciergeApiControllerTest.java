@@ -0,0 +1,142 @@
+package com.vbforge.concierge.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.SqlCaptureInspector;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ConciergeApiController (ETag over version and shift counts,
+ * shift listing by keyset pagination with opaque cursors)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vbforge.concierge.util.SqlCaptureInspector")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "CONCIERGE")
+class ConciergeApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ConciergeMonthStatsRepository statsRepository;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        // Alice works February 1, 4, ..., 28 (10 shifts)
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2026, 2, concierges)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        statsRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        // Rows were removed behind the service layer
+        monthScheduleCache.invalidateAll();
+    }
+
+    @Test
+    void assignedShiftShouldChangeConciergeETag() throws Exception {
+        String url = "/api/v1/concierges/" + concierges[0].getId();
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // Shift writes change the counts in the body but not the concierge version
+        shiftSchedulingService.assignShift(TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(LocalDate.now())
+                .conciergeId(concierges[0].getId())
+                .build());
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void shouldWalkAllShiftsNewestFirstWithoutCountQuery() throws Exception {
+        String url = "/api/v1/concierges/" + concierges[0].getId() + "/shifts";
+        List<String> dates = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            SqlCaptureInspector.clear();
+            String body = mockMvc.perform(cursor == null
+                            ? get(url).param("size", "4")
+                            : get(url).param("size", "4").param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(SqlCaptureInspector.statements())
+                    .hasSize(1)
+                    .noneMatch(sql -> sql.toLowerCase().contains("count("));
+
+            List<String> pageDates = JsonPath.read(body, "$.items[*].shiftDate");
+            dates.addAll(pageDates);
+            pageSizes.add(pageDates.size());
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+
+        assertThat(pageSizes).containsExactly(4, 4, 2);
+        assertThat(dates).hasSize(10).doesNotHaveDuplicates()
+                .startsWith("2026-02-28").endsWith("2026-02-01")
+                .isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void shouldRejectInvalidCursorAndUnknownConcierge() throws Exception {
+        mockMvc.perform(get("/api/v1/concierges/" + concierges[0].getId() + "/shifts")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/concierges/" + concierges[0].getId() + "/shifts").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/concierges/999999/shifts"))
+                .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.vbforge.concierge.controller;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ExportController (streamed CSV)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @BeforeEach
+    void setUp() {
+        Concierge[] concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 11, concierges)));
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 12, concierges)));
+
+        ShiftAssignment deleted = shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(2025, 11, 30), ShiftType.FULL_DAY).orElseThrow();
+        deleted.softDelete();
+        shiftRepository.save(deleted);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void shouldStreamMonthAsCsv() throws Exception {
+        String csv = exportCsv("/export/csv/2025/11");
+
+        List<String> lines = csv.lines().toList();
+        assertThat(lines.get(0)).isEqualTo("Date,Day,Concierge ID,Concierge,Color,Shift Type,Notes");
+        assertThat(lines).hasSize(1 + 29);
+        assertThat(lines.get(1)).startsWith("2025-11-01,Sat,");
+        assertThat(csv).doesNotContain("2025-11-30").doesNotContain("2025-12-01");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldStreamDateRangeAsCsv() throws Exception {
+        String csv = exportCsv("/export/csv?startDate=2025-11-15&endDate=2025-12-15");
+
+        assertThat(csv.lines()).hasSize(1 + 15 + 15);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldOrderSlotsOfOneDayByShiftType() throws Exception {
+        LocalDate date = LocalDate.of(2025, 12, 20);
+        ShiftAssignment fullDay = shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(date, ShiftType.FULL_DAY)
+                .orElseThrow();
+        fullDay.softDelete();
+        shiftRepository.save(fullDay);
+        // Saved out of order, so the row order cannot come from insertion
+        for (ShiftType slot : List.of(ShiftType.NIGHT, ShiftType.EVENING, ShiftType.MORNING)) {
+            shiftRepository.save(TestDataBuilder.defaultShiftAssignment()
+                    .shiftDate(date)
+                    .shiftType(slot)
+                    .concierge(fullDay.getConcierge())
+                    .build());
+        }
+
+        String csv = exportCsv("/export/csv?startDate=2025-12-20&endDate=2025-12-20");
+
+        assertThat(csv.lines().skip(1).map(line -> line.split(",")[5]))
+                .containsExactly("EVENING", "MORNING", "NIGHT");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldRejectInvertedRangeBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/export/csv").param("startDate", "2025-12-15").param("endDate", "2025-11-15"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/schedule"))
+                .andExpect(flash().attribute("errorMessage", "Export range is invalid: 2025-12-15 - 2025-11-15"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void shouldRenderMonthRosterAsSinglePagePdf() throws Exception {
+        byte[] pdf = export("/export/pdf/2025/11", "application/pdf");
+
+        assertThat(pageCount(pdf)).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldRenderYearRosterWithOnePagePerMonth() throws Exception {
+        byte[] pdf = export("/export/pdf/2025", "application/pdf");
+
+        assertThat(pageCount(pdf)).isEqualTo(12);
+    }
+
+    @Test
+    void shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/export/csv/2025"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private String exportCsv(String url) throws Exception {
+        return new String(export(url, "text/csv"), StandardCharsets.UTF_8);
+    }
+
+    private byte[] export(String url, String contentType) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment")))
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+
+    private int pageCount(byte[] pdf) throws Exception {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            return document.getNumberOfPages();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.vbforge.concierge.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.User;
+import com.vbforge.concierge.enums.UserRole;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.security.CustomUserDetails;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ExportJobController (asynchronous exports with result cache)
+ */
+@SpringBootTest(properties = "export.jobs.result-dir=${java.io.tmpdir}/concierge-exports-test")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final RequestPostProcessor owner = principal("owner", UserRole.CONCIERGE);
+    private final RequestPostProcessor otherUser = principal("other", UserRole.CONCIERGE);
+
+    @BeforeEach
+    void setUp() {
+        Concierge[] concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 11, concierges)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRunJobAndServeIdenticalRequestFromCache() throws Exception {
+        JsonNode job = submit("CSV");
+        assertThat(job.get("cached").asBoolean()).isFalse();
+
+        JsonNode finished = awaitFinished(job.get("id").asText());
+        assertThat(finished.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(finished.get("percentComplete").asInt()).isEqualTo(100);
+
+        String csv = mockMvc.perform(get("/export/jobs/{id}/download", job.get("id").asText()).with(owner))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"schedule-2025-11-01-to-2025-11-30.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv.lines().count()).isEqualTo(31);
+
+        JsonNode again = submit("CSV");
+        assertThat(again.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(again.get("cached").asBoolean()).isTrue();
+        assertThat(again.get("id").asText()).isNotEqualTo(job.get("id").asText());
+    }
+
+    @Test
+    void shouldRejectAccessByAnotherUser() throws Exception {
+        String id = submit("PDF").get("id").asText();
+        awaitFinished(id);
+
+        mockMvc.perform(get("/export/jobs/{id}", id).with(otherUser))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/export/jobs/{id}/download", id).with(otherUser))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/export/jobs").with(otherUser))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        mockMvc.perform(get("/export/jobs/{id}", "missing").with(owner))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void shouldRejectPdfJobLongerThanAYear() throws Exception {
+        // Whole months are rendered, so November to November covers 396 days
+        mockMvc.perform(post("/export/jobs").with(owner).with(csrf())
+                        .param("format", "PDF")
+                        .param("startDate", "2025-11-30")
+                        .param("endDate", "2026-11-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    private JsonNode submit(String format) throws Exception {
+        String body = mockMvc.perform(post("/export/jobs").with(owner).with(csrf())
+                        .param("format", format)
+                        .param("startDate", "2025-11-01")
+                        .param("endDate", "2025-11-30"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode awaitFinished(String id) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/export/jobs/{id}", id).with(owner))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            String status = job.get("status").asText();
+            if (status.equals("COMPLETED") || status.equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Export job " + id + " did not finish");
+    }
+
+    private static RequestPostProcessor principal(String username, UserRole role) {
+        return user(new CustomUserDetails(User.builder()
+                .username(username)
+                .password("password")
+                .role(role)
+                .build()));
+    }
+
+}
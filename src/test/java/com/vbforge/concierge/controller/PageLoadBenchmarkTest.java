@@ -0,0 +1,256 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.User;
+import com.vbforge.concierge.enums.UserRole;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.repository.UserRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and p99 of the schedule and statistics pages under many concurrent sessions
+ * Runs against the embedded Tomcat on platform threads; VirtualThreadPageLoadBenchmarkTest repeats it
+ * with the "virtual" profile on Java 21+
+ * Run with: mvn test -Pbenchmark (-Dbenchmark.sessions=1000 -Dbenchmark.duration-seconds=20)
+ * Sessions are spread over a few logged-in users: a login costs a BCrypt check and each user
+ * may hold one session only, so logging in 1k users would dominate the run
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class PageLoadBenchmarkTest {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern SESSION_COOKIE = Pattern.compile("JSESSIONID=([^;]+)");
+    private static final String PASSWORD = "benchmark";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${benchmark.sessions:1000}")
+    private int sessions;
+
+    @Value("${benchmark.users:20}")
+    private int users;
+
+    @Value("${benchmark.duration-seconds:20}")
+    private int durationSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private List<User> benchmarkUsers;
+    private List<String> sessionCookies;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Concierge[] concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        LocalDate today = LocalDate.now();
+        shiftRepository.saveAll(List.of(
+                TestDataBuilder.createShiftsForMonth(today.getYear(), today.getMonthValue(), concierges)));
+
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<User> newUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            newUsers.add(User.builder()
+                    .username("bench-" + i)
+                    .password(passwordHash)
+                    .role(UserRole.CONCIERGE)
+                    .build());
+        }
+        benchmarkUsers = userRepository.saveAll(newUsers);
+
+        clientExecutor = Executors.newFixedThreadPool(4);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(clientExecutor)
+                .build();
+
+        sessionCookies = new ArrayList<>();
+        for (User user : benchmarkUsers) {
+            sessionCookies.add(login(user.getUsername()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientExecutor.shutdownNow();
+        userRepository.deleteAll(benchmarkUsers);
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/schedule", "/statistics"})
+    void measurePageUnderConcurrentSessions(String path) throws Exception {
+        // Warm up caches, JIT and the connection pool
+        run(path, Math.max(1, durationSeconds / 4));
+
+        Recorder recorder = run(path, durationSeconds);
+
+        long[] latencies = recorder.sortedLatencies();
+        System.out.printf("%-8s %-12s %5d sessions: %8.1f req/s, p50 %5d ms, p99 %5d ms, errors %d%n",
+                virtualThreads ? "virtual" : "platform", path, sessions,
+                latencies.length / (double) durationSeconds,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                recorder.errors.get());
+
+        assertThat(latencies).isNotEmpty();
+    }
+
+    // ============================================================
+    // PRIVATE HELPER METHODS
+    // ============================================================
+
+    //helper method to keep every session busy with back-to-back requests until the deadline
+    private Recorder run(String path, int seconds) throws Exception {
+        Recorder recorder = new Recorder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        List<CompletableFuture<Void>> clients = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uri(path))
+                    .header("Cookie", "JSESSIONID=" + sessionCookies.get(i % sessionCookies.size()))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            sendUntil(request, deadline, recorder, done);
+            clients.add(done);
+        }
+
+        CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).get(seconds + 120L, TimeUnit.SECONDS);
+        return recorder;
+    }
+
+    //helper method for one session's request loop
+    private void sendUntil(HttpRequest request, long deadline, Recorder recorder, CompletableFuture<Void> done) {
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (error == null && response.statusCode() == 200) {
+                        recorder.latencies.add(System.nanoTime() - start);
+                    } else {
+                        recorder.errors.incrementAndGet();
+                    }
+
+                    if (System.nanoTime() < deadline) {
+                        sendUntil(request, deadline, recorder, done);
+                    } else {
+                        done.complete(null);
+                    }
+                });
+    }
+
+    //helper method to log in through the form and return the authenticated session id
+    private String login(String username) throws Exception {
+        HttpResponse<String> loginPage = client.send(HttpRequest.newBuilder(uri("/login")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        String session = sessionCookie(loginPage, null);
+        Matcher token = CSRF_TOKEN.matcher(loginPage.body());
+        assertThat(token.find()).isTrue();
+
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + PASSWORD
+                + "&_csrf=" + URLEncoder.encode(token.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .header("Cookie", "JSESSIONID=" + session)
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.headers().firstValue("Location")).hasValueSatisfying(
+                location -> assertThat(location).endsWith("/schedule"));
+        // Login rotates the session id
+        return sessionCookie(response, session);
+    }
+
+    private String sessionCookie(HttpResponse<?> response, String current) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .map(SESSION_COOKIE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .findFirst()
+                .orElse(current);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedLatencies[Math.max(index, 0)]);
+    }
+
+    /**
+     * Latencies of successful requests and the error count of one run
+     */
+    private static class Recorder {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        private long[] sortedLatencies() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+}
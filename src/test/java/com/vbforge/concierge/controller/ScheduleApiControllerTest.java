@@ -0,0 +1,192 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.event.ScheduleEventBroadcaster;
+import com.vbforge.concierge.exception.ShiftConflictException;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.SqlCaptureInspector;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ScheduleApiController (compact month JSON with ETag/304, change event stream)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vbforge.concierge.util.SqlCaptureInspector")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "CONCIERGE")
+class ScheduleApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    @Autowired
+    private ScheduleEventBroadcaster eventBroadcaster;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2026, 2, concierges)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        // Rows were removed behind the service layer
+        monthScheduleCache.invalidateAll();
+    }
+
+    @Test
+    void shouldReturnCompactMonth() throws Exception {
+        mockMvc.perform(get("/api/v1/schedule/2026/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.totalDays").value(28))
+                .andExpect(jsonPath("$.startingDayOfWeek").value(7))
+                .andExpect(jsonPath("$.assignments.length()").value(28))
+                .andExpect(jsonPath("$.concierges[0].color").value(concierges[0].getColor().getHexCode()));
+    }
+
+    @Test
+    void unchangedMonthShouldReturnNotModifiedWithoutQueries() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/schedule/2026/2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        SqlCaptureInspector.clear();
+        mockMvc.perform(get("/api/v1/schedule/2026/2").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(SqlCaptureInspector.statements()).isEmpty();
+    }
+
+    @Test
+    void changedMonthShouldReturnNewETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/schedule/2026/3"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(LocalDate.of(2026, 3, 5))
+                .conciergeId(concierges[1].getId())
+                .notes("Cover")
+                .build());
+
+        String newETag = mockMvc.perform(get("/api/v1/schedule/2026/3").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments[4]").value(1))
+                .andExpect(jsonPath("$.assignments[5]").value(-1))
+                .andExpect(jsonPath("$.shiftTypes").isEmpty())
+                .andExpect(jsonPath("$.notes.5").value("Cover"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void shouldReturnEverySlotOfDayWithSeveralShifts() throws Exception {
+        LocalDate date = LocalDate.of(2026, 6, 10);
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(date).conciergeId(concierges[0].getId()).shiftType(ShiftType.MORNING).build());
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(date).conciergeId(concierges[1].getId()).shiftType(ShiftType.NIGHT).notes("Late")
+                .build());
+
+        assertThatThrownBy(() -> shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(date).conciergeId(concierges[2].getId()).shiftType(ShiftType.MORNING).build()))
+                .isInstanceOf(ShiftConflictException.class);
+        assertThatThrownBy(() -> shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(date).conciergeId(concierges[2].getId()).shiftType(ShiftType.FULL_DAY).build()))
+                .isInstanceOf(ShiftConflictException.class);
+
+        int morning = ShiftType.MORNING.slotIndex(10);
+        int night = ShiftType.NIGHT.slotIndex(10);
+        mockMvc.perform(get("/api/v1/schedule/2026/6"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments[9]").value(0))
+                .andExpect(jsonPath("$.shiftTypes.10").value("MORNING"))
+                .andExpect(jsonPath("$.slotTypes.length()").value(ShiftType.SLOT_COUNT))
+                .andExpect(jsonPath("$.slotAssignments.length()").value(30 * ShiftType.SLOT_COUNT))
+                .andExpect(jsonPath("$.slotAssignments[" + morning + "]").value(0))
+                .andExpect(jsonPath("$.slotAssignments[" + (morning + 1) + "]").value(-1))
+                .andExpect(jsonPath("$.slotAssignments[" + night + "]").value(1))
+                .andExpect(jsonPath("$.slotNotes." + night).value("Late"));
+    }
+
+    @Test
+    void eventStreamShouldPushCommittedChangesOfItsMonthOnly() throws Exception {
+        int subscribersBefore = eventBroadcaster.getSubscriberCount();
+        MvcResult march = mockMvc.perform(get("/api/v1/schedule/2026/3/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult april = mockMvc.perform(get("/api/v1/schedule/2026/4/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(eventBroadcaster.getSubscriberCount()).isEqualTo(subscribersBefore + 2);
+
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(LocalDate.of(2026, 3, 7))
+                .conciergeId(concierges[0].getId())
+                .build());
+
+        String events = awaitContent(march, "event:assigned");
+        assertThat(events).contains("\"year\":2026,\"month\":3,\"days\":[7]");
+        assertThat(april.getResponse().getContentAsString()).doesNotContain("event:");
+
+        // Closing the streams unregisters the subscribers
+        march.getRequest().getAsyncContext().complete();
+        april.getRequest().getAsyncContext().complete();
+        assertThat(eventBroadcaster.getSubscriberCount()).isEqualTo(subscribersBefore);
+    }
+
+    //helper method to wait for the sender thread to write an event
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+}
@@ -4,6 +4,7 @@ import com.vbforge.concierge.dto.ConciergeDto;
 import com.vbforge.concierge.dto.MonthScheduleDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.enums.ColorType;
+import com.vbforge.concierge.enums.ShiftType;
 import com.vbforge.concierge.service.ConciergeService;
 import com.vbforge.concierge.service.MonthScheduleService;
 import com.vbforge.concierge.service.ShiftSchedulingService;
@@ -18,12 +19,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -63,19 +63,22 @@ class ScheduleControllerTest {
                 .firstDayOfMonth(LocalDate.of(2025, 11, 1))
                 .lastDayOfMonth(LocalDate.of(2025, 11, 30))
                 .startingDayOfWeek(6)
-                .dailyAssignments(new HashMap<>())
+                .slots(new ShiftAssignmentDto[30 * ShiftType.SLOT_COUNT])
                 .concierges(List.of())
                 .build();
 
         when(monthScheduleService.getMonthSchedule(anyInt(), anyInt())).thenReturn(schedule);
-        when(conciergeService.getAllActiveConcierges()).thenReturn(List.of());
 
         // When & Then
         mockMvc.perform(get("/schedule"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("schedule/calendar"))
                 .andExpect(model().attributeExists("schedule"))
+                .andExpect(model().attribute("concierges", schedule.getConcierges()))
                 .andExpect(model().attribute("activePage", "schedule"));
+
+        // Dropdown concierges come with the schedule, not from a second load
+        verify(conciergeService, never()).getAllActiveConcierges();
     }
 
     @Test
@@ -92,12 +95,11 @@ class ScheduleControllerTest {
                 .firstDayOfMonth(LocalDate.of(2025, 11, 1))
                 .lastDayOfMonth(LocalDate.of(2025, 11, 30))
                 .startingDayOfWeek(6)
-                .dailyAssignments(new HashMap<>())
+                .slots(new ShiftAssignmentDto[30 * ShiftType.SLOT_COUNT])
                 .concierges(List.of())
                 .build();
 
         when(monthScheduleService.getMonthSchedule(anyInt(), anyInt())).thenReturn(schedule);
-        when(conciergeService.getAllActiveConcierges()).thenReturn(List.of());
 
         // When & Then
         mockMvc.perform(get("/schedule"))
@@ -0,0 +1,116 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ScheduleGeneratorApiController (generate and optimize previews and writes)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "CONCIERGE")
+class ScheduleGeneratorApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2026, 2, concierges)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        // Rows were removed behind the service layer
+        monthScheduleCache.invalidateAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void generateShouldPreviewThenFillUnassignedDates() throws Exception {
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(LocalDate.of(2026, 5, 10))
+                .conciergeId(concierges[0].getId())
+                .build());
+
+        mockMvc.perform(post("/api/v1/schedule/2026/5/generate").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun").value(true))
+                .andExpect(jsonPath("$.shifts.length()").value(30))
+                .andExpect(jsonPath("$.unfilledDates").isEmpty())
+                .andExpect(jsonPath("$.inserted").value(0));
+        assertThat(shiftRepository.countByYearAndMonth(2026, 5)).isEqualTo(1);
+
+        mockMvc.perform(post("/api/v1/schedule/2026/5/generate").param("dryRun", "false").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(30));
+        assertThat(shiftRepository.countByYearAndMonth(2026, 5)).isEqualTo(31);
+        assertThat(shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(2026, 5, 9), ShiftType.FULL_DAY).orElseThrow()
+                .getConcierge().getId()).isNotEqualTo(concierges[0].getId());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void optimizeShouldPreviewQuarter() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/2026/4/optimize")
+                        .param("months", "3")
+                        .param("timeBudgetMs", "200")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.startDate").value("2026-04-01"))
+                .andExpect(jsonPath("$.endDate").value("2026-06-30"))
+                .andExpect(jsonPath("$.shifts.length()").value(91))
+                .andExpect(jsonPath("$.unfilledDates").isEmpty())
+                .andExpect(jsonPath("$.inserted").value(0));
+        assertThat(shiftRepository.countByYearAndMonth(2026, 4)).isZero();
+    }
+
+    @Test
+    void generateShouldRequireAdmin() throws Exception {
+        mockMvc.perform(post("/api/v1/schedule/2026/5/generate").with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+}
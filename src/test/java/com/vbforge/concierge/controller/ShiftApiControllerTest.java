@@ -0,0 +1,140 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for ShiftApiController (ETag / If-Match conditional updates)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShiftApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    private Concierge[] concierges;
+    private ShiftAssignment shift;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shift = shiftRepository.save(ShiftAssignment.builder()
+                .shiftDate(LocalDate.now().plusDays(3))
+                .concierge(concierges[0])
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void shouldReturnVersionAsETagAndNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/shifts/{id}", shift.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"0-")))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/shifts/{id}", shift.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void conciergeRenameShouldChangeShiftETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/shifts/{id}", shift.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        concierges[0].setName("Alice Renamed");
+        conciergeRepository.save(concierges[0]);
+
+        mockMvc.perform(get("/api/v1/shifts/{id}", shift.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"0-")))
+                .andExpect(jsonPath("$.conciergeName").value("Alice Renamed"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void secondEditorWithSameVersionShouldGetPreconditionFailed() throws Exception {
+        mockMvc.perform(update("\"0\"", concierges[1].getId(), "first editor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"1-")))
+                .andExpect(jsonPath("$.conciergeId").value(concierges[1].getId()));
+
+        mockMvc.perform(update("\"0\"", concierges[2].getId(), "second editor"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+
+        ShiftAssignment stored = shiftRepository.findById(shift.getId()).orElseThrow();
+        assertThat(stored.getNotes()).isEqualTo("first editor");
+        assertThat(stored.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateWithoutIfMatchShouldBeRejected() throws Exception {
+        mockMvc.perform(put("/api/v1/shifts/{id}", shift.getId()).with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(concierges[1].getId(), "no precondition")))
+                .andExpect(status().isPreconditionRequired());
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void conciergeShouldNotUpdateShift() throws Exception {
+        mockMvc.perform(update("\"0\"", concierges[1].getId(), "not allowed"))
+                .andExpect(status().isForbidden());
+    }
+
+    private RequestBuilder update(String ifMatch, Long conciergeId, String notes) {
+        return put("/api/v1/shifts/{id}", shift.getId()).with(csrf())
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body(conciergeId, notes));
+    }
+
+    private String body(Long conciergeId, String notes) {
+        return String.format("{\"shiftDate\":\"%s\",\"conciergeId\":%d,\"shiftType\":\"FULL_DAY\",\"notes\":\"%s\"}",
+                shift.getShiftDate(), conciergeId, notes);
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.cache.YearStatisticsCache;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.event.ShiftChangedEvent;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.service.ConciergeStatsService;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for StatisticsController (per-concierge counts aggregated in SQL, year overview, fairness report)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(roles = "CONCIERGE")
+class StatisticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ConciergeStatsService conciergeStatsService;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private YearStatisticsCache yearStatisticsCache;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        // July 2031 rotates Alice, Bob, Carol from Tuesday the 1st
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2031, 7, concierges)));
+        conciergeRepository.save(TestDataBuilder.defaultConcierge().name("Dave").build());
+        conciergeStatsService.rebuildMonthStats();
+        publishFixtureMonths();
+    }
+
+    @AfterEach
+    void tearDown() {
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        // Rows were removed behind the service layer
+        monthScheduleCache.invalidateAll();
+        publishFixtureMonths();
+    }
+
+    @Test
+    void shouldReturnMonthCountsAndWeekendCountsPerConcierge() throws Exception {
+        mockMvc.perform(get("/statistics/2031/7/data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalShifts").value(31))
+                .andExpect(jsonPath("$.totalWeekendShifts").value(8))
+                .andExpect(jsonPath("$.activeConcierges").value(4))
+                .andExpect(jsonPath("$.concierges.length()").value(4))
+                .andExpect(jsonPath("$.concierges[0].name").value("Alice"))
+                .andExpect(jsonPath("$.concierges[0].shiftCount").value(11))
+                .andExpect(jsonPath("$.concierges[0].weekendShiftCount").value(2))
+                .andExpect(jsonPath("$.concierges[0].totalShiftCount").value(11))
+                .andExpect(jsonPath("$.concierges[1].weekendShiftCount").value(3))
+                .andExpect(jsonPath("$.concierges[2].weekendShiftCount").value(3))
+                // Active concierge without shifts gets a zero row
+                .andExpect(jsonPath("$.concierges[3].name").value("Dave"))
+                .andExpect(jsonPath("$.concierges[3].shiftCount").value(0))
+                .andExpect(jsonPath("$.mostActiveConcierge").value("Alice"))
+                .andExpect(jsonPath("$.leastActiveConcierge").value("Dave"));
+    }
+
+    @Test
+    void shouldAggregateYearAndDateRange() throws Exception {
+        mockMvc.perform(get("/statistics/2031/data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalShifts").value(31))
+                .andExpect(jsonPath("$.startDate").value("2031-01-01"));
+
+        // 5th..6th July is the first weekend: Bob and Carol
+        mockMvc.perform(get("/statistics/range").param("start", "2031-07-05").param("end", "2031-07-06"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalShifts").value(2))
+                .andExpect(jsonPath("$.totalWeekendShifts").value(2))
+                .andExpect(jsonPath("$.concierges[0].shiftCount").value(0));
+    }
+
+    @Test
+    void shouldRenderDashboardFromStatistics() throws Exception {
+        mockMvc.perform(get("/statistics/2031/7"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("statistics/dashboard"))
+                .andExpect(model().attributeExists("statistics"))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Dave")));
+    }
+
+    @Test
+    void shouldRenderFairnessReportAndServeJson() throws Exception {
+        mockMvc.perform(get("/statistics/fairness").param("startYear", "2030").param("endYear", "2031"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("statistics/fairness"))
+                .andExpect(model().attribute("startYear", 2030))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Dave")));
+
+        mockMvc.perform(get("/statistics/fairness/data").param("start", "2031-07-01").param("end", "2031-07-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalShifts").value(31))
+                .andExpect(jsonPath("$.totalWeekendShifts").value(8))
+                .andExpect(jsonPath("$.concierges[0].longestStreak").value(1))
+                .andExpect(jsonPath("$.concierges[3].longestGap").value(31));
+    }
+
+    @Test
+    void shouldCountWholeYearAndEvictClosedYearOnWrite() throws Exception {
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2024, 2, concierges)));
+        publishFixtureMonths();
+
+        mockMvc.perform(get("/statistics/year/2024/data"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.closed").value(true))
+                .andExpect(jsonPath("$.totalShifts").value(29))
+                .andExpect(jsonPath("$.totalUnassignedDays").value(366 - 29))
+                .andExpect(jsonPath("$.months[0].unassignedDays").value(31))
+                .andExpect(jsonPath("$.months[1].coveragePercent").value(100.0))
+                .andExpect(jsonPath("$.concierges[0].monthCounts[1]").value(10))
+                .andExpect(jsonPath("$.concierges[3].totalShifts").value(0));
+        long loads = yearStatisticsCache.getLoadCount();
+
+        mockMvc.perform(get("/statistics/year/2024"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("statistics/year"));
+        assertThat(yearStatisticsCache.getLoadCount()).isEqualTo(loads);
+
+        shiftSchedulingService.removeShiftByDate(LocalDate.of(2024, 2, 1));
+
+        mockMvc.perform(get("/statistics/year/2024/data"))
+                .andExpect(jsonPath("$.months[1].unassignedDays").value(1))
+                .andExpect(jsonPath("$.concierges[0].monthCounts[1]").value(9));
+        assertThat(yearStatisticsCache.getLoadCount()).isEqualTo(loads + 1);
+    }
+
+    //helper method to announce the months this class writes, as ShiftSchedulingService would
+    private void publishFixtureMonths() {
+        eventPublisher.publishEvent(ShiftChangedEvent.replaced(
+                List.of(YearMonth.of(2031, 7), YearMonth.of(2024, 2))));
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.vbforge.concierge.controller;
+
+import com.vbforge.concierge.cache.AvailabilityIndex;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.exception.ConciergeUnavailableException;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.repository.TimeOffRepository;
+import com.vbforge.concierge.service.ShiftSchedulingService;
+import com.vbforge.concierge.util.TestDataBuilder;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for TimeOffApiController and the availability checks behind it
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TimeOffApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TimeOffRepository timeOffRepository;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timeOffRepository.deleteAll();
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        availabilityIndex.invalidate(LocalDate.of(2026, 1, 1), LocalDate.of(2028, 12, 31));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void timeOffShouldBlockAssignmentUntilDeleted() throws Exception {
+        Long id = create(concierges[0].getId(), "2027-03-10", "2027-03-14");
+
+        mockMvc.perform(get("/api/v1/time-off")
+                        .param("conciergeId", concierges[0].getId().toString())
+                        .param("from", "2027-03-01")
+                        .param("to", "2027-03-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].conciergeName").value("Alice"));
+
+        assertThatThrownBy(() -> assign(concierges[0], LocalDate.of(2027, 3, 12)))
+                .isInstanceOf(ConciergeUnavailableException.class);
+        assign(concierges[0], LocalDate.of(2027, 3, 15));
+
+        mockMvc.perform(delete("/api/v1/time-off/{id}", id).with(csrf()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/time-off/{id}", id))
+                .andExpect(status().isNotFound());
+
+        assign(concierges[0], LocalDate.of(2027, 3, 12));
+        assertThat(shiftRepository.countByYearAndMonth(2027, 3)).isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void timeOffAcrossNewYearShouldCoverBothYears() throws Exception {
+        create(concierges[1].getId(), "2026-12-30", "2027-01-02");
+
+        assertThat(availabilityIndex.isAvailable(concierges[1].getId(), LocalDate.of(2026, 12, 29))).isTrue();
+        assertThat(availabilityIndex.isAvailable(concierges[1].getId(), LocalDate.of(2026, 12, 31))).isFalse();
+        assertThat(availabilityIndex.isAvailable(concierges[1].getId(), LocalDate.of(2027, 1, 2))).isFalse();
+        assertThat(availabilityIndex.isAvailable(concierges[1].getId(), LocalDate.of(2027, 1, 3))).isTrue();
+        assertThat(availabilityIndex.isAvailable(concierges[0].getId(), LocalDate.of(2027, 1, 1))).isTrue();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void generatorShouldSkipConciergeOnTimeOff() throws Exception {
+        create(concierges[0].getId(), "2027-05-01", "2027-05-20");
+
+        mockMvc.perform(post("/api/v1/schedule/2027/5/generate").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unfilledDates").isEmpty())
+                .andExpect(jsonPath("$.shifts[?(@.conciergeId == " + concierges[0].getId()
+                        + " && @.shiftDate < '2027-05-21')]").isEmpty())
+                .andExpect(jsonPath("$.shiftCounts.Alice").value(6));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void invalidRangeShouldBeRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/time-off").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(concierges[0].getId(), "2027-03-14", "2027-03-10")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("End date cannot be before start date"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createShouldIgnoreClientIdAndVersion() throws Exception {
+        Long aliceId = create(concierges[0].getId(), "2027-03-10", "2027-03-14");
+
+        // A create that names an existing row must not overwrite it
+        String response = mockMvc.perform(post("/api/v1/time-off").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"id\":%d,\"version\":0,\"conciergeId\":%d,"
+                                        + "\"startDate\":\"2027-04-01\",\"endDate\":\"2027-04-03\"}",
+                                aliceId, concierges[1].getId())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.conciergeId").value(concierges[1].getId()))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(((Number) JsonPath.read(response, "$.id")).longValue()).isNotEqualTo(aliceId);
+
+        mockMvc.perform(get("/api/v1/time-off/{id}", aliceId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conciergeId").value(concierges[0].getId()))
+                .andExpect(jsonPath("$.startDate").value("2027-03-10"));
+        assertThat(availabilityIndex.isAvailable(concierges[0].getId(), LocalDate.of(2027, 3, 12))).isFalse();
+    }
+
+    @Test
+    @WithMockUser(roles = "CONCIERGE")
+    void conciergeShouldNotCreateTimeOff() throws Exception {
+        mockMvc.perform(post("/api/v1/time-off").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(concierges[0].getId(), "2027-03-10", "2027-03-14")))
+                .andExpect(status().isForbidden());
+    }
+
+    private Long create(Long conciergeId, String startDate, String endDate) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/time-off").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(conciergeId, startDate, endDate)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.conciergeId").value(conciergeId))
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.id")).longValue();
+    }
+
+    private void assign(Concierge concierge, LocalDate date) {
+        shiftSchedulingService.assignShift(ShiftAssignmentDto.builder()
+                .shiftDate(date)
+                .conciergeId(concierge.getId())
+                .build());
+    }
+
+    private String body(Long conciergeId, String startDate, String endDate) {
+        return String.format("{\"conciergeId\":%d,\"startDate\":\"%s\",\"endDate\":\"%s\",\"reason\":\"vacation\"}",
+                conciergeId, startDate, endDate);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.vbforge.concierge.controller;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Same load as PageLoadBenchmarkTest with the "virtual" profile (virtual threads, tuned Hikari pool)
+ * Virtual threads need Java 21; on older runtimes the comparison is skipped
+ */
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPageLoadBenchmarkTest extends PageLoadBenchmarkTest {
+
+}
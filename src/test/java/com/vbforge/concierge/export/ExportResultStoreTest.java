@@ -0,0 +1,56 @@
+package com.vbforge.concierge.export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ExportResultStore
+ */
+class ExportResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldKeepFileWhenSameKeyIsStoredTwice() throws IOException {
+        ExportResultStore store = new ExportResultStore(directory.toString(), 1);
+
+        // Two identical jobs queued before either finished
+        Path first = store.store("CSV|2025-11-01|2025-11-30|1", write(store, "first"), "csv");
+        Path second = store.store("CSV|2025-11-01|2025-11-30|1", write(store, "second!"), "csv");
+
+        assertThat(second).isEqualTo(first).exists();
+        assertThat(Files.readString(second)).isEqualTo("second!");
+        assertThat(store.find("CSV|2025-11-01|2025-11-30|1")).isEqualTo(second);
+        assertThat(store.getTotalBytes()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedAboveCap() throws IOException {
+        ExportResultStore store = new ExportResultStore(directory.toString(), 1);
+        byte[] chunk = new byte[600 * 1024];
+
+        Path older = store.newTempFile();
+        Files.write(older, chunk);
+        Path olderResult = store.store("older", older, "csv");
+        Path newer = store.newTempFile();
+        Files.write(newer, chunk);
+        Path newerResult = store.store("newer", newer, "csv");
+
+        assertThat(olderResult).doesNotExist();
+        assertThat(store.find("older")).isNull();
+        assertThat(newerResult).exists();
+        assertThat(store.getTotalBytes()).isEqualTo(chunk.length);
+    }
+
+    private static Path write(ExportResultStore store, String content) throws IOException {
+        return Files.writeString(store.newTempFile(), content);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.vbforge.concierge.export;
+
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ColorType;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.util.DateUtils;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures roster rendering time for single months and a parallel year
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class PdfRosterRendererBenchmarkTest {
+
+    private static final int ITERATIONS = 20;
+
+    private final PdfRosterRenderer renderer = createRenderer();
+
+    @AfterEach
+    void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Test
+    void measureMonthAndYearRendering() {
+        List<MonthScheduleDto> year = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            year.add(buildSchedule(2025, month));
+        }
+
+        // Warm up
+        for (int i = 0; i < 5; i++) {
+            renderer.render(year, new ByteArrayOutputStream());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            renderer.renderMonth(year.get(i % 12));
+        }
+        long monthMicros = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+        ByteArrayOutputStream yearPdf = new ByteArrayOutputStream();
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            yearPdf.reset();
+            renderer.render(year, yearPdf);
+        }
+        long yearMicros = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+        System.out.printf("pdf roster: month %d us, year (12 pages, parallel) %d us, %d bytes%n",
+                monthMicros, yearMicros, yearPdf.size());
+
+        assertThat(monthMicros).isLessThan(1_000_000);
+    }
+
+    private static PdfRosterRenderer createRenderer() {
+        try {
+            return new PdfRosterRenderer(0);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MonthScheduleDto buildSchedule(int year, int month) {
+        String[] names = {"Alice", "Bob", "Carol"};
+        ColorType[] colors = {ColorType.BLUE, ColorType.GREEN, ColorType.YELLOW};
+        YearMonth yearMonth = YearMonth.of(year, month);
+
+        ShiftAssignmentDto[] slots = new ShiftAssignmentDto[yearMonth.lengthOfMonth() * ShiftType.SLOT_COUNT];
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            int concierge = day % names.length;
+            LocalDate date = yearMonth.atDay(day);
+            slots[ShiftType.FULL_DAY.slotIndex(day)] = TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(date)
+                    .conciergeId((long) concierge + 1)
+                    .conciergeName(names[concierge])
+                    .conciergeColor(colors[concierge].name())
+                    .build();
+        }
+
+        return MonthScheduleDto.builder()
+                .year(year)
+                .month(month)
+                .monthName(DateUtils.getMonthName(month))
+                .slots(slots)
+                .concierges(List.of())
+                .totalDays(yearMonth.lengthOfMonth())
+                .assignedDays(yearMonth.lengthOfMonth())
+                .unassignedDays(0)
+                .firstDayOfMonth(yearMonth.atDay(1))
+                .lastDayOfMonth(yearMonth.atEndOfMonth())
+                .startingDayOfWeek(yearMonth.atDay(1).getDayOfWeek().getValue())
+                .build();
+    }
+
+}
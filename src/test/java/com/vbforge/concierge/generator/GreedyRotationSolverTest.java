@@ -0,0 +1,115 @@
+package com.vbforge.concierge.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for GreedyRotationSolver
+ */
+class GreedyRotationSolverTest {
+
+    private static final int FREE = GreedyRotationSolver.FREE;
+
+    @Test
+    void shouldFillMonthEvenlyWithRestGap() {
+        int[] roster = freeRoster(31);
+        boolean[] weekend = weekendFlags(LocalDate.of(2026, 3, 1), 31);
+
+        int[] solved = GreedyRotationSolver.solve(roster, 0, weekend, 5, 1, 0);
+
+        assertThat(solved).doesNotContain(FREE);
+        assertBalanced(solved, weekend, 5, 0);
+        assertRestGap(solved, 1);
+        // input stays untouched
+        assertThat(roster).containsOnly(FREE);
+    }
+
+    @Test
+    void shouldRespectPreviousMonthAndFixedDays() {
+        // Two days of context: concierge 0 worked the last day of the previous month
+        int[] roster = freeRoster(2 + 30);
+        roster[1] = 0;
+        roster[2 + 4] = 1;
+        roster[2 + 10] = GreedyRotationSolver.TAKEN;
+        boolean[] weekend = weekendFlags(LocalDate.of(2026, 3, 30), roster.length);
+
+        int[] solved = GreedyRotationSolver.solve(roster, 2, weekend, 3, 2, 0);
+
+        assertThat(solved[2]).isNotZero();
+        assertThat(solved[3]).isNotZero();
+        assertThat(solved[2 + 4]).isEqualTo(1);
+        assertThat(solved[2 + 10]).isEqualTo(GreedyRotationSolver.TAKEN);
+        assertRestGap(solved, 2);
+    }
+
+    @Test
+    void shouldLeaveDaysFreeWhenRestGapCannotBeMet() {
+        int[] solved = GreedyRotationSolver.solve(freeRoster(10), 0, new boolean[10], 1, 1, 0);
+
+        assertThat(solved).containsExactly(0, FREE, 0, FREE, 0, FREE, 0, FREE, 0, FREE);
+    }
+
+    @Test
+    void shouldBalanceFiftyConciergesQuickly() {
+        boolean[] weekend = weekendFlags(LocalDate.of(2026, 1, 1), 31);
+        int[] roster = freeRoster(31);
+
+        long start = System.nanoTime();
+        int[] solved = null;
+        for (int month = 0; month < 1000; month++) {
+            solved = GreedyRotationSolver.solve(roster, 0, weekend, 50, 3, month);
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        assertThat(solved).doesNotContain(FREE);
+        assertBalanced(solved, weekend, 50, 0);
+        // 1000 months well under a second: a single month takes microseconds
+        assertThat(micros).isLessThan(1_000_000);
+    }
+
+    private static int[] freeRoster(int days) {
+        int[] roster = new int[days];
+        Arrays.fill(roster, FREE);
+        return roster;
+    }
+
+    private static boolean[] weekendFlags(LocalDate start, int days) {
+        boolean[] weekend = new boolean[days];
+        for (int day = 0; day < days; day++) {
+            DayOfWeek dayOfWeek = start.plusDays(day).getDayOfWeek();
+            weekend[day] = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+        }
+        return weekend;
+    }
+
+    private static void assertBalanced(int[] roster, boolean[] weekend, int concierges, int firstDay) {
+        int[] shifts = new int[concierges];
+        int[] weekendShifts = new int[concierges];
+        for (int day = firstDay; day < roster.length; day++) {
+            shifts[roster[day]]++;
+            if (weekend[day]) {
+                weekendShifts[roster[day]]++;
+            }
+        }
+        assertThat(Arrays.stream(shifts).max().getAsInt() - Arrays.stream(shifts).min().getAsInt())
+                .isLessThanOrEqualTo(1);
+        assertThat(Arrays.stream(weekendShifts).max().getAsInt() - Arrays.stream(weekendShifts).min().getAsInt())
+                .isLessThanOrEqualTo(1);
+    }
+
+    private static void assertRestGap(int[] roster, int minRestDays) {
+        for (int day = 0; day < roster.length; day++) {
+            for (int next = day + 1; next <= Math.min(roster.length - 1, day + minRestDays); next++) {
+                if (roster[day] >= 0) {
+                    assertThat(roster[next]).as("day %d and %d", day, next).isNotEqualTo(roster[day]);
+                }
+            }
+        }
+    }
+
+}
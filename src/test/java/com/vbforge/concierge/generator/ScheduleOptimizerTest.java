@@ -0,0 +1,106 @@
+package com.vbforge.concierge.generator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScheduleOptimizer (annealing runs on a fork/join pool)
+ */
+class ScheduleOptimizerTest {
+
+    private static final int DAYS = 91;
+    private static final int CONCIERGES = 4;
+
+    private final ScheduleOptimizer optimizer = new ScheduleOptimizer(2, 2);
+
+    @AfterEach
+    void tearDown() {
+        optimizer.shutdown();
+    }
+
+    @Test
+    void shouldFillQuarterWithoutBackToBackDays() {
+        OptimizationResult result = optimizer.optimize(problem().build(), 200);
+
+        assertThat(result.getHardScore()).isZero();
+        assertThat(result.getRuns()).isEqualTo(2);
+        assertThat(result.getIterations()).isPositive();
+        int[] roster = result.getRoster();
+        assertThat(roster).doesNotContain(GreedyRotationSolver.FREE);
+        for (int day = 1; day < DAYS; day++) {
+            assertThat(roster[day]).isNotEqualTo(roster[day - 1]);
+        }
+        assertSpread(count(roster, null), 1);
+    }
+
+    @Test
+    void shouldEvenOutHistoryAndWeekends() {
+        boolean[] weekend = new boolean[DAYS];
+        for (int day = 5; day < DAYS; day += 7) {
+            weekend[day] = true;
+            weekend[day + 1] = true;
+        }
+        // Concierge 0 already worked 8 shifts more than the others
+        int[] history = {8, 0, 0, 0};
+
+        OptimizationResult result = optimizer.optimize(problem()
+                .weekend(weekend)
+                .historyShifts(history)
+                .build(), 300);
+
+        int[] shifts = count(result.getRoster(), null);
+        assertThat(result.getHardScore()).isZero();
+        assertThat(shifts[0] + history[0]).isLessThanOrEqualTo(shifts[1] + 1);
+        assertSpread(count(result.getRoster(), weekend), 1);
+    }
+
+    @Test
+    void shouldRespectUnavailability() {
+        boolean[] unavailable = new boolean[CONCIERGES * DAYS];
+        for (int day = 10; day <= 40; day++) {
+            unavailable[DAYS + day] = true;
+        }
+
+        OptimizationResult result = optimizer.optimize(problem().unavailable(unavailable).build(), 200);
+
+        assertThat(result.getHardScore()).isZero();
+        for (int day = 10; day <= 40; day++) {
+            assertThat(result.getRoster()[day]).isNotEqualTo(1);
+        }
+    }
+
+    private OptimizationProblem.OptimizationProblemBuilder problem() {
+        int[] roster = new int[DAYS];
+        Arrays.fill(roster, GreedyRotationSolver.FREE);
+        return OptimizationProblem.builder()
+                .roster(roster)
+                .firstDay(0)
+                .conciergeCount(CONCIERGES)
+                .weekend(new boolean[DAYS])
+                .holiday(new boolean[DAYS])
+                .minRestDays(1)
+                .historyShifts(new int[CONCIERGES])
+                .historyWeekendShifts(new int[CONCIERGES])
+                .historyHolidayShifts(new int[CONCIERGES]);
+    }
+
+    private static int[] count(int[] roster, boolean[] flags) {
+        int[] counts = new int[CONCIERGES];
+        for (int day = 0; day < roster.length; day++) {
+            if (roster[day] >= 0 && (flags == null || flags[day])) {
+                counts[roster[day]]++;
+            }
+        }
+        return counts;
+    }
+
+    private static void assertSpread(int[] counts, int maxSpread) {
+        assertThat(Arrays.stream(counts).max().getAsInt() - Arrays.stream(counts).min().getAsInt())
+                .isLessThanOrEqualTo(maxSpread);
+    }
+
+}
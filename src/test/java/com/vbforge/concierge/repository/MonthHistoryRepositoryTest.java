@@ -111,6 +111,17 @@ class MonthHistoryRepositoryTest {
         assertThat(page.getTotalElements()).isEqualTo(2);
     }
 
+    @Test
+    void shouldSeekPastLastSeenMonth() {
+        List<MonthHistory> afterOctober = historyRepository
+                .findHistoryBefore(2025, 10, PageRequest.of(0, 5));
+        List<MonthHistory> afterSeptember = historyRepository
+                .findHistoryBefore(2025, 9, PageRequest.of(0, 5));
+
+        assertThat(afterOctober).extracting(MonthHistory::getMonth).containsExactly(9);
+        assertThat(afterSeptember).isEmpty();
+    }
+
     @Test
     void shouldCheckIfExists() {
         boolean exists = historyRepository
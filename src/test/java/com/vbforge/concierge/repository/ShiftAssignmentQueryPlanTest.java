@@ -0,0 +1,131 @@
+package com.vbforge.concierge.repository;
+
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.util.SqlCaptureInspector;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan tests for month/year shift queries
+ * Captures the SQL generated for each repository method and runs EXPLAIN on it,
+ * asserting the composite indexes are used instead of a table scan
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.vbforge.concierge.util.SqlCaptureInspector")
+@ActiveProfiles("test")
+class ShiftAssignmentQueryPlanTest {
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Concierge alice;
+
+    @BeforeEach
+    void setUp() {
+        alice = conciergeRepository.save(TestDataBuilder.createAlice());
+        Concierge bob = conciergeRepository.save(TestDataBuilder.createBob());
+
+        // Two years of history so the planner has something to skip
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2024, 11, alice, bob)));
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 11, alice, bob)));
+        shiftRepository.flush();
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    void findByYearAndMonthShouldUseYearMonthIndex() {
+        List<ShiftAssignment> shifts = shiftRepository.findByYearAndMonth(2025, 11);
+
+        assertThat(shifts).hasSize(30);
+        assertThat(explainLast(2025, 11)).contains("IDX_DELETED_YEAR_MONTH").doesNotContain("tableScan");
+    }
+
+    @Test
+    void countByYearAndMonthShouldUseYearMonthIndex() {
+        Long count = shiftRepository.countByYearAndMonth(2025, 11);
+
+        assertThat(count).isEqualTo(30);
+        assertThat(explainLast(2025, 11)).contains("IDX_DELETED_YEAR_MONTH").doesNotContain("tableScan");
+    }
+
+    @Test
+    void findByYearShouldUseYearMonthIndex() {
+        List<ShiftAssignment> shifts = shiftRepository.findByYear(2024);
+
+        assertThat(shifts).hasSize(30);
+        assertThat(explainLast(2024)).contains("IDX_DELETED_YEAR_MONTH").doesNotContain("tableScan");
+    }
+
+    @Test
+    void findByConciergeAndMonthShouldUseYearMonthIndex() {
+        List<ShiftAssignment> shifts = shiftRepository.findByConciergeAndMonth(alice.getId(), 2025, 11);
+
+        assertThat(shifts).hasSize(15);
+        assertThat(explainLast(alice.getId(), 2025, 11))
+                .containsAnyOf("IDX_CONCIERGE_DELETED_YEAR_MONTH", "IDX_DELETED_YEAR_MONTH")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void countShiftsByMonthShouldUseYearMonthIndex() {
+        Long count = conciergeRepository.countShiftsByMonth(alice.getId(), 2025, 11);
+
+        assertThat(count).isEqualTo(15);
+        assertThat(explainLast(alice.getId(), 2025, 11))
+                .containsAnyOf("IDX_CONCIERGE_DELETED_YEAR_MONTH", "IDX_DELETED_YEAR_MONTH")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void findByShiftDateBetweenShouldUseDateIndex() {
+        LocalDate start = LocalDate.of(2025, 11, 1);
+        LocalDate end = LocalDate.of(2025, 11, 30);
+
+        List<ShiftAssignment> shifts = shiftRepository.findByShiftDateBetweenAndDeletedFalse(start, end);
+
+        assertThat(shifts).hasSize(30);
+        assertThat(explainLast(start, end))
+                .containsAnyOf("IDX_DELETED_DATE", "IDX_SHIFT_DATE")
+                .doesNotContain("tableScan");
+    }
+
+    @Test
+    void calendarFetchJoinShouldUseDateIndex() {
+        LocalDate start = LocalDate.of(2025, 10, 27);
+        LocalDate end = LocalDate.of(2025, 12, 7);
+
+        List<ShiftAssignment> shifts = shiftRepository.findWithConciergeByShiftDateBetween(start, end);
+
+        assertThat(shifts).hasSize(30);
+        assertThat(explainLast(start, end))
+                .containsAnyOf("IDX_DELETED_DATE", "IDX_SHIFT_DATE")
+                .doesNotContain("tableScan");
+    }
+
+    /**
+     * Run EXPLAIN on the last captured statement with the given bind parameters
+     */
+    private String explainLast(Object... params) {
+        String sql = SqlCaptureInspector.lastStatement();
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params);
+        return String.join("\n", plan);
+    }
+
+}
@@ -7,7 +7,9 @@ import com.vbforge.concierge.enums.ShiftType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -15,11 +17,14 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Repository tests for ShiftAssignment entity
+ * Uses the profile datasource (H2 in MySQL mode) so native batch upserts can run
  */
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 class ShiftAssignmentRepositoryTest {
 
@@ -80,7 +85,7 @@ class ShiftAssignmentRepositoryTest {
     @Test
     void shouldFindByShiftDateAndDeletedFalse() {
         Optional<ShiftAssignment> found = shiftRepository
-                .findByShiftDateAndDeletedFalse(LocalDate.of(2025, 11, 1));
+                .findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(2025, 11, 1), ShiftType.FULL_DAY);
 
         assertThat(found).isPresent();
         assertThat(found.get().getConcierge().getName()).isEqualTo("Alice");
@@ -139,4 +144,110 @@ class ShiftAssignmentRepositoryTest {
         assertThat(shifts).hasSize(2);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldBatchInsertShifts() {
+        List<ShiftAssignment> batch = List.of(
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 3))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).build(),
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 4))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).build());
+
+        boolean[] inserted = shiftRepository.batchInsert(batch);
+
+        assertThat(inserted).containsExactly(true, true);
+        assertThat(shiftRepository.countByYearAndMonth(2025, 11)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldInsertNewShiftNextToSoftDeletedShift() {
+        shift1.setDeleted(true);
+        shiftRepository.save(shift1);
+
+        boolean[] inserted = shiftRepository.batchInsert(List.of(
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 1))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).notes("reassigned").build()));
+
+        assertThat(inserted).containsExactly(true);
+        assertThat(shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(2025, 11, 1), ShiftType.FULL_DAY))
+                .get().extracting(ShiftAssignment::getNotes).isEqualTo("reassigned");
+    }
+
+    @Test
+    void shouldSkipOnlyBatchRowForDateWithActiveShift() {
+        boolean[] inserted = shiftRepository.batchInsert(List.of(
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 3))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).build(),
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 1))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).notes("duplicate").build(),
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 4))
+                        .concierge(alice).shiftType(ShiftType.FULL_DAY).build()));
+
+        assertThat(inserted).containsExactly(true, false, true);
+        assertThat(shiftRepository.countByYearAndMonth(2025, 11)).isEqualTo(4);
+        assertThat(shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(2025, 11, 1), ShiftType.FULL_DAY))
+                .get().extracting(ShiftAssignment::getNotes).isNotEqualTo("duplicate");
+    }
+
+    @Test
+    void shouldFailBatchOnForeignKeyViolation() {
+        Concierge missing = Concierge.builder().id(Long.MAX_VALUE).name("Ghost").color(ColorType.RED).build();
+
+        assertThatThrownBy(() -> shiftRepository.batchInsert(List.of(
+                ShiftAssignment.builder().shiftDate(LocalDate.of(2025, 11, 5))
+                        .concierge(missing).shiftType(ShiftType.FULL_DAY).build())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldRejectSecondActiveShiftOnSameDate() {
+        ShiftAssignment duplicate = ShiftAssignment.builder()
+                .shiftDate(LocalDate.of(2025, 11, 1))
+                .concierge(alice)
+                .shiftType(ShiftType.FULL_DAY)
+                .build();
+
+        assertThatThrownBy(() -> shiftRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldKeepSeveralSlotsOnSameDate() {
+        LocalDate date = LocalDate.of(2025, 11, 3);
+        shiftRepository.saveAllAndFlush(List.of(
+                ShiftAssignment.builder().shiftDate(date).concierge(alice).shiftType(ShiftType.MORNING).build(),
+                ShiftAssignment.builder().shiftDate(date).concierge(alice).shiftType(ShiftType.EVENING).build()));
+
+        assertThat(shiftRepository.findAllByShiftDateAndDeletedFalse(date))
+                .extracting(ShiftAssignment::getShiftType)
+                .containsExactlyInAnyOrder(ShiftType.MORNING, ShiftType.EVENING);
+        assertThat(shiftRepository.findAssignedSlotsBetween(date, date)).hasSize(2);
+    }
+
+    @Test
+    void shouldRejectFullDayAndEightHourShiftOnSameDate() {
+        LocalDate date = LocalDate.of(2025, 11, 3);
+        shiftRepository.saveAndFlush(ShiftAssignment.builder()
+                .shiftDate(date).concierge(alice).shiftType(ShiftType.NIGHT).build());
+
+        // 8-hour slot on a FULL_DAY date
+        assertThatThrownBy(() -> shiftRepository.saveAndFlush(ShiftAssignment.builder()
+                .shiftDate(LocalDate.of(2025, 11, 1)).concierge(alice).shiftType(ShiftType.MORNING).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        // FULL_DAY on a date with an 8-hour shift
+        assertThatThrownBy(() -> shiftRepository.saveAndFlush(ShiftAssignment.builder()
+                .shiftDate(date).concierge(alice).shiftType(ShiftType.FULL_DAY).build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldFreeFullDaySlotsOnSoftDelete() {
+        shift1.softDelete();
+        shiftRepository.saveAndFlush(shift1);
+
+        ShiftAssignment morning = shiftRepository.saveAndFlush(ShiftAssignment.builder()
+                .shiftDate(LocalDate.of(2025, 11, 1)).concierge(alice).shiftType(ShiftType.MORNING).build());
+
+        assertThat(morning.getId()).isNotNull();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.BulkAssignmentResultDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the per-row assignShift loop with the set-based bulk path
+ * Run with: mvn test -Pbenchmark
+ * Sizes stay inside the +10 year validation window (a 10k-day batch would be rejected by validateDate)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkAssignmentBenchmarkTest {
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Concierge> concierges;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM shift_assignments");
+        jdbcTemplate.update("DELETE FROM concierges");
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {31, 366, 3650})
+    void compareLoopWithBulkInsert(int days) {
+        List<ShiftAssignmentDto> batch = buildBatch(days);
+
+        // Warm up both paths once
+        runLoop(buildBatch(7));
+        runBulk(buildBatch(7));
+
+        long loopNanos = runLoop(batch);
+        long bulkNanos = runBulk(buildBatch(days));
+
+        System.out.printf("bulk assign %5d days: loop %7d ms, bulk %7d ms (x%.1f)%n",
+                days, loopNanos / 1_000_000, bulkNanos / 1_000_000, (double) loopNanos / Math.max(bulkNanos, 1));
+
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shift_assignments WHERE deleted = FALSE", Integer.class);
+        assertThat(stored).isEqualTo(days);
+    }
+
+    private long runLoop(List<ShiftAssignmentDto> batch) {
+        jdbcTemplate.update("DELETE FROM shift_assignments");
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> batch.forEach(shiftSchedulingService::assignShift));
+        return System.nanoTime() - start;
+    }
+
+    private long runBulk(List<ShiftAssignmentDto> batch) {
+        jdbcTemplate.update("DELETE FROM shift_assignments");
+        long start = System.nanoTime();
+        BulkAssignmentResultDto result = transactionTemplate.execute(
+                status -> shiftSchedulingService.bulkAssignShiftsWithReport(batch));
+        long elapsed = System.nanoTime() - start;
+        assertThat(result.getFailed()).isZero();
+        return elapsed;
+    }
+
+    private List<ShiftAssignmentDto> buildBatch(int days) {
+        LocalDate start = LocalDate.now().plusDays(1);
+        List<ShiftAssignmentDto> batch = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            batch.add(TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(start.plusDays(i))
+                    .conciergeId(concierges.get(i % concierges.size()).getId())
+                    .build());
+        }
+        return batch;
+    }
+
+}
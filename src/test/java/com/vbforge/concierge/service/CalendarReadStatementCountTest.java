@@ -0,0 +1,92 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.CalendarDayDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate statistics tests for the calendar read path
+ * A calendar render must load shifts and their concierges in a single SQL statement
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class CalendarReadStatementCountTest {
+
+    @Autowired
+    private MonthScheduleService monthScheduleService;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Concierge[] concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+
+        // Fill the whole 42-day grid of November 2025 (Oct 27 - Dec 7)
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 10, concierges)));
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 11, concierges)));
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(2025, 12, concierges)));
+
+        // Start from an empty persistence context so concierges are not served from it
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void calendarRenderShouldExecuteExactlyOneStatement() {
+        List<CalendarDayDto> days = monthScheduleService.getCalendarDays(2025, 11);
+
+        assertThat(days).hasSize(42);
+        assertThat(days).allSatisfy(day -> {
+            assertThat(day.isAssigned()).isTrue();
+            assertThat(day.getShiftAssignment().getConciergeName()).isNotBlank();
+            assertThat(day.getShiftAssignment().getConciergeColor()).isNotBlank();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void monthShiftsShouldExecuteExactlyOneStatement() {
+        List<ShiftAssignmentDto> shifts = monthScheduleService.getShiftsForMonth(2025, 11);
+
+        assertThat(shifts).hasSize(30);
+        assertThat(shifts).extracting(ShiftAssignmentDto::getConciergeName)
+                .containsOnly("Alice", "Bob", "Carol");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
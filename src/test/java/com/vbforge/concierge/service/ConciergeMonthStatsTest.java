@@ -0,0 +1,152 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.ConciergeDto;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ConciergeMonthStats;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the materialized concierge month counters (concierge_month_stats)
+ * Counters maintained by the shift write paths must equal a rebuild from shift_assignments
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ConciergeMonthStatsTest {
+
+    private static final int YEAR = 2026;
+    private static final int MONTH = 7;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private ConciergeStatsService conciergeStatsService;
+
+    @Autowired
+    private ConciergeService conciergeService;
+
+    @Autowired
+    private MonthScheduleService monthScheduleService;
+
+    @Autowired
+    private ConciergeMonthStatsRepository statsRepository;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Concierge[] concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(YEAR, MONTH, concierges)));
+        // Fixture rows were saved behind the service layer
+        conciergeStatsService.rebuildMonthStats();
+    }
+
+    @Test
+    void everyWritePathShouldKeepCountersEqualToRebuild() {
+        LocalDate august = LocalDate.of(YEAR, MONTH + 1, 3);
+
+        ShiftAssignmentDto assigned = shiftSchedulingService.assignShift(shift(august, concierges[0], ShiftType.MORNING));
+        shiftSchedulingService.assignShift(shift(august, concierges[1], ShiftType.EVENING));
+
+        // Move to another concierge and month
+        assigned.setConciergeId(concierges[2].getId());
+        assigned.setShiftDate(LocalDate.of(YEAR, MONTH + 2, 1));
+        shiftSchedulingService.updateShift(assigned.getId(), assigned);
+
+        shiftSchedulingService.removeShiftByDate(LocalDate.of(YEAR, MONTH, 1));
+        shiftSchedulingService.removeShiftByDate(august, ShiftType.EVENING);
+        shiftSchedulingService.bulkAssignShifts(List.of(
+                shift(august.plusDays(5), concierges[0], ShiftType.FULL_DAY),
+                shift(august.plusDays(6), concierges[0], ShiftType.FULL_DAY)));
+
+        List<ShiftAssignmentDto> july = monthScheduleService.getShiftsForMonth(YEAR, MONTH);
+        july.get(0).setConciergeId(concierges[1].getId());
+        shiftSchedulingService.replaceMonthShifts(YEAR, List.of(MONTH), july.subList(0, 10), true);
+        shiftSchedulingService.replaceMonthShifts(YEAR, List.of(MONTH + 1), List.of(
+                shift(august, concierges[1], ShiftType.NIGHT)), false);
+
+        shiftSchedulingService.deleteAllShiftsForConcierge(concierges[2].getId());
+
+        Map<String, Integer> maintained = counters();
+        conciergeStatsService.rebuildMonthStats();
+        assertThat(maintained).isEqualTo(counters());
+        assertThat(statsRepository.findShiftCount(concierges[1].getId(), YEAR, MONTH + 1)).isEqualTo(1);
+    }
+
+    @Test
+    void rebuildShouldRepairDriftedCounters() {
+        jdbcTemplate.update("UPDATE concierge_month_stats SET shift_count = shift_count + 7");
+        statsRepository.addShiftCounts(Map.of(new ConciergeMonthStats.Key(concierges[0].getId(), YEAR, 1), 3));
+
+        conciergeStatsService.rebuildMonthStats();
+
+        assertThat(statsRepository.findShiftCount(concierges[0].getId(), YEAR, 1)).isNull();
+        assertThat(monthScheduleService.getShiftCountByConcierge(YEAR, MONTH).values()
+                .stream().mapToInt(Integer::intValue).sum()).isEqualTo(31);
+    }
+
+    @Test
+    void conciergeDetailShouldReadCounters() {
+        LocalDate today = LocalDate.now();
+        shiftSchedulingService.assignShift(shift(today, concierges[0], ShiftType.FULL_DAY));
+
+        ConciergeDto detail = conciergeService.getConciergeById(concierges[0].getId());
+
+        assertThat(detail.getCurrentMonthShiftCount())
+                .isEqualTo(conciergeService.getCurrentMonthShiftCount(concierges[0].getId()).intValue())
+                .isPositive();
+        assertThat(detail.getTotalShiftCount().longValue())
+                .isEqualTo(conciergeRepository.countTotalShifts(concierges[0].getId()));
+    }
+
+    //helper method to build a shift assignment request
+    private ShiftAssignmentDto shift(LocalDate date, Concierge concierge, ShiftType shiftType) {
+        return TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(date)
+                .conciergeId(concierge.getId())
+                .shiftType(shiftType)
+                .build();
+    }
+
+    //helper method to read all counters as "conciergeId/year/month" -> count, zero counters omitted
+    private Map<String, Integer> counters() {
+        Map<String, Integer> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT concierge_id, stats_year, stats_month, shift_count FROM concierge_month_stats "
+                        + "WHERE shift_count <> 0",
+                rs -> {
+                    counters.put(rs.getLong(1) + "/" + rs.getInt(2) + "/" + rs.getInt(3), rs.getInt(4));
+                });
+        return counters;
+    }
+
+}
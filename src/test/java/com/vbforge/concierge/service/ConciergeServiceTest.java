@@ -1,11 +1,14 @@
 package com.vbforge.concierge.service;
 
+import com.vbforge.concierge.cache.MonthScheduleCache;
 import com.vbforge.concierge.dto.ConciergeDto;
 import com.vbforge.concierge.entity.Concierge;
 import com.vbforge.concierge.enums.ColorType;
 import com.vbforge.concierge.exception.ConciergeDuplicateException;
 import com.vbforge.concierge.exception.ConciergeNotFoundException;
+import com.vbforge.concierge.exception.ConcurrentUpdateException;
 import com.vbforge.concierge.mapper.ConciergeMapper;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
 import com.vbforge.concierge.repository.ConciergeRepository;
 import com.vbforge.concierge.service.impl.ConciergeServiceImpl;
 import com.vbforge.concierge.util.TestDataBuilder;
@@ -33,12 +36,18 @@ public class ConciergeServiceTest {
     @Mock
     private ConciergeRepository conciergeRepository;
 
+    @Mock
+    private ConciergeMonthStatsRepository statsRepository;
+
     @Mock
     private ConciergeMapper conciergeMapper;
 
     @Mock
     private ValidationService validationService;
 
+    @Mock
+    private MonthScheduleCache monthScheduleCache;
+
     @InjectMocks
     private ConciergeServiceImpl conciergeService;
 
@@ -94,8 +103,8 @@ public class ConciergeServiceTest {
         // Given
         when(conciergeRepository.findById(1L)).thenReturn(Optional.of(alice));
         when(conciergeMapper.toDto(alice)).thenReturn(aliceDto);
-        when(conciergeRepository.countShiftsByMonth(anyLong(), anyInt(), anyInt())).thenReturn(5L);
-        when(conciergeRepository.countTotalShifts(anyLong())).thenReturn(10L);
+        when(statsRepository.findShiftCounts(anyLong(), anyInt(), anyInt()))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, 5L}));
 
         // When
         ConciergeDto result = conciergeService.getConciergeById(1L);
@@ -105,6 +114,8 @@ public class ConciergeServiceTest {
         assertThat(result.getName()).isEqualTo("Alice");
         assertThat(result.getCurrentMonthShiftCount()).isEqualTo(5);
         assertThat(result.getTotalShiftCount()).isEqualTo(10);
+        verify(conciergeRepository, never()).countShiftsByMonth(anyLong(), anyInt(), anyInt());
+        verify(conciergeRepository, never()).countTotalShifts(anyLong());
     }
 
     @Test
@@ -137,7 +148,7 @@ public class ConciergeServiceTest {
     void testUpdateConcierge() {
         // Given
         when(conciergeRepository.findById(1L)).thenReturn(Optional.of(alice));
-        when(conciergeRepository.save(alice)).thenReturn(alice);
+        when(conciergeRepository.saveAndFlush(alice)).thenReturn(alice);
         when(conciergeMapper.toDto(alice)).thenReturn(aliceDto);
         doNothing().when(conciergeMapper).updateEntityFromDto(any(), any());
 
@@ -147,7 +158,21 @@ public class ConciergeServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(conciergeMapper).updateEntityFromDto(aliceDto, alice);
-        verify(conciergeRepository).save(alice);
+        verify(conciergeRepository).saveAndFlush(alice);
+    }
+
+    @Test
+    void testShouldRejectUpdateOfStaleVersion() {
+        // Given
+        alice.setVersion(3L);
+        aliceDto.setVersion(2L);
+        when(conciergeRepository.findById(1L)).thenReturn(Optional.of(alice));
+
+        // When/Then
+        assertThatThrownBy(() -> conciergeService.updateConcierge(1L, aliceDto))
+                .isInstanceOf(ConcurrentUpdateException.class);
+
+        verify(conciergeRepository, never()).saveAndFlush(any());
     }
 
     @Test
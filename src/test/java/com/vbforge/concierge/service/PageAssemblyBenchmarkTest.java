@@ -0,0 +1,164 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.MonthScheduleDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of uncached month schedule assembly with sequential and concurrent loads
+ * Seeds 200 concierges and five years of shifts, then rebuilds every month of a year from the database
+ * In-memory H2 has no network round trip, so each statement is delayed to model one to a database server
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vbforge.concierge.service.PageAssemblyBenchmarkTest$RoundTripDelay")
+@ActiveProfiles("test")
+class PageAssemblyBenchmarkTest {
+
+    private static final int YEAR = 2026;
+    private static final int ROUNDS = 20;
+    private static final long ROUND_TRIP_MILLIS = 3;
+
+    private static volatile boolean delayStatements;
+
+    @Autowired
+    private MonthScheduleCache monthScheduleCache;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Concierge> concierges = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            concierges.add(TestDataBuilder.defaultConcierge()
+                    .name("Concierge " + i)
+                    .build());
+        }
+        Concierge[] saved = conciergeRepository.saveAll(concierges).toArray(new Concierge[0]);
+
+        for (int year = YEAR - 2; year <= YEAR + 2; year++) {
+            for (int month = 1; month <= 12; month++) {
+                shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(year, month, saved)));
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        delayStatements = false;
+        shiftRepository.deleteAll();
+        conciergeRepository.deleteAll();
+        monthScheduleCache.invalidateAll();
+    }
+
+    @Nested
+    @TestPropertySource(properties = "schedule.page-assembly.threads=0")
+    class Sequential {
+
+        // Beans of this class's own context; the enclosing instance is wired from the default one
+        @Autowired
+        private MonthScheduleService service;
+
+        @Autowired
+        private MonthScheduleCache cache;
+
+        @Test
+        void measureUncachedMonthAssembly() {
+            measure("sequential", service, cache);
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "schedule.page-assembly.threads=4")
+    class Concurrent {
+
+        // Beans of this class's own context; the enclosing instance is wired from the default one
+        @Autowired
+        private MonthScheduleService service;
+
+        @Autowired
+        private MonthScheduleCache cache;
+
+        @Test
+        void measureUncachedMonthAssembly() {
+            measure("concurrent", service, cache);
+        }
+    }
+
+    //helper method to time cache misses of every month of the year
+    private void measure(String mode, MonthScheduleService service, MonthScheduleCache cache) {
+        // Warm up JIT and connection pool
+        for (int round = 0; round < 5; round++) {
+            assembleYear(service, cache);
+        }
+        delayStatements = true;
+
+        long[] latencies = new long[ROUNDS * 12];
+        int index = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int month = 1; month <= 12; month++) {
+                cache.invalidateAll();
+                long start = System.nanoTime();
+                MonthScheduleDto schedule = service.getMonthSchedule(YEAR, month);
+                latencies[index++] = System.nanoTime() - start;
+                assertThat(schedule.getConcierges()).hasSize(200);
+            }
+        }
+
+        Arrays.sort(latencies);
+        System.out.printf("month assembly %-10s: p50 %6d us, p99 %6d us%n", mode,
+                TimeUnit.NANOSECONDS.toMicros(latencies[latencies.length / 2]),
+                TimeUnit.NANOSECONDS.toMicros(latencies[(int) Math.ceil(latencies.length * 0.99) - 1]));
+    }
+
+    /**
+     * Simulated database round trip per statement
+     */
+    public static class RoundTripDelay implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            if (delayStatements) {
+                try {
+                    Thread.sleep(ROUND_TRIP_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return sql;
+        }
+    }
+
+    private void assembleYear(MonthScheduleService service, MonthScheduleCache cache) {
+        for (int month = 1; month <= 12; month++) {
+            cache.invalidateAll();
+            service.getMonthSchedule(YEAR, month);
+        }
+    }
+
+}
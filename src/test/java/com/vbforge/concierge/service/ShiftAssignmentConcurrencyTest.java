@@ -0,0 +1,149 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.ShiftConflictException;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency test for assignShift
+ * Parallel assigns for the same date must leave exactly one active shift (uk_shift_active_date_type)
+ * and never mix a FULL_DAY shift with 8-hour shifts (slot keys of V17)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ShiftAssignmentConcurrencyTest {
+
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Concierge> concierges;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM shift_assignments");
+        jdbcTemplate.update("DELETE FROM concierges");
+    }
+
+    @Test
+    void parallelAssignsForSameDateShouldLeaveOneActiveShift() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(7);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            ShiftAssignmentDto dto = TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(date)
+                    .conciergeId(concierges.get(i % concierges.size()).getId())
+                    .build();
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    shiftSchedulingService.assignShift(dto);
+                    succeeded.incrementAndGet();
+                } catch (ShiftConflictException e) {
+                    conflicts.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(REQUESTS - 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shift_assignments WHERE deleted = FALSE AND shift_date = ?",
+                Integer.class, date)).isEqualTo(1);
+    }
+
+    @Test
+    void parallelFullDayAndSlotAssignsShouldNeverMix() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(8);
+        ShiftType[] types = ShiftType.values();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            ShiftAssignmentDto dto = TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(date)
+                    .shiftType(types[i % types.length])
+                    .conciergeId(concierges.get(i % concierges.size()).getId())
+                    .build();
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    shiftSchedulingService.assignShift(dto);
+                } catch (ShiftConflictException e) {
+                    // expected for every loser
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<String> active = jdbcTemplate.queryForList(
+                "SELECT shift_type FROM shift_assignments WHERE deleted = FALSE AND shift_date = ?",
+                String.class, date);
+        assertThat(unexpected).isEmpty();
+        if (active.contains(ShiftType.FULL_DAY.name())) {
+            assertThat(active).containsExactly(ShiftType.FULL_DAY.name());
+        } else {
+            assertThat(active).isNotEmpty().doesNotHaveDuplicates();
+        }
+    }
+
+}
@@ -1,11 +1,17 @@
 package com.vbforge.concierge.service;
 
+import com.vbforge.concierge.cache.MonthScheduleCache;
+import com.vbforge.concierge.dto.BulkAssignmentResultDto;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.ConciergeMonthStats;
 import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.event.ShiftChangedEvent;
 import com.vbforge.concierge.exception.ShiftAssignmentNotFoundException;
 import com.vbforge.concierge.exception.ShiftConflictException;
 import com.vbforge.concierge.mapper.ShiftAssignmentMapper;
+import com.vbforge.concierge.repository.ConciergeMonthStatsRepository;
 import com.vbforge.concierge.repository.ConciergeRepository;
 import com.vbforge.concierge.repository.ShiftAssignmentRepository;
 import com.vbforge.concierge.service.impl.ShiftSchedulingServiceImpl;
@@ -16,10 +22,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +46,9 @@ public class ShiftSchedulingServiceTest {
     @Mock
     private ShiftAssignmentRepository shiftRepository;
 
+    @Mock
+    private ConciergeMonthStatsRepository statsRepository;
+
     @Mock
     private ConciergeRepository conciergeRepository;
 
@@ -43,6 +58,12 @@ public class ShiftSchedulingServiceTest {
     @Mock
     private ValidationService validationService;
 
+    @Mock
+    private MonthScheduleCache monthScheduleCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ShiftSchedulingServiceImpl shiftSchedulingService;
 
@@ -74,10 +95,9 @@ public class ShiftSchedulingServiceTest {
         // Given
         when(shiftMapper.toEntity(shiftDto)).thenReturn(shift);
         when(conciergeRepository.findById(1L)).thenReturn(Optional.of(alice));
-        when(shiftRepository.save(shift)).thenReturn(shift);
+        when(shiftRepository.saveAndFlush(shift)).thenReturn(shift);
         when(shiftMapper.toDto(shift)).thenReturn(shiftDto);
         doNothing().when(validationService).validateShiftAssignment(any());
-        doNothing().when(validationService).checkShiftConflict(any());
         doNothing().when(validationService).validateConciergeExists(any());
 
         // When
@@ -86,20 +106,28 @@ public class ShiftSchedulingServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getShiftDate()).isEqualTo(testDate);
-        verify(shiftRepository).save(shift);
+        verify(shiftRepository).saveAndFlush(shift);
+        verify(validationService, never()).checkShiftConflict(any());
+        verify(statsRepository).addShiftCounts(Map.of(ConciergeMonthStats.Key.of(1L, testDate), 1));
+        verify(monthScheduleCache).invalidate(testDate);
+        verify(eventPublisher).publishEvent(argThat((ShiftChangedEvent event) ->
+                event.getType() == ShiftChangedEvent.Type.ASSIGNED && event.getDates().equals(Set.of(testDate))));
     }
 
     @Test
     void testShouldThrowExceptionWhenAssigningConflictingShift() {
         // Given
-        doThrow(new ShiftConflictException(testDate.toString()))
-                .when(validationService).checkShiftConflict(testDate);
+        when(shiftMapper.toEntity(shiftDto)).thenReturn(shift);
+        when(conciergeRepository.findById(1L)).thenReturn(Optional.of(alice));
+        when(shiftRepository.saveAndFlush(shift))
+                .thenThrow(new DataIntegrityViolationException("uk_shift_active_date_type"));
 
         // When/Then
         assertThatThrownBy(() -> shiftSchedulingService.assignShift(shiftDto))
                 .isInstanceOf(ShiftConflictException.class);
 
-        verify(shiftRepository, never()).save(any());
+        verify(monthScheduleCache, never()).invalidate(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -119,8 +147,8 @@ public class ShiftSchedulingServiceTest {
     @Test
     void testGetShiftByDate() {
         // Given
-        when(shiftRepository.findByShiftDateAndDeletedFalse(testDate))
-                .thenReturn(Optional.of(shift));
+        when(shiftRepository.findAllByShiftDateAndDeletedFalse(testDate))
+                .thenReturn(List.of(shift));
         when(shiftMapper.toDto(shift)).thenReturn(shiftDto);
 
         // When
@@ -134,8 +162,8 @@ public class ShiftSchedulingServiceTest {
     @Test
     void testReturnNullWhenShiftNotFoundByDate() {
         // Given
-        when(shiftRepository.findByShiftDateAndDeletedFalse(testDate))
-                .thenReturn(Optional.empty());
+        when(shiftRepository.findAllByShiftDateAndDeletedFalse(testDate))
+                .thenReturn(List.of());
 
         // When
         ShiftAssignmentDto result = shiftSchedulingService.getShiftByDate(testDate);
@@ -155,6 +183,8 @@ public class ShiftSchedulingServiceTest {
 
         // Then
         verify(shiftRepository).save(shift);
+        verify(statsRepository).addShiftCounts(Map.of(ConciergeMonthStats.Key.of(1L, testDate), -1));
+        verify(monthScheduleCache).invalidate(testDate);
         assertThat(shift.isDeleted()).isTrue();
     }
 
@@ -168,21 +198,6 @@ public class ShiftSchedulingServiceTest {
                 .isInstanceOf(ShiftAssignmentNotFoundException.class);
     }
 
-    @Test
-    void testGetShiftsByConcierge() {
-        // Given
-        List<ShiftAssignment> shifts = List.of(shift);
-        when(shiftRepository.findByConciergeIdAndDeletedFalse(1L)).thenReturn(shifts);
-        when(shiftMapper.toDtoList(shifts)).thenReturn(List.of(shiftDto));
-
-        // When
-        List<ShiftAssignmentDto> result = shiftSchedulingService.getShiftsByConcierge(1L);
-
-        // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getConciergeId()).isEqualTo(1L);
-    }
-
     @Test
     void testCheckIfShiftIsAssigned() {
         // Given
@@ -199,16 +214,99 @@ public class ShiftSchedulingServiceTest {
     void testBulkAssignShifts() {
         // Given
         List<ShiftAssignmentDto> dtoList = List.of(shiftDto);
+        when(conciergeRepository.findAllById(any())).thenReturn(List.of(alice));
+        when(shiftRepository.findAssignedSlotsBetween(testDate, testDate)).thenReturn(List.of());
         when(shiftMapper.toEntity(any())).thenReturn(shift);
-        when(conciergeRepository.findById(anyLong())).thenReturn(Optional.of(alice));
-        when(shiftRepository.save(any())).thenReturn(shift);
-        when(shiftMapper.toDto(any())).thenReturn(shiftDto);
+        when(shiftRepository.batchInsert(any())).thenReturn(new boolean[]{true});
 
         // When
         List<ShiftAssignmentDto> result = shiftSchedulingService.bulkAssignShifts(dtoList);
 
         // Then
         assertThat(result).hasSize(1);
+        verify(shiftRepository, never()).save(any());
+        verify(monthScheduleCache).invalidateMonths(Set.of(YearMonth.from(testDate)));
+    }
+
+    @Test
+    void testBulkAssignShiftsWithReport_RejectsConflictsAndUnknownConcierges() {
+        // Given
+        ShiftAssignmentDto taken = TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(testDate.plusDays(1)).conciergeId(1L).build();
+        ShiftAssignmentDto duplicateInBatch = TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(testDate).conciergeId(1L).build();
+        ShiftAssignmentDto unknownConcierge = TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(testDate.plusDays(2)).conciergeId(99L).build();
+
+        when(conciergeRepository.findAllById(any())).thenReturn(List.of(alice));
+        when(shiftRepository.findAssignedSlotsBetween(testDate, testDate.plusDays(2)))
+                .thenReturn(List.<Object[]>of(new Object[]{testDate.plusDays(1), ShiftType.FULL_DAY}));
+        when(shiftMapper.toEntity(shiftDto)).thenReturn(shift);
+        when(shiftRepository.batchInsert(List.of(shift))).thenReturn(new boolean[]{true});
+
+        // When
+        BulkAssignmentResultDto result = shiftSchedulingService.bulkAssignShiftsWithReport(
+                List.of(shiftDto, taken, duplicateInBatch, unknownConcierge));
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getRows()).extracting(BulkAssignmentResultDto.RowResult::isSuccess)
+                .containsExactly(true, false, false, false);
+        verify(conciergeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testBulkAssignShiftsWithReport_RowLostToConcurrentInsertIsNotReported() {
+        // Given: the slot is free at the pre-check but taken before the batch runs
+        when(conciergeRepository.findAllById(any())).thenReturn(List.of(alice));
+        when(shiftRepository.findAssignedSlotsBetween(testDate, testDate)).thenReturn(List.of());
+        when(shiftMapper.toEntity(shiftDto)).thenReturn(shift);
+        when(shiftRepository.batchInsert(List.of(shift))).thenReturn(new boolean[]{false});
+
+        // When
+        BulkAssignmentResultDto result = shiftSchedulingService.bulkAssignShiftsWithReport(List.of(shiftDto));
+
+        // Then
+        assertThat(result.getSucceeded()).isZero();
+        assertThat(result.getRows()).extracting(BulkAssignmentResultDto.RowResult::isSuccess)
+                .containsExactly(false);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testBulkAssignShiftsWithReport_CountsOnlyInsertedRows() {
+        // Given: the second slot is taken by a concurrent writer between pre-check and batch
+        ShiftAssignmentDto lostDto = TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(testDate.plusDays(1)).conciergeId(1L).build();
+        ShiftAssignment lost = TestDataBuilder.createShiftForDate(testDate.plusDays(1), alice);
+
+        when(conciergeRepository.findAllById(any())).thenReturn(List.of(alice));
+        when(shiftRepository.findAssignedSlotsBetween(testDate, testDate.plusDays(1))).thenReturn(List.of());
+        when(shiftMapper.toEntity(shiftDto)).thenReturn(shift);
+        when(shiftMapper.toEntity(lostDto)).thenReturn(lost);
+        when(shiftRepository.batchInsert(List.of(shift, lost))).thenReturn(new boolean[]{true, false});
+
+        // When
+        shiftSchedulingService.bulkAssignShiftsWithReport(List.of(shiftDto, lostDto));
+
+        // Then
+        verify(statsRepository).addShiftCounts(Map.of(ConciergeMonthStats.Key.of(shift), 1));
+    }
+
+    @Test
+    void testReplaceMonthShifts_SlotAssignedConcurrentlyFailsWholeReplace() {
+        // Given: after the month was emptied another request assigned the snapshot's slot
+        when(conciergeRepository.findAllById(any())).thenReturn(List.of(alice));
+        when(shiftRepository.findAssignedSlotsBetween(testDate, testDate))
+                .thenReturn(List.<Object[]>of(new Object[]{testDate, ShiftType.FULL_DAY}));
+        when(shiftRepository.batchInsert(List.of())).thenReturn(new boolean[0]);
+
+        // When / Then
+        assertThatThrownBy(() -> shiftSchedulingService.replaceMonthShifts(testDate.getYear(),
+                List.of(testDate.getMonthValue()), List.of(shiftDto), false))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
 }
@@ -0,0 +1,168 @@
+package com.vbforge.concierge.service;
+
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.MonthHistory;
+import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.SnapshotException;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.MonthHistoryRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.repository.SnapshotDeltaRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for delta checkpoints, point-in-time restore and chain compaction
+ */
+@SpringBootTest(properties = "schedule.snapshot.compaction-threshold=2")
+@ActiveProfiles("test")
+@Transactional
+class SnapshotCheckpointTest {
+
+    private static final int YEAR = 2026;
+    private static final int MONTH = 3;
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private ShiftSchedulingService shiftSchedulingService;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private MonthHistoryRepository historyRepository;
+
+    @Autowired
+    private SnapshotDeltaRepository deltaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Concierge[] concierges;
+    private MonthHistory base;
+    private LocalDateTime beforeCheckpoint;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+        shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(YEAR, MONTH, concierges)));
+
+        // First checkpoint creates the base snapshot; move it into the past
+        assertThat(historyService.createCheckpoint(YEAR, MONTH)).isZero();
+        base = historyRepository.findByYearAndMonthAndDeletedFalse(YEAR, MONTH).orElseThrow();
+        base.setSnapshotDate(LocalDateTime.now().minusHours(2));
+        historyRepository.save(base);
+        beforeCheckpoint = LocalDateTime.now().minusHours(1);
+
+        // Day 5 goes to another concierge, day 6 is cleared
+        List<ShiftAssignmentDto> changed = currentMonth();
+        changed.get(4).setConciergeId(concierges[2].getId());
+        changed.remove(5);
+        shiftSchedulingService.replaceMonthShifts(YEAR, List.of(MONTH), changed, true);
+    }
+
+    @Test
+    void checkpointShouldStoreOnlyChangedDays() {
+        assertThat(historyService.createCheckpoint(YEAR, MONTH)).isEqualTo(2);
+        assertThat(historyService.createCheckpoint(YEAR, MONTH)).isZero();
+        assertThat(deltaRepository.countByHistoryId(base.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRestoreToPointInTime() {
+        historyService.createCheckpoint(YEAR, MONTH);
+
+        historyService.restoreToTimestamp(base.getId(), beforeCheckpoint);
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, MONTH)).isEqualTo(31);
+        assertThat(conciergeOn(5)).isEqualTo(concierges[1].getId());
+
+        historyService.restoreToTimestamp(base.getId(), LocalDateTime.now().plusSeconds(1));
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, MONTH)).isEqualTo(30);
+        assertThat(conciergeOn(5)).isEqualTo(concierges[2].getId());
+    }
+
+    @Test
+    void compactionShouldFoldChainIntoBase() {
+        historyService.createCheckpoint(YEAR, MONTH);
+        shiftSchedulingService.replaceMonthShifts(YEAR, List.of(MONTH),
+                currentMonth().subList(0, 20), true);
+        historyService.createCheckpoint(YEAR, MONTH);
+
+        assertThat(historyService.compactDeltaChains()).isEqualTo(1);
+        entityManager.flush();
+        entityManager.clear();
+
+        MonthHistory compacted = historyRepository.findById(base.getId()).orElseThrow();
+        assertThat(deltaRepository.countByHistoryId(base.getId())).isZero();
+        assertThat(compacted.getTotalShifts()).isEqualTo(20);
+
+        historyService.restoreToTimestamp(base.getId(), LocalDateTime.now().plusSeconds(1));
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, MONTH)).isEqualTo(20);
+
+        assertThatThrownBy(() -> historyService.restoreToTimestamp(base.getId(), beforeCheckpoint))
+                .isInstanceOf(SnapshotException.class);
+    }
+
+    @Test
+    void resnapshotAfterDeleteShouldNotReplayOldDeltas() {
+        historyService.createCheckpoint(YEAR, MONTH);
+        historyService.deleteHistory(base.getId());
+
+        // Back to the original month: day 5 returns to its concierge, day 6 is assigned again
+        List<ShiftAssignmentDto> original = currentMonth();
+        original.get(4).setConciergeId(concierges[1].getId());
+        original.add(TestDataBuilder.defaultShiftAssignmentDto()
+                .shiftDate(LocalDate.of(YEAR, MONTH, 6))
+                .conciergeId(concierges[2].getId())
+                .build());
+        shiftSchedulingService.replaceMonthShifts(YEAR, List.of(MONTH), original, true);
+
+        Long reusedId = historyService.createSnapshot(YEAR, MONTH).getId();
+        assertThat(reusedId).isEqualTo(base.getId());
+        assertThat(deltaRepository.countByHistoryId(reusedId)).isZero();
+
+        historyService.restoreToTimestamp(reusedId, LocalDateTime.now().plusSeconds(1));
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, MONTH)).isEqualTo(31);
+        assertThat(conciergeOn(5)).isEqualTo(concierges[1].getId());
+    }
+
+    private List<ShiftAssignmentDto> currentMonth() {
+        return shiftRepository.findByYearAndMonth(YEAR, MONTH).stream()
+                .map(shift -> TestDataBuilder.defaultShiftAssignmentDto()
+                        .shiftDate(shift.getShiftDate())
+                        .conciergeId(shift.getConcierge().getId())
+                        .shiftType(shift.getShiftType())
+                        .notes(shift.getNotes())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private Long conciergeOn(int day) {
+        return shiftRepository.findByShiftDateAndShiftTypeAndDeletedFalse(LocalDate.of(YEAR, MONTH, day), ShiftType.FULL_DAY)
+                .map(ShiftAssignment::getConcierge)
+                .map(Concierge::getId)
+                .orElse(null);
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.vbforge.concierge.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.entity.Concierge;
+import com.vbforge.concierge.entity.MonthHistory;
+import com.vbforge.concierge.entity.ShiftAssignment;
+import com.vbforge.concierge.repository.ConciergeRepository;
+import com.vbforge.concierge.repository.MonthHistoryRepository;
+import com.vbforge.concierge.repository.ShiftAssignmentRepository;
+import com.vbforge.concierge.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate statistics tests for snapshot restore
+ * Restoring a month or a whole year must run a bounded number of statements, not one per day
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class SnapshotRestoreStatementCountTest {
+
+    private static final int YEAR = 2026;
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private ShiftAssignmentRepository shiftRepository;
+
+    @Autowired
+    private ConciergeRepository conciergeRepository;
+
+    @Autowired
+    private MonthHistoryRepository historyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private Concierge[] concierges;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        concierges = conciergeRepository.saveAll(List.of(TestDataBuilder.createSampleConcierges()))
+                .toArray(new Concierge[0]);
+
+        for (int month = 1; month <= 12; month++) {
+            shiftRepository.saveAll(List.of(TestDataBuilder.createShiftsForMonth(YEAR, month, concierges)));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void yearRestoreShouldRunBoundedStatements() throws Exception {
+        // Snapshots rotate every day to the next concierge, so all 365 days change
+        for (int month = 1; month <= 12; month++) {
+            saveSnapshot(month, rotatedMonth(month, 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        int changed = historyService.restoreYearFromSnapshots(YEAR, false);
+
+        assertThat(changed).isEqualTo(365 * 2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+
+        List<ShiftAssignment> restored = shiftRepository.findByYear(YEAR);
+        assertThat(restored).hasSize(365);
+        assertThat(restored.get(0).getConcierge().getId()).isEqualTo(concierges[1].getId());
+    }
+
+    @Test
+    void diffRestoreShouldOnlyTouchChangedDays() throws Exception {
+        List<ShiftAssignmentDto> snapshot = rotatedMonth(3, 0);
+        snapshot.get(4).setConciergeId(concierges[2].getId());
+        snapshot.get(9).setNotes("Changed");
+        snapshot.remove(20);
+        MonthHistory history = saveSnapshot(3, snapshot);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        int changed = historyService.restoreFromSnapshot(history.getId(), true);
+
+        // 3 days soft deleted, 2 days re-inserted
+        assertThat(changed).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, 3)).isEqualTo(30);
+    }
+
+    @Test
+    void createdSnapshotShouldStoreCompactDataAndRestore() {
+        Long historyId = historyService.createSnapshot(YEAR, 5, "Before changes").getId();
+        shiftRepository.softDeleteByYearAndMonthIn(YEAR, List.of(5), LocalDateTime.now());
+
+        MonthHistory history = historyRepository.findById(historyId).orElseThrow();
+        assertThat(history.getSnapshotData()).isNotEmpty();
+        assertThat(history.getSnapshotJson()).isNull();
+        assertThat(history.getTotalShifts()).isEqualTo(31);
+
+        historyService.restoreFromSnapshot(historyId);
+
+        assertThat(shiftRepository.countByYearAndMonth(YEAR, 5)).isEqualTo(31);
+    }
+
+    private List<ShiftAssignmentDto> rotatedMonth(int month, int offset) {
+        List<ShiftAssignmentDto> shifts = new ArrayList<>();
+        for (ShiftAssignment shift : TestDataBuilder.createShiftsForMonth(YEAR, month, concierges)) {
+            int index = (shift.getShiftDate().getDayOfMonth() - 1 + offset) % concierges.length;
+            shifts.add(TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(shift.getShiftDate())
+                    .conciergeId(concierges[index].getId())
+                    .shiftType(shift.getShiftType())
+                    .notes(shift.getNotes())
+                    .build());
+        }
+        return shifts;
+    }
+
+    private MonthHistory saveSnapshot(int month, List<ShiftAssignmentDto> shifts) throws Exception {
+        return historyRepository.save(TestDataBuilder.defaultMonthHistory()
+                .year(YEAR)
+                .month(month)
+                .snapshotJson(objectMapper.writeValueAsString(shifts))
+                .totalShifts(shifts.size())
+                .build());
+    }
+
+}
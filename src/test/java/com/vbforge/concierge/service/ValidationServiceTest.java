@@ -1,5 +1,6 @@
 package com.vbforge.concierge.service;
 
+import com.vbforge.concierge.cache.AvailabilityIndex;
 import com.vbforge.concierge.dto.ShiftAssignmentDto;
 import com.vbforge.concierge.enums.ShiftType;
 import com.vbforge.concierge.exception.*;
@@ -29,6 +30,9 @@ public class ValidationServiceTest {
     @Mock
     private ShiftAssignmentRepository shiftRepository;
 
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
     @InjectMocks
     private ValidationServiceImpl validationService;
 
@@ -260,19 +264,28 @@ public class ValidationServiceTest {
                 .hasMessageContaining("active shift assignments");
     }
 
-}
-
-
-
-
-
-
-
-
-
-
-
+    @Test
+    void testShouldThrowExceptionWhenConciergeIsOnTimeOff() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(5);
+        when(availabilityIndex.isAvailable(1L, date)).thenReturn(false);
 
+        // When/Then
+        assertThatThrownBy(() -> validationService.validateConciergeAvailable(1L, date))
+                .isInstanceOf(ConciergeUnavailableException.class)
+                .hasMessageContaining("time off");
+        verifyNoInteractions(shiftRepository);
+    }
 
+    @Test
+    void testValidateConciergeAvailable() {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(5);
+        when(availabilityIndex.isAvailable(1L, date)).thenReturn(true);
 
+        // When/Then
+        assertThatCode(() -> validationService.validateConciergeAvailable(1L, date))
+                .doesNotThrowAnyException();
+    }
 
+}
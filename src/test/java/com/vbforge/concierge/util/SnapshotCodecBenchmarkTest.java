@@ -0,0 +1,86 @@
+package com.vbforge.concierge.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the legacy JSON snapshot with SnapshotCodec (size and encode/decode time)
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class SnapshotCodecBenchmarkTest {
+
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @ParameterizedTest
+    @ValueSource(ints = {31, 3653})
+    void compareJsonWithCompactCodec(int days) throws Exception {
+        List<ShiftAssignmentDto> shifts = buildShifts(days);
+
+        byte[] json = objectMapper.writeValueAsBytes(shifts);
+        byte[] compact = SnapshotCodec.encode(shifts);
+
+        long jsonEncode = time(() -> objectMapper.writeValueAsBytes(shifts));
+        long jsonDecode = time(() -> objectMapper.readValue(json, ShiftAssignmentDto[].class));
+        long compactEncode = time(() -> SnapshotCodec.encode(shifts));
+        long compactDecode = time(() -> SnapshotCodec.decode(compact));
+
+        System.out.printf("snapshot %4d days: json %8d B enc %6d us dec %6d us | compact %6d B enc %6d us dec %6d us%n",
+                days, json.length, jsonEncode / 1000, jsonDecode / 1000,
+                compact.length, compactEncode / 1000, compactDecode / 1000);
+
+        assertThat(compact.length).isLessThan(json.length / 10);
+        assertThat(SnapshotCodec.decode(compact)).hasSize(days);
+    }
+
+    private long time(ThrowingRunnable action) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private List<ShiftAssignmentDto> buildShifts(int days) {
+        String[] names = {"Alice", "Bob", "Carol", "Dave"};
+        String[] colors = {"BLUE", "GREEN", "RED", "YELLOW"};
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<ShiftAssignmentDto> shifts = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            int concierge = i % names.length;
+            shifts.add(TestDataBuilder.defaultShiftAssignmentDto()
+                    .id((long) i + 1)
+                    .shiftDate(start.plusDays(i))
+                    .conciergeId((long) concierge + 1)
+                    .conciergeName(names[concierge])
+                    .conciergeColor(colors[concierge])
+                    .notes(i % 30 == 0 ? "Holiday cover" : null)
+                    .createdAt(LocalDateTime.of(2020, 1, 1, 9, 0))
+                    .updatedAt(LocalDateTime.of(2020, 1, 1, 9, 0))
+                    .build());
+        }
+        return shifts;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.vbforge.concierge.util;
+
+import com.vbforge.concierge.dto.ShiftAssignmentDto;
+import com.vbforge.concierge.enums.ShiftType;
+import com.vbforge.concierge.exception.SnapshotException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotCodec
+ */
+class SnapshotCodecTest {
+
+    @Test
+    void shouldRoundTripMonthWithGapsAndNotes() {
+        List<ShiftAssignmentDto> shifts = new ArrayList<>();
+        for (int day = 1; day <= 30; day++) {
+            if (day % 7 == 0) {
+                continue;
+            }
+            shifts.add(TestDataBuilder.defaultShiftAssignmentDto()
+                    .shiftDate(LocalDate.of(2025, 11, day))
+                    .conciergeId((long) (day % 3) + 1)
+                    .conciergeName("Concierge " + (day % 3))
+                    .conciergeColor("BLUE")
+                    .notes(day == 5 ? "Swapped with Bob" : null)
+                    .build());
+        }
+
+        List<ShiftAssignmentDto> decoded = SnapshotCodec.decode(SnapshotCodec.encode(shifts));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(shifts);
+    }
+
+    @Test
+    void shouldRoundTripSeveralSlotsOfSameDay() {
+        LocalDate date = LocalDate.of(2025, 11, 3);
+        List<ShiftAssignmentDto> shifts = List.of(
+                TestDataBuilder.defaultShiftAssignmentDto().shiftDate(date).conciergeId(1L)
+                        .shiftType(ShiftType.MORNING).notes("Early delivery").build(),
+                TestDataBuilder.defaultShiftAssignmentDto().shiftDate(date).conciergeId(2L)
+                        .shiftType(ShiftType.NIGHT).build(),
+                TestDataBuilder.defaultShiftAssignmentDto().shiftDate(date.plusDays(1)).conciergeId(1L)
+                        .shiftType(ShiftType.FULL_DAY).build());
+
+        List<ShiftAssignmentDto> decoded = SnapshotCodec.decode(SnapshotCodec.encode(shifts));
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(shifts);
+    }
+
+    @Test
+    void shouldRoundTripEmptySnapshot() {
+        assertThat(SnapshotCodec.decode(SnapshotCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTwoShiftsInSameSlot() {
+        ShiftAssignmentDto shift = TestDataBuilder.defaultShiftAssignmentDto().build();
+
+        assertThatThrownBy(() -> SnapshotCodec.encode(List.of(shift, shift)))
+                .isInstanceOf(SnapshotException.class);
+    }
+
+    @Test
+    void shouldDecodeSlotsThroughStoredShiftTypeNames() throws IOException {
+        // Version 2 blob written with a different slot order: NIGHT, FULL_DAY
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeByte(2);
+        header.writeByte(2);
+        header.writeUTF("NIGHT");
+        header.writeUTF("FULL_DAY");
+        writeBody(bytes, LocalDate.of(2025, 11, 3), 1, 0, 1);
+
+        assertThat(SnapshotCodec.decode(bytes.toByteArray()))
+                .extracting(ShiftAssignmentDto::getShiftType)
+                .containsExactly(ShiftType.FULL_DAY);
+    }
+
+    @Test
+    void shouldRejectUnknownShiftTypeInSlotHeader() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeByte(2);
+        header.writeByte(1);
+        header.writeUTF("SPLIT_SHIFT");
+        writeBody(bytes, LocalDate.of(2025, 11, 3), 1, 1);
+
+        assertThatThrownBy(() -> SnapshotCodec.decode(bytes.toByteArray()))
+                .isInstanceOf(SnapshotException.class);
+    }
+
+    @Test
+    void shouldRejectUnknownFormatVersion() {
+        assertThatThrownBy(() -> SnapshotCodec.decode(new byte[]{99, 0}))
+                .isInstanceOf(SnapshotException.class)
+                .hasMessageContaining("version");
+    }
+
+    //helper method to write a deflated body with one concierge and the given slot codes
+    private static void writeBody(ByteArrayOutputStream bytes, LocalDate start, int dayCount, int... codes)
+            throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeLong(start.toEpochDay());
+            out.writeByte(dayCount);
+            out.writeByte(1);
+            out.writeLong(1L);
+            out.writeBoolean(false);
+            out.writeBoolean(false);
+            for (int code : codes) {
+                out.writeByte(code);
+            }
+            out.writeByte(0);
+        }
+    }
+
+}